@@ -1,5 +1,9 @@
 package com.company.opexhub.config;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -335,9 +339,8 @@ public class DataInitializer implements CommandLineRunner {
      * @param description Description of the user group for logging
      */
     private void saveUserArray(User[] users, String description) {
-        for (User user : users) {
-            userRepository.save(user);
-        }
+        // One transaction and one insert batch per group
+        userRepository.saveAll(Arrays.asList(users));
         System.out.println("Saved " + users.length + " " + description);
     }
 
@@ -362,6 +365,7 @@ public class DataInitializer implements CommandLineRunner {
      * @param site Site code (NDS, DHJ, etc.)
      */
     private void saveWfMasterData(String[][] wfMasterData, String site) {
+        List<WfMaster> wfMasters = new ArrayList<>();
         for (String[] data : wfMasterData) {
             WfMaster wfMaster = new WfMaster(
                 Integer.parseInt(data[0]), // stageNumber
@@ -370,8 +374,9 @@ public class DataInitializer implements CommandLineRunner {
                 site, // site
                 data[3]  // userEmail
             );
-            wfMasterRepository.save(wfMaster);
+            wfMasters.add(wfMaster);
         }
+        wfMasterRepository.saveAll(wfMasters);
         System.out.println("Saved " + wfMasterData.length + " WfMaster entries for site: " + site);
     }
 
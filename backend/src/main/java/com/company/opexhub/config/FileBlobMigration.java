@@ -0,0 +1,94 @@
+package com.company.opexhub.config;
+
+import com.company.opexhub.entity.FileBlob;
+import com.company.opexhub.entity.InitiativeFile;
+import com.company.opexhub.repository.InitiativeFileRepository;
+import com.company.opexhub.service.FileBlobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * One-off migration of attachments stored before content-addressed storage.
+ *
+ * Only active with the "blob-migration" profile. Every InitiativeFile without a blob is streamed
+ * into FileBlobService, which folds identical content into one blob, the row is repointed at the
+ * blob and the old per-initiative copy is deleted. Rows are migrated one at a time, so the run can
+ * be interrupted and restarted; files missing on disk are reported and left untouched.
+ *
+ * Usage: java -jar opexhub.jar --spring.profiles.active=blob-migration
+ */
+@Component
+@Profile("blob-migration")
+public class FileBlobMigration implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileBlobMigration.class);
+
+    @Autowired
+    private InitiativeFileRepository initiativeFileRepository;
+
+    @Autowired
+    private FileBlobService fileBlobService;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(String... args) {
+        List<InitiativeFile> legacyFiles = initiativeFileRepository.findByBlobIsNull();
+        logger.info("Migrating {} attachments to content-addressed storage", legacyFiles.size());
+
+        int migrated = 0;
+        int missing = 0;
+        int failed = 0;
+        long bytesFreed = 0;
+        for (InitiativeFile file : legacyFiles) {
+            Path legacyPath = Paths.get(file.getFilePath());
+            if (!Files.isRegularFile(legacyPath)) {
+                logger.warn("File {} ({}) not found on disk, skipped", file.getId(), legacyPath);
+                missing++;
+                continue;
+            }
+            try {
+                long size = Files.size(legacyPath);
+                FileBlob blob;
+                try (InputStream in = Files.newInputStream(legacyPath)) {
+                    blob = fileBlobService.store(in);
+                }
+                file.setBlob(blob);
+                file.setFilePath(blob.getStoragePath());
+                try {
+                    initiativeFileRepository.save(file);
+                } catch (RuntimeException e) {
+                    fileBlobService.release(blob.getId());
+                    throw e;
+                }
+                Files.delete(legacyPath);
+                // Only content that was already stored under another row is actually saved
+                if (blob.getRefCount() > 1) {
+                    bytesFreed += size;
+                }
+                migrated++;
+            } catch (Exception e) {
+                logger.error("Failed to migrate file {} ({}): {}", file.getId(), legacyPath, e.getMessage());
+                failed++;
+            }
+        }
+
+        logger.info("Attachment migration finished: {} migrated, {} missing, {} failed, {} MB of duplicates folded",
+                migrated, missing, failed, bytesFreed / (1024 * 1024));
+        int exitCode = failed == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+    }
+}
@@ -0,0 +1,43 @@
+package com.company.opexhub.config;
+
+import com.company.opexhub.entity.Initiative;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate post-load listener that notes the site of every initiative a request loads, so request
+ * metrics of endpoints addressed by initiative id (no site parameter) are still tagged by site.
+ * Registered on the session factory from here rather than with @EntityListeners, so the entity
+ * package does not depend on config.
+ */
+@Component
+public class InitiativeMetricsListener implements PostLoadEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    @Autowired
+    private transient EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        if (event.getEntity() instanceof Initiative) {
+            MetricsConfig.recordInitiativeSite(((Initiative) event.getEntity()).getSite());
+        }
+    }
+}
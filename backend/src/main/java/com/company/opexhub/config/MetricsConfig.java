@@ -0,0 +1,151 @@
+package com.company.opexhub.config;
+
+import com.company.opexhub.security.BoundedPasswordEncoder;
+import com.company.opexhub.security.LoginThrottle;
+import com.company.opexhub.service.LoggingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Micrometer setup. Controller timings come from Spring Boot's http.server.requests and repository
+ * timings from spring.data.repository.invocations; this adds the site tag to request metrics.
+ * The site is the request's site parameter, else the site of the initiative(s) the request loaded
+ * (InitiativeMetricsListener), else the signed-in user's site (JwtAuthenticationFilter).
+ * Mail and report generation are timed by MailService and ReportMetricsAspect; password hashing,
+ * login throttling and the file logger expose their own counters, bound here.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Site codes are short alphanumerics (NDS, HSD1, ...); anything else is folded into "other"
+    private static final Pattern SITE_CODE = Pattern.compile("[A-Za-z0-9]{1,10}");
+
+    private static final String INITIATIVE_SITE_ATTRIBUTE = MetricsConfig.class.getName() + ".initiativeSite";
+    private static final String USER_SITE_ATTRIBUTE = MetricsConfig.class.getName() + ".userSite";
+    // Recorded when a request loads initiatives of more than one site
+    private static final String MIXED_SITES = "";
+
+    /**
+     * Tag value for a site parameter, kept to a small set so free text cannot explode the series count
+     */
+    public static String siteTag(String site) {
+        if (site == null || site.isEmpty()) {
+            return "none";
+        }
+        return SITE_CODE.matcher(site).matches() ? site.toUpperCase(Locale.ROOT) : "other";
+    }
+
+    /**
+     * Note the site of an initiative loaded while handling the current request (no-op outside requests)
+     */
+    public static void recordInitiativeSite(String site) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || site == null) {
+            return;
+        }
+        Object recorded = attributes.getAttribute(INITIATIVE_SITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (recorded == null) {
+            attributes.setAttribute(INITIATIVE_SITE_ATTRIBUTE, site, RequestAttributes.SCOPE_REQUEST);
+        } else if (!recorded.equals(site)) {
+            attributes.setAttribute(INITIATIVE_SITE_ATTRIBUTE, MIXED_SITES, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public static void recordUserSite(HttpServletRequest request, String site) {
+        if (site != null) {
+            request.setAttribute(USER_SITE_ATTRIBUTE, site);
+        }
+    }
+
+    /**
+     * Site a request is about: its site parameter, else the one site of the initiatives it loaded,
+     * else the signed-in user's site
+     */
+    public static String resolveSite(HttpServletRequest request) {
+        String site = request.getParameter("site");
+        if (site != null && !site.isEmpty()) {
+            return site;
+        }
+        Object initiativeSite = request.getAttribute(INITIATIVE_SITE_ATTRIBUTE);
+        if (initiativeSite != null && !MIXED_SITES.equals(initiativeSite)) {
+            return (String) initiativeSite;
+        }
+        return (String) request.getAttribute(USER_SITE_ATTRIBUTE);
+    }
+
+    /**
+     * resolveSite for the request handled by the current thread, null outside requests
+     */
+    public static String currentRequestSite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes
+                ? resolveSite(((ServletRequestAttributes) attributes).getRequest()) : null;
+    }
+
+    @Bean
+    public WebMvcTagsContributor siteTagsContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response,
+                                         Object handler, Throwable exception) {
+                return Tags.of("site", siteTag(resolveSite(request)));
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.empty();
+            }
+        };
+    }
+
+    // The encoder is lazy: SecurityConfig creates it while the web metrics (and so this binder) are still being built
+    @Bean
+    public MeterBinder authMetrics(@Lazy BoundedPasswordEncoder passwordEncoder, LoginThrottle loginThrottle) {
+        return registry -> {
+            FunctionTimer.builder("opex.password.hash", passwordEncoder,
+                            BoundedPasswordEncoder::getHashCount,
+                            BoundedPasswordEncoder::getTotalHashNanos, TimeUnit.NANOSECONDS)
+                    .description("Password hashes computed on the bounded hashing pool")
+                    .register(registry);
+            Gauge.builder("opex.password.hash.max", passwordEncoder, e -> e.getMaxHashNanos() / 1_000_000_000.0)
+                    .description("Slowest password hash since startup")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("opex.password.hash.queued", passwordEncoder, BoundedPasswordEncoder::getQueueSize)
+                    .register(registry);
+            FunctionCounter.builder("opex.password.hash.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedCount)
+                    .description("Attempts rejected because the hashing queue was full or timed out")
+                    .register(registry);
+            FunctionCounter.builder("opex.login.throttled", loginThrottle, LoginThrottle::getAccountRejections)
+                    .tag("scope", "account")
+                    .register(registry);
+            FunctionCounter.builder("opex.login.throttled", loginThrottle, LoginThrottle::getIpRejections)
+                    .tag("scope", "ip")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder fileLogMetrics(LoggingService loggingService) {
+        return registry -> FunctionCounter.builder("opex.log.dropped", loggingService, LoggingService::getDroppedCount)
+                .description("Application log lines dropped because the log buffer was full")
+                .register(registry);
+    }
+}
@@ -0,0 +1,165 @@
+package com.company.opexhub.config;
+
+import com.company.opexhub.util.RequestQueryStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements and JDBC time of every HTTP request.
+ *
+ * Adds X-Query-Count and Server-Timing headers (set just before the body starts, so statements run
+ * while the body is serialized - lazy loads through open-in-view - are not in them), records the
+ * final count as opex.http.db.statements per endpoint and in the STATEMENT_COUNT_ATTRIBUTE request
+ * attribute, and logs a warning naming the endpoint when a request exceeds the configured statement
+ * threshold, together with its most repeated statement - usually an N+1 loop.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    // Integer statement count of the whole request, including the body; set once the chain has returned
+    public static final String STATEMENT_COUNT_ATTRIBUTE = QueryCountFilter.class.getName() + ".STATEMENT_COUNT";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${monitoring.query-count.enabled:true}")
+    private boolean enabled;
+
+    @Value("${monitoring.query-count.warn-threshold:30}")
+    private int warnThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        QueryHeaderResponse wrappedResponse = new QueryHeaderResponse(response, stats);
+        try {
+            filterChain.doFilter(request, wrappedResponse);
+        } finally {
+            RequestQueryStats.end();
+            // Empty bodies never touch the output stream, so set the headers here when still possible
+            wrappedResponse.applyHeaders();
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, stats.getStatementCount());
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        int statements = stats.getStatementCount();
+        if (statements == 0) {
+            return;
+        }
+        String endpoint = endpoint(request);
+
+        DistributionSummary.builder("opex.http.db.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > warnThreshold) {
+            Map.Entry<String, Integer> repeated = stats.getMostRepeatedStatement();
+            logger.warn("High query count: {} {} ran {} SQL statements ({} ms in DB); most repeated ({}x): {}",
+                    request.getMethod(), endpoint, statements, String.format(Locale.ROOT, "%.1f", stats.getDbMillis()),
+                    repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    // Mapped pattern (e.g. /api/initiatives/{id}) so metrics and warnings group by endpoint, not by id
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMAPPED";
+    }
+
+    /**
+     * Sets the query headers once, right before the response body starts (after that they would be ignored)
+     */
+    private static class QueryHeaderResponse extends HttpServletResponseWrapper {
+
+        private final RequestQueryStats stats;
+        private boolean headersApplied;
+
+        QueryHeaderResponse(HttpServletResponse response, RequestQueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void applyHeaders() {
+            if (headersApplied || isCommitted()) {
+                return;
+            }
+            headersApplied = true;
+            setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            setHeader(SERVER_TIMING_HEADER, String.format(Locale.ROOT, "db;desc=\"%d queries\";dur=%.1f",
+                    stats.getStatementCount(), stats.getDbMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            applyHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            applyHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            applyHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
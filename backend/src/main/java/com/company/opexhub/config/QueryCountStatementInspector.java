@@ -0,0 +1,19 @@
+package com.company.opexhub.config;
+
+import com.company.opexhub.util.RequestQueryStats;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares for the current request.
+ * Registered through hibernate.session_factory.statement_inspector; the SQL is passed through unchanged.
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.recordStatement(sql);
+        return sql;
+    }
+}
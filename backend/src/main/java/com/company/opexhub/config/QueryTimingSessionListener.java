@@ -0,0 +1,36 @@
+package com.company.opexhub.config;
+
+import com.company.opexhub.util.RequestQueryStats;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the JDBC execution time of each statement and batch to the current request's totals.
+ * Hibernate creates one instance per session (hibernate.session.events.auto).
+ */
+public class QueryTimingSessionListener extends BaseSessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats.recordExecution(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryStats.recordExecution(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.opexhub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times report generation (opex.report.generation) tagged by report, site and outcome.
+ * The report tag is the service method name, e.g. generateDetailedExcelReport.
+ */
+@Aspect
+@Component
+public class ReportMetricsAspect {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.company.opexhub.service.ReportsService.*(..)) || " +
+            "execution(public * com.company.opexhub.service.SavingsForecastService.*(..))")
+    public Object timeReport(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = "error";
+            throw t;
+        } finally {
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            sample.stop(Timer.builder("opex.report.generation")
+                    .description("Time taken to build a report")
+                    .tag("report", signature.getName())
+                    .tag("site", MetricsConfig.siteTag(site(signature, joinPoint.getArgs())))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // The report's site argument, else the site of the request that asked for it
+    private static String site(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if ("site".equals(names[i]) && args[i] instanceof String) {
+                    return (String) args[i];
+                }
+            }
+        }
+        return MetricsConfig.currentRequestSite();
+    }
+}
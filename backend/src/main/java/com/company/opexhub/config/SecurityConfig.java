@@ -1,11 +1,16 @@
 package com.company.opexhub.config;
 
+import com.company.opexhub.security.BoundedPasswordEncoder;
 import com.company.opexhub.security.JwtAuthenticationEntryPoint;
 import com.company.opexhub.security.JwtAuthenticationFilter;
 import com.company.opexhub.service.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.BeanIds;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -33,6 +38,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     private JwtAuthenticationEntryPoint unauthorizedHandler;
 
+    @Value("${security.password-hash.threads:2}")
+    private int passwordHashThreads;
+
+    @Value("${security.password-hash.queue-capacity:50}")
+    private int passwordHashQueueCapacity;
+
+    @Value("${security.password-hash.timeout-ms:10000}")
+    private long passwordHashTimeoutMs;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
@@ -51,9 +65,11 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         return super.authenticationManagerBean();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt runs on its own bounded pool so login bursts cannot take every request thread's CPU
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(),
+                passwordHashThreads, passwordHashQueueCapacity, passwordHashTimeoutMs);
     }
 
     @Override
@@ -89,4 +105,42 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
     }
+
+    /**
+     * Actuator endpoints, served on the application connector (the WAR runs on an external Tomcat, so
+     * there is no separate management port). Health stays open for the load balancer; the Prometheus
+     * scrape needs HTTP Basic with the management.scrape account.
+     */
+    @Configuration
+    @Order(1)
+    public static class ActuatorSecurityConfig extends WebSecurityConfigurerAdapter {
+
+        @Value("${management.scrape.username:prometheus}")
+        private String scrapeUsername;
+
+        // BCrypt hash of the scrape password; while blank no scrape request is accepted
+        @Value("${management.scrape.password-hash:}")
+        private String scrapePasswordHash;
+
+        @Override
+        protected void configure(AuthenticationManagerBuilder auth) throws Exception {
+            auth.inMemoryAuthentication()
+                    .passwordEncoder(new BCryptPasswordEncoder())
+                    .withUser(scrapeUsername).password(scrapePasswordHash).roles("METRICS");
+        }
+
+        @Override
+        protected void configure(HttpSecurity http) throws Exception {
+            http.requestMatcher(EndpointRequest.toAnyEndpoint())
+                    .csrf().disable()
+                    .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
+                    .authorizeRequests()
+                    .requestMatchers(EndpointRequest.to(HealthEndpoint.class))
+                    .permitAll()
+                    .anyRequest()
+                    .hasRole("METRICS")
+                    .and()
+                    .httpBasic();
+        }
+    }
 }
\ No newline at end of file
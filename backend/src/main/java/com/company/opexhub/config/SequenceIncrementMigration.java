@@ -0,0 +1,91 @@
+package com.company.opexhub.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Steps existing Oracle id sequences by the entities' allocationSize before Hibernate starts.
+ *
+ * Entity ids use Hibernate's pooled optimizer: one nextval covers 50 ids, so inserts do not each
+ * wait for a sequence round trip and can go out as JDBC batches. Hibernate requires the database
+ * sequence to increment by the same 50; sequences created by ddl-auto since then already do, older
+ * ones (INCREMENT BY 1) are altered here. Raising the increment cannot reissue an id - the next
+ * value is the last one plus 50 and the optimizer hands out the 50 ids up to it. Every node must run
+ * with the same allocation size, so nodes on the old build have to be stopped first.
+ * OPEX_CHANGE_LOG_SEQ stays at 1: the change feed reads by id, so a node holding an older block would
+ * insert ids below what a reader has already seen. OPEX_TOKEN_REVOCATIONS_SEQ stays at 1 as well;
+ * revocations are written one at a time and rarely, so pooling would save nothing.
+ * The EntityManagerFactory depends on this bean; other databases (H2 for loadsim) are left alone.
+ */
+@Component
+public class SequenceIncrementMigration implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceIncrementMigration.class);
+
+    // allocationSize of the @SequenceGenerator of each sequence below
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final List<String> ID_SEQUENCES = Arrays.asList(
+        "OPEX_REMARKS_SEQ", "OPEX_EMAIL_ACTION_TOKENS_SEQ", "OPEX_FILE_BLOBS_SEQ",
+        "OPEX_INITIATIVE_SEQ", "OPEX_INITIATIVE_FILE_SEQ", "OPEX_INITIATIVE_MOM_SEQ", "OPEX_INIT_NUMBER_COUNTERS_SEQ",
+        "OPEX_MONTHLY_MON_SEQ", "OPEX_TIMELINE_ENT_SEQ", "OPEX_TIMELINE_TASK_SEQ",
+        "OPEX_UPLOAD_SESSIONS_SEQ", "OPEX_USER_SEQ", "OPEX_WF_MASTER_SEQ", "OPEX_WF_STAGE_SEQ", "OPEX_WF_TRANS_SEQ");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (product == null || !product.toLowerCase(Locale.ROOT).contains("oracle")) {
+                return;
+            }
+
+            Map<String, Long> increments = new HashMap<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet sequences = statement.executeQuery(
+                     "SELECT sequence_name, increment_by FROM user_sequences WHERE sequence_name LIKE 'OPEX%'")) {
+                while (sequences.next()) {
+                    increments.put(sequences.getString(1), sequences.getLong(2));
+                }
+            }
+
+            for (String sequence : ID_SEQUENCES) {
+                Long increment = increments.get(sequence);
+                // Missing sequences are created by ddl-auto with the right increment
+                if (increment != null && increment != ID_ALLOCATION_SIZE) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + ID_ALLOCATION_SIZE);
+                    }
+                    logger.info("Sequence {} now increments by {} (was {})", sequence, ID_ALLOCATION_SIZE, increment);
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds back the EntityManagerFactory (and Hibernate's sequence check) until the sequences are altered
+     */
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependency() {
+            super(SequenceIncrementMigration.class);
+        }
+    }
+}
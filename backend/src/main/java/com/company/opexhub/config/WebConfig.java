@@ -1,8 +1,11 @@
 package com.company.opexhub.config;
 
+import org.apache.catalina.filters.RemoteIpFilter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -18,6 +21,26 @@ public class WebConfig {
     @Value("${cors.allowed-headers}")
     private String allowedHeaders;
 
+    // Regex of the load balancer / reverse proxy addresses whose X-Forwarded-* headers are believed
+    @Value("${security.trusted-proxies}")
+    private String trustedProxies;
+
+    /**
+     * Replaces the remote address and scheme with X-Forwarded-For / X-Forwarded-Proto when the request
+     * comes from a trusted proxy, so getRemoteAddr() (login throttle, logs) is the real client.
+     * A filter rather than server.forward-headers-strategy, which only configures the embedded
+     * Tomcat and does nothing for the WAR deployed on an external one.
+     */
+    @Bean
+    public FilterRegistrationBean<RemoteIpFilter> remoteIpFilter() {
+        FilterRegistrationBean<RemoteIpFilter> registration = new FilterRegistrationBean<>(new RemoteIpFilter());
+        registration.addInitParameter("internalProxies", trustedProxies);
+        registration.addInitParameter("remoteIpHeader", "X-Forwarded-For");
+        registration.addInitParameter("protocolHeader", "X-Forwarded-Proto");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
     @Bean
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
@@ -33,6 +56,7 @@ public class WebConfig {
                         )
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(QueryCountFilter.QUERY_COUNT_HEADER, QueryCountFilter.SERVER_TIMING_HEADER)
                         .allowCredentials(false);
             }
         };
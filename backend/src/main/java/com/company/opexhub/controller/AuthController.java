@@ -2,13 +2,20 @@ package com.company.opexhub.controller;
 
 import com.company.opexhub.dto.*;
 import com.company.opexhub.entity.User;
+import com.company.opexhub.security.AuthThrottledException;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.security.LoginThrottle;
 import com.company.opexhub.service.AuthService;
 import com.company.opexhub.service.EmailVerificationService;
 import com.company.opexhub.service.TokenInvalidationService;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.Map;
 
@@ -25,9 +32,18 @@ public class AuthController {
     @Autowired
     TokenInvalidationService tokenInvalidationService;
 
+    @Autowired
+    LoginThrottle loginThrottle;
+
+    @Autowired
+    JwtTokenProvider tokenProvider;
+
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
         try {
+            // Refuse excess attempts before any password hashing
+            loginThrottle.acquire(loginRequest.getEmail(), request.getRemoteAddr());
+
             JwtResponse jwtResponse = authService.authenticateUser(loginRequest);
             
             // Create response with token and user data structured for frontend
@@ -47,6 +63,9 @@ public class AuthController {
             responseData.put("user", userData);
             
             return ResponseEntity.ok(new ApiResponse(true, "Login successful", responseData));
+        } catch (AuthThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, "Invalid credentials!"));
@@ -68,7 +87,7 @@ public class AuthController {
      * Send email verification code for new registration
      */
     @PostMapping("/send-verification-code")
-    public ResponseEntity<?> sendVerificationCode(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> sendVerificationCode(@RequestBody Map<String, String> request, HttpServletRequest httpRequest) {
         try {
             String email = request.get("email");
             String fullName = request.get("fullName");
@@ -91,6 +110,8 @@ public class AuthController {
                         .body(new ApiResponse(false, "Only @godeepak.com email addresses are allowed for registration"));
             }
 
+            loginThrottle.acquire(email, httpRequest.getRemoteAddr());
+
             boolean sent = emailVerificationService.sendVerificationCode(email, fullName, site, discipline, role, roleName, password);
             
             if (sent) {
@@ -99,6 +120,9 @@ public class AuthController {
                 return ResponseEntity.badRequest()
                         .body(new ApiResponse(false, "Failed to send verification code. User may already exist."));
             }
+        } catch (AuthThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, "Error sending verification code"));
@@ -109,7 +133,7 @@ public class AuthController {
      * Verify email verification code and complete registration
      */
     @PostMapping("/verify-email")
-    public ResponseEntity<?> verifyEmail(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> verifyEmail(@RequestBody Map<String, String> request, HttpServletRequest httpRequest) {
         try {
             String email = request.get("email");
             String code = request.get("code");
@@ -125,6 +149,9 @@ public class AuthController {
                         .body(new ApiResponse(false, "Invalid email domain"));
             }
 
+            // Six-digit codes are guessable, so verification attempts share the login buckets
+            loginThrottle.acquire(email, httpRequest.getRemoteAddr());
+
             User newUser = emailVerificationService.completeRegistration(email, code);
             
             if (newUser != null) {
@@ -133,6 +160,9 @@ public class AuthController {
                 return ResponseEntity.badRequest()
                         .body(new ApiResponse(false, "Invalid or expired verification code"));
             }
+        } catch (AuthThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ApiResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse(false, "Error verifying email"));
@@ -172,6 +202,33 @@ public class AuthController {
         }
     }
 
+    /**
+     * Logout endpoint - revokes the caller's token (its jti, until the token would have expired)
+     * so it is rejected on every node, not just dropped by the client
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        Claims claims = StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")
+                ? tokenProvider.getVerifiedClaims(bearerToken.substring(7))
+                : null;
+        if (claims == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse(false, "No valid token to log out"));
+        }
+        if (claims.getId() == null) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "This token cannot be revoked individually"));
+        }
+        try {
+            tokenInvalidationService.revokeToken(claims.getId(), claims.getExpiration());
+            return ResponseEntity.ok(new ApiResponse(true, "Logged out successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse(false, "Error during logout"));
+        }
+    }
+
     /**
      * Mass logout endpoint - Logs out all users regardless of role
      * Only accessible by ADMIN role (hasRole=ADMIN)
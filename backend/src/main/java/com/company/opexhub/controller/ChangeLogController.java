@@ -0,0 +1,33 @@
+package com.company.opexhub.controller;
+
+import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.ChangeFeedDTO;
+import com.company.opexhub.service.ChangeLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeLogController {
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    /**
+     * Get changes to monitoring entries, initiatives and workflow transactions after a cursor.
+     * Pass the returned nextCursor as since to read the following page.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ChangeFeedDTO>> getChanges(
+            @RequestParam(defaultValue = "0") Long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        try {
+            ChangeFeedDTO feed = changeLogService.getChangesSince(since, limit);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Changes retrieved successfully", feed));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "Error retrieving changes: " + e.getMessage(), null));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.company.opexhub.controller;
+
+import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.ChunkedUploadInitRequest;
+import com.company.opexhub.dto.ChunkedUploadStatusDTO;
+import com.company.opexhub.entity.InitiativeFile;
+import com.company.opexhub.security.UserPrincipal;
+import com.company.opexhub.service.ChunkedUploadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+
+/**
+ * Resumable upload protocol for large attachments:
+ * POST /api/files/uploads (init) - PUT .../{uploadId}/chunks/{index} with the raw chunk body and its
+ * SHA-256 in X-Chunk-Checksum (chunks may be sent in parallel) - POST .../{uploadId}/complete.
+ * GET .../{uploadId} lists the chunks already received so an interrupted upload can resume.
+ */
+@RestController
+@RequestMapping("/api/files/uploads")
+public class ChunkedUploadController {
+
+    public static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-Checksum";
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse> startUpload(@Valid @RequestBody ChunkedUploadInitRequest request,
+                                                   @AuthenticationPrincipal UserPrincipal currentUser) {
+        try {
+            ChunkedUploadStatusDTO status = chunkedUploadService.startUpload(request, currentUser.getId());
+            return ResponseEntity.ok(new ApiResponse(true, "Upload started", status));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse> getStatus(@PathVariable String uploadId,
+                                                 @AuthenticationPrincipal UserPrincipal currentUser) {
+        try {
+            ChunkedUploadStatusDTO status = chunkedUploadService.getStatus(uploadId, currentUser.getId());
+            return ResponseEntity.ok(new ApiResponse(true, "Upload status retrieved", status));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{uploadId}/chunks/{index}")
+    public ResponseEntity<ApiResponse> uploadChunk(@PathVariable String uploadId,
+                                                   @PathVariable int index,
+                                                   @RequestHeader(value = CHUNK_CHECKSUM_HEADER, required = false) String checksum,
+                                                   HttpServletRequest request,
+                                                   @AuthenticationPrincipal UserPrincipal currentUser) {
+        try {
+            // Read straight from the request stream; the chunk is never buffered whole
+            chunkedUploadService.receiveChunk(uploadId, index, checksum, request.getInputStream(), currentUser.getId());
+            return ResponseEntity.ok(new ApiResponse(true, "Chunk " + index + " received"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<ApiResponse> completeUpload(@PathVariable String uploadId,
+                                                      @AuthenticationPrincipal UserPrincipal currentUser) {
+        try {
+            InitiativeFile file = chunkedUploadService.completeUpload(uploadId, currentUser.getId());
+            return ResponseEntity.ok(new ApiResponse(true, "File uploaded successfully", file));
+        } catch (Exception e) {
+            System.err.println("Chunked upload completion failed: " + e.getMessage());
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse> cancelUpload(@PathVariable String uploadId,
+                                                    @AuthenticationPrincipal UserPrincipal currentUser) {
+        try {
+            chunkedUploadService.cancelUpload(uploadId, currentUser.getId());
+            return ResponseEntity.ok(new ApiResponse(true, "Upload cancelled"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+}
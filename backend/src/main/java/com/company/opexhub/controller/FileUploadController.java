@@ -4,17 +4,22 @@ import com.company.opexhub.dto.ApiResponse;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.entity.InitiativeFile;
 import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.service.AttachmentArchiveService;
 import com.company.opexhub.service.FileUploadService;
+import com.company.opexhub.service.ThumbnailService;
+import com.company.opexhub.util.FileRangeSender;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.net.URLEncoder;
 import java.util.List;
 
@@ -29,6 +34,12 @@ public class FileUploadController {
     @Autowired
     private InitiativeRepository initiativeRepository;
 
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private AttachmentArchiveService attachmentArchiveService;
+
     @PostMapping("/upload/{initiativeId}")
     public ResponseEntity<ApiResponse> uploadFiles(
             @PathVariable Long initiativeId,
@@ -74,13 +85,13 @@ public class FileUploadController {
     }
 
     @GetMapping("/download/{fileId}")
-    public ResponseEntity<byte[]> downloadFile(@PathVariable Long fileId) {
+    public void downloadFile(@PathVariable Long fileId, HttpServletRequest request, HttpServletResponse response) {
         try {
             // Get file record directly by ID
             InitiativeFile fileRecord = fileUploadService.getFileById(fileId);
             
-            // Get file bytes from disk
-            byte[] fileBytes = fileUploadService.downloadFile(fileId);
+            // Streamed from disk - never loaded into memory
+            FileSystemResource resource = fileUploadService.getFileResource(fileRecord);
             
             // Sanitize filename for download - replace spaces and special characters
             String sanitizedFileName = fileRecord.getFileName()
@@ -88,39 +99,116 @@ public class FileUploadController {
                 .replaceAll("\\s+", "_")             // Replace spaces with underscores
                 .replaceAll("_{2,}", "_");           // Replace multiple underscores with single
             
-            // Set proper headers for download
-            HttpHeaders headers = new HttpHeaders();
-            
             // Set content type
             String contentType = fileRecord.getFileType();
             if (contentType == null || contentType.isEmpty()) {
                 contentType = "application/octet-stream";
             }
-            headers.setContentType(MediaType.parseMediaType(contentType));
+            response.setContentType(contentType);
             
             // Set content disposition with both the original and sanitized filename
-            headers.add("Content-Disposition", 
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, 
                 String.format("attachment; filename=\"%s\"; filename*=UTF-8''%s", 
                     sanitizedFileName, 
-                    java.net.URLEncoder.encode(sanitizedFileName, "UTF-8")));
+                    URLEncoder.encode(sanitizedFileName, "UTF-8")));
             
-            headers.setContentLength(fileBytes.length);
+            // Private and revalidated on every use, so a cached copy is only reused after a 304
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
             
-            // Add cache control headers
-            headers.add("Cache-Control", "no-cache, no-store, must-revalidate");
-            headers.add("Pragma", "no-cache");
-            headers.add("Expires", "0");
-            
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(fileBytes);
+            // Handles If-None-Match (304) and Range (206) for resumed downloads
+            FileRangeSender.send(request, response, resource, FileRangeSender.etag(fileRecord.getId(), resource));
                 
         } catch (RuntimeException e) {
             System.err.println("File download error: " + e.getMessage());
-            return ResponseEntity.notFound().build();
+            resetForError(response, HttpStatus.NOT_FOUND);
         } catch (Exception e) {
             System.err.println("Unexpected error during file download: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            resetForError(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/thumbnail/{fileId}")
+    public void getThumbnail(@PathVariable Long fileId, HttpServletRequest request, HttpServletResponse response) {
+        try {
+            InitiativeFile fileRecord = fileUploadService.getFileById(fileId);
+            
+            String status = thumbnailService.getStatus(fileRecord);
+            if (ThumbnailService.STATUS_UNSUPPORTED.equals(status)) {
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+                return;
+            }
+            if (ThumbnailService.STATUS_FAILED.equals(status)) {
+                // Not decodable as its declared type; retrying will not help
+                response.setStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+                return;
+            }
+            if (ThumbnailService.STATUS_PENDING.equals(status)) {
+                // Still being generated - ask the client to come back shortly
+                response.setStatus(HttpStatus.ACCEPTED.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "2");
+                return;
+            }
+            
+            FileSystemResource thumbnail = new FileSystemResource(thumbnailService.getThumbnailPath(fileRecord));
+            response.setContentType("image/jpeg");
+            // A file's content never changes, so neither does its preview
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+            FileRangeSender.send(request, response, thumbnail, FileRangeSender.etag(fileRecord.getId(), thumbnail));
+            
+        } catch (RuntimeException e) {
+            System.err.println("Thumbnail error: " + e.getMessage());
+            resetForError(response, HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            System.err.println("Unexpected error serving thumbnail: " + e.getMessage());
+            resetForError(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/zip/initiative/{initiativeId}")
+    public ResponseEntity<StreamingResponseBody> downloadInitiativeZip(@PathVariable Long initiativeId) {
+        Initiative initiative = initiativeRepository.findById(initiativeId).orElse(null);
+        if (initiative == null) {
+            return ResponseEntity.notFound().build();
+        }
+        List<InitiativeFile> files = attachmentArchiveService.getInitiativeFiles(initiativeId);
+        String number = initiative.getInitiativeNumber();
+        String baseName = number != null && !number.isEmpty() ? number : "initiative_" + initiativeId;
+        return zipResponse(baseName + "_attachments.zip", files, false);
+    }
+
+    @GetMapping("/zip")
+    public ResponseEntity<StreamingResponseBody> downloadSiteZip(
+            @RequestParam String site,
+            @RequestParam String financialYear) {
+        List<InitiativeFile> files;
+        try {
+            files = attachmentArchiveService.getSiteFiles(site, financialYear);
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return zipResponse(site + "_FY" + financialYear + "_attachments.zip", files, true);
+    }
+
+    // The archive is written while it is sent; no Content-Length, heap use stays constant
+    private ResponseEntity<StreamingResponseBody> zipResponse(String fileName, List<InitiativeFile> files,
+                                                              boolean perInitiativeFolders) {
+        String sanitizedFileName = fileName
+            .replaceAll("[<>:\"/\\\\|?*]", "_")
+            .replaceAll("\\s+", "_")
+            .replaceAll("_{2,}", "_");
+        StreamingResponseBody body = out -> attachmentArchiveService.writeZip(files, perInitiativeFolders, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/zip"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + sanitizedFileName + "\"")
+            .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
+            .body(body);
+    }
+
+    private void resetForError(HttpServletResponse response, HttpStatus status) {
+        // Once the body has started (e.g. the client dropped mid-transfer) the status can no longer change
+        if (!response.isCommitted()) {
+            response.reset();
+            response.setStatus(status.value());
         }
     }
 
@@ -1,5 +1,12 @@
 package com.company.opexhub.controller;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import javax.validation.Valid;
@@ -7,7 +14,9 @@ import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,15 +27,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.CursorPage;
+import com.company.opexhub.dto.InitiativeFilter;
 import com.company.opexhub.dto.InitiativeRequest;
 import com.company.opexhub.dto.InitiativeResponse;
+import com.company.opexhub.dto.InitiativeRowError;
+import com.company.opexhub.dto.InitiativeSummaryDTO;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.entity.WorkflowTransaction;
 import com.company.opexhub.security.UserPrincipal;
+import com.company.opexhub.service.BulkInitiativeException;
 import com.company.opexhub.service.InitiativeService;
 import com.company.opexhub.service.WorkflowTransactionService;
+import com.company.opexhub.util.FieldSelection;
+import com.company.opexhub.util.InitiativeSheetReader;
 
 @RestController
 @RequestMapping("/api/initiatives")
@@ -38,22 +55,71 @@ public class InitiativeController {
     @Autowired
     private WorkflowTransactionService workflowTransactionService;
 
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+
+    private static final int MAX_BULK_ROWS = 500;
+
+    private static final FieldSelection BULK_RESPONSE_FIELDS =
+            FieldSelection.parse("initiativeNumber,title,site,discipline,status");
+
+    /**
+     * List rows only; description, assumptions and baseline data are served by GET /{id}.
+     * fields=id,title,... limits both the columns read and the properties returned.
+     */
     @GetMapping
-    public Page<InitiativeResponse> getAllInitiatives(
+    public MappingJacksonValue getAllInitiatives(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String site,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String financialYear,
+            @RequestParam(required = false) String fields,
             Pageable pageable) {
         
-        Page<Initiative> initiatives = initiativeService.searchInitiatives(status, site, search, financialYear, pageable);
-        return initiatives.map(this::convertToResponse);
+        FieldSelection selection = FieldSelection.parse(fields);
+        Page<InitiativeSummaryDTO> initiatives = initiativeService.searchInitiativeSummaries(
+                status, site, search, financialYear, pageable, selection);
+        return selection.apply(initiatives);
+    }
+
+    /**
+     * Filter by any combination of status, site, discipline, budgetType, stage, financialYear and search,
+     * newest first. Pass the returned nextCursor as cursor to read the following page.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterInitiatives(
+            InitiativeFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        try {
+            FieldSelection selection = FieldSelection.parse(fields);
+            int pageSize = Math.max(1, Math.min(size, MAX_FILTER_PAGE_SIZE));
+            CursorPage<Initiative> page = initiativeService.filterInitiatives(filter, cursor, pageSize);
+            return ResponseEntity.ok(selection.apply(page.map(initiative -> convertToResponse(initiative, selection))));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
+    @GetMapping("/search/facets")
+    public ResponseEntity<ApiResponse> getSearchFacets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String site,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String financialYear) {
+        Map<String, Map<String, Integer>> facets = initiativeService.getSearchFacets(status, site, search, financialYear);
+        if (facets == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiResponse(false, "Search index is still being built"));
+        }
+        return ResponseEntity.ok(new ApiResponse(true, "Search facets retrieved successfully", facets));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<InitiativeResponse> getInitiativeById(@PathVariable Long id) {
+    public ResponseEntity<MappingJacksonValue> getInitiativeById(@PathVariable Long id,
+                                                                 @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields);
         return initiativeService.getInitiativeById(id)
-                .map(initiative -> ResponseEntity.ok(convertToResponse(initiative)))
+                .map(initiative -> ResponseEntity.ok(selection.apply(convertToResponse(initiative, selection))))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -90,6 +156,77 @@ public class InitiativeController {
         }
     }
 
+    /**
+     * Create up to MAX_BULK_ROWS initiatives in one go; all or nothing. Rows are numbered by list
+     * position (from 1) in the returned errors. Each selected HOD gets one digest mail.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createInitiatives(@RequestBody List<InitiativeRequest> requests,
+                                               @AuthenticationPrincipal UserPrincipal currentUser) {
+        if (requests == null || requests.isEmpty()) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, "No initiatives provided"));
+        }
+        if (requests.size() > MAX_BULK_ROWS) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, "At most " + MAX_BULK_ROWS + " initiatives per request"));
+        }
+        Map<Integer, InitiativeRequest> rows = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            rows.put(i + 1, requests.get(i));
+        }
+        return createInitiatives(rows, Collections.emptyList(), currentUser);
+    }
+
+    /**
+     * Same as /bulk from the first sheet of an XLSX workbook: a header row (Title, Description, Priority,
+     * Expected Savings, Site, Discipline, Start Date, End Date, Requires MOC, Requires CAPEX, Assumption 1-3,
+     * Baseline Data, Target Outcome, Target Value, Confidence Level, Estimated CAPEX, Budget Type,
+     * Initiator Name, HOD Email) and one initiative per row. Errors carry spreadsheet row numbers.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importInitiatives(@RequestParam("file") MultipartFile file,
+                                               @AuthenticationPrincipal UserPrincipal currentUser) {
+        InitiativeSheetReader.Result sheet;
+        Path workbook = null;
+        try {
+            workbook = Files.createTempFile("initiative-import", ".xlsx");
+            file.transferTo(workbook.toFile());
+            sheet = InitiativeSheetReader.read(workbook.toFile(), MAX_BULK_ROWS);
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        } finally {
+            deleteQuietly(workbook);
+        }
+        return createInitiatives(sheet.getRows(), sheet.getErrors(), currentUser);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Could not delete import workbook " + file + ": " + e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> createInitiatives(Map<Integer, InitiativeRequest> rows, List<InitiativeRowError> rowErrors,
+                                                UserPrincipal currentUser) {
+        try {
+            List<Initiative> initiatives = initiativeService.createInitiatives(rows, rowErrors, currentUser.getId());
+            List<InitiativeResponse> responses = new ArrayList<>();
+            for (Initiative initiative : initiatives) {
+                responses.add(convertToResponse(initiative, BULK_RESPONSE_FIELDS));
+            }
+            return ResponseEntity.ok(BULK_RESPONSE_FIELDS.apply(
+                    new ApiResponse(true, initiatives.size() + " initiative(s) created successfully", responses)));
+        } catch (BulkInitiativeException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage(), e.getErrors()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateInitiative(@PathVariable Long id,
                                             @Valid @RequestBody InitiativeRequest request) {
@@ -116,6 +253,11 @@ public class InitiativeController {
 
     // Helper method to convert Initiative entity to InitiativeResponse DTO
     private InitiativeResponse convertToResponse(Initiative initiative) {
+        return convertToResponse(initiative, FieldSelection.ALL);
+    }
+
+    // The creator and rejection lookups only run when one of their fields is selected
+    private InitiativeResponse convertToResponse(Initiative initiative, FieldSelection fields) {
         InitiativeResponse response = new InitiativeResponse();
         response.setId(initiative.getId());
         response.setTitle(initiative.getTitle());
@@ -137,7 +279,7 @@ public class InitiativeController {
         response.setUpdatedAt(initiative.getUpdatedAt());
         
         // Set creator information
-        if (initiative.getCreatedBy() != null) {
+        if (fields.includesAny("createdByName", "createdByEmail") && initiative.getCreatedBy() != null) {
             response.setCreatedByName(initiative.getCreatedBy().getFullName());
             response.setCreatedByEmail(initiative.getCreatedBy().getEmail());
         }
@@ -159,7 +301,8 @@ public class InitiativeController {
         response.setCapexNumber(initiative.getCapexNumber());
         
         // Set rejection information if initiative is rejected
-        if ("Rejected".equals(initiative.getStatus())) {
+        if ("Rejected".equals(initiative.getStatus()) && fields.includesAny(
+                "rejectedBy", "rejectionReason", "rejectionDate", "rejectedStageName", "rejectedStageNumber")) {
             workflowTransactionService.getRejectionInfo(initiative.getId())
                 .ifPresent(rejectedTransaction -> {
                     response.setRejectedBy(rejectedTransaction.getActionBy());
@@ -1,6 +1,7 @@
 package com.company.opexhub.controller;
 
 import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.dto.MonitoringTimelineDTO;
 import com.company.opexhub.entity.MonthlyMonitoringEntry;
 import com.company.opexhub.entity.User;
 import com.company.opexhub.service.MonthlyMonitoringService;
@@ -9,6 +10,7 @@ import com.company.opexhub.service.EmailActionTokenService;
 import com.company.opexhub.service.WorkflowTransactionService;
 import com.company.opexhub.repository.UserRepository;
 import com.company.opexhub.dto.WorkflowTransactionDetailDTO;
+import com.company.opexhub.util.FieldSelection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -44,12 +46,15 @@ public class MonthlyMonitoringController {
      * Get initiatives where Stage 8 is approved and current stage is 9 (Savings Monitoring)
      */
     @GetMapping("/approved-initiatives/{userEmail}/{site}")
-    public ResponseEntity<ApiResponse<List<WorkflowTransactionDetailDTO>>> getApprovedInitiativesForUser(
-            @PathVariable String userEmail, @PathVariable String site) {
+    public ResponseEntity<?> getApprovedInitiativesForUser(
+            @PathVariable String userEmail, @PathVariable String site,
+            @RequestParam(required = false) String fields) {
         try {
+            FieldSelection selection = FieldSelection.parse(fields);
             List<WorkflowTransactionDetailDTO> initiatives = workflowTransactionService
-                    .getInitiativesWithApprovedStage9ForUser(userEmail, site);
-            return ResponseEntity.ok(new ApiResponse<>(true, "Approved initiatives retrieved successfully", initiatives));
+                    .getInitiativesWithApprovedStage9ForUser(userEmail, site, selection);
+            return ResponseEntity.ok(selection.apply(
+                    new ApiResponse<>(true, "Approved initiatives retrieved successfully", initiatives)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(false, "Error retrieving approved initiatives: " + e.getMessage(), null));
@@ -60,12 +65,15 @@ public class MonthlyMonitoringController {
      * Get initiatives assigned to a specific user as Initiative Lead where Stage 8 is approved
      */
     @GetMapping("/assigned-initiatives/{userEmail}")
-    public ResponseEntity<ApiResponse<List<WorkflowTransactionDetailDTO>>> getAssignedInitiatives(
-            @PathVariable String userEmail) {
+    public ResponseEntity<?> getAssignedInitiatives(
+            @PathVariable String userEmail,
+            @RequestParam(required = false) String fields) {
         try {
+            FieldSelection selection = FieldSelection.parse(fields);
             List<WorkflowTransactionDetailDTO> initiatives = workflowTransactionService
-                    .getAssignedInitiativesForMonthlyMonitoring(userEmail);
-            return ResponseEntity.ok(new ApiResponse<>(true, "Assigned initiatives retrieved successfully", initiatives));
+                    .getAssignedInitiativesForMonthlyMonitoring(userEmail, selection);
+            return ResponseEntity.ok(selection.apply(
+                    new ApiResponse<>(true, "Assigned initiatives retrieved successfully", initiatives)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(false, "Error retrieving assigned initiatives: " + e.getMessage(), null));
@@ -96,6 +104,31 @@ public class MonthlyMonitoringController {
         }
     }
 
+    /**
+     * Get monitoring timeline (lightweight entries, totals, finalisation and F&A state) for an initiative
+     */
+    @GetMapping("/{initiativeId}/timeline")
+    public ResponseEntity<ApiResponse<MonitoringTimelineDTO>> getMonitoringTimeline(
+            @PathVariable Long initiativeId,
+            HttpServletRequest request) {
+        try {
+            String userEmail = (String) request.getAttribute("userEmail");
+            String userRole = (String) request.getAttribute("userRole");
+
+            if (userEmail != null && !workflowTransactionService.hasSavingsMonitoringViewAccess(initiativeId, userEmail, userRole)) {
+                return ResponseEntity
+                        .status(HttpStatus.FORBIDDEN)
+                        .body(new ApiResponse<>(false, "Access denied: Stage 9 not approved", null));
+            }
+
+            MonitoringTimelineDTO timeline = monthlyMonitoringService.getMonitoringTimeline(initiativeId);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Monitoring timeline retrieved successfully", timeline));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, "Error retrieving monitoring timeline: " + e.getMessage(), null));
+        }
+    }
+
     @GetMapping("/{initiativeId}/month/{monthYear}")
     public ResponseEntity<ApiResponse<List<MonthlyMonitoringEntry>>> getMonitoringEntriesByMonth(
             @PathVariable Long initiativeId,
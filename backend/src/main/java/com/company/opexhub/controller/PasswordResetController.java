@@ -1,11 +1,15 @@
 package com.company.opexhub.controller;
 
 import com.company.opexhub.dto.ApiResponse;
+import com.company.opexhub.security.AuthThrottledException;
+import com.company.opexhub.security.LoginThrottle;
 import com.company.opexhub.service.PasswordResetService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.Map;
 
 @RestController
@@ -16,6 +20,9 @@ public class PasswordResetController {
     @Autowired
     private PasswordResetService passwordResetService;
 
+    @Autowired
+    private LoginThrottle loginThrottle;
+
     @PostMapping("/send-code")
     public ResponseEntity<?> sendResetCode(@RequestBody Map<String, String> request) {
         try {
@@ -42,7 +49,7 @@ public class PasswordResetController {
     }
 
     @PostMapping("/verify-code")
-    public ResponseEntity<?> verifyResetCode(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> verifyResetCode(@RequestBody Map<String, String> request, HttpServletRequest httpRequest) {
         try {
             String email = request.get("email");
             String code = request.get("code");
@@ -52,6 +59,9 @@ public class PasswordResetController {
                         .body(new ApiResponse<>(false, "Email and code are required"));
             }
 
+            // Six-digit codes are guessable, so every code check takes from the login buckets
+            loginThrottle.acquire(email, httpRequest.getRemoteAddr());
+
             boolean isValid = passwordResetService.verifyResetCode(email, code);
             
             if (isValid) {
@@ -61,6 +71,9 @@ public class PasswordResetController {
                         .body(new ApiResponse<>(false, "Invalid or expired code"));
             }
 
+        } catch (AuthThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ApiResponse<>(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(false, "Code verification failed: " + e.getMessage()));
@@ -68,7 +81,7 @@ public class PasswordResetController {
     }
 
     @PostMapping("/reset-password")
-    public ResponseEntity<?> resetPassword(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> resetPassword(@RequestBody Map<String, String> request, HttpServletRequest httpRequest) {
         try {
             String email = request.get("email");
             String code = request.get("code");
@@ -85,6 +98,8 @@ public class PasswordResetController {
                         .body(new ApiResponse<>(false, "Password must be at least 6 characters long"));
             }
 
+            loginThrottle.acquire(email, httpRequest.getRemoteAddr());
+
             boolean result = passwordResetService.resetPassword(email, code, newPassword);
             
             if (result) {
@@ -95,6 +110,9 @@ public class PasswordResetController {
                         .body(new ApiResponse<>(false, "Invalid or expired code"));
             }
 
+        } catch (AuthThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ApiResponse<>(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(false, "Password reset failed: " + e.getMessage()));
@@ -2,7 +2,9 @@ package com.company.opexhub.controller;
 
 import com.company.opexhub.dto.DNLReportDataDTO;
 import com.company.opexhub.dto.FinancialYearReportDTO;
+import com.company.opexhub.dto.SavingsForecastDTO;
 import com.company.opexhub.service.ReportsService;
+import com.company.opexhub.service.SavingsForecastService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
@@ -29,6 +31,9 @@ public class ReportsController {
     @Autowired
     private ReportsService reportsService;
 
+    @Autowired
+    private SavingsForecastService savingsForecastService;
+
     @GetMapping("/export/dnl-plant-initiatives")
     public ResponseEntity<ByteArrayResource> exportDNLPlantInitiatives(
             @RequestParam(required = false) String site,
@@ -361,6 +366,35 @@ public class ReportsController {
         }
     }
 
+    @GetMapping("/savings-forecast")
+    public ResponseEntity<SavingsForecastDTO> getSavingsForecast(
+            @RequestParam(value = "financialYear", required = false) String financialYear,
+            @RequestParam(value = "site", required = false) String site,
+            @RequestParam(value = "budgetType", required = false) String budgetType) {
+        try {
+            logger.info("🔍 Savings Forecast API Request - FY: {}, site: {}, budgetType: {}",
+                       financialYear, site, budgetType);
+
+            SavingsForecastDTO forecast = savingsForecastService.getSavingsForecast(financialYear, site, budgetType);
+
+            logger.info("✅ Savings Forecast API Response - {} forecast lines", forecast.getLines().size());
+            return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
+                .header(HttpHeaders.PRAGMA, "no-cache")
+                .header(HttpHeaders.EXPIRES, "0")
+                .body(forecast);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .header("X-Error-Message", e.getMessage())
+                .build();
+        } catch (Exception e) {
+            logger.error("❌ Error in getSavingsForecast API: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                .header("X-Error-Message", "Failed to compute savings forecast: " + e.getMessage())
+                .build();
+        }
+    }
+
     @GetMapping("/export/mom-report")
     public ResponseEntity<ByteArrayResource> exportMOMReport(
             @RequestParam(required = false) String site,
@@ -5,6 +5,7 @@ import com.company.opexhub.entity.TimelineEntry;
 import com.company.opexhub.service.TimelineEntryService;
 import com.company.opexhub.service.WorkflowTransactionService;
 import com.company.opexhub.dto.WorkflowTransactionDetailDTO;
+import com.company.opexhub.util.FieldSelection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,12 +30,15 @@ public class TimelineTrackerController {
      * Get initiatives where Stage 5 is approved and current stage is 6 (Timeline Tracker)
      */
     @GetMapping("/approved-initiatives/{userEmail}/{site}")
-    public ResponseEntity<ApiResponse<List<WorkflowTransactionDetailDTO>>> getApprovedInitiativesForUser(
-            @PathVariable String userEmail, @PathVariable String site) {
+    public ResponseEntity<?> getApprovedInitiativesForUser(
+            @PathVariable String userEmail, @PathVariable String site,
+            @RequestParam(required = false) String fields) {
         try {
+            FieldSelection selection = FieldSelection.parse(fields);
             List<WorkflowTransactionDetailDTO> initiatives = workflowTransactionService
-                    .getInitiativesWithApprovedStage6ForUser(userEmail, site);
-            return ResponseEntity.ok(new ApiResponse<>(true, "Approved initiatives retrieved successfully", initiatives));
+                    .getInitiativesWithApprovedStage6ForUser(userEmail, site, selection);
+            return ResponseEntity.ok(selection.apply(
+                    new ApiResponse<>(true, "Approved initiatives retrieved successfully", initiatives)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(false, "Error retrieving approved initiatives: " + e.getMessage(), null));
@@ -45,12 +49,15 @@ public class TimelineTrackerController {
      * Get initiatives where current user is assigned as Initiative Lead (IL)
      */
     @GetMapping("/assigned-initiatives/{userEmail}")
-    public ResponseEntity<ApiResponse<List<WorkflowTransactionDetailDTO>>> getAssignedInitiativesForUser(
-            @PathVariable String userEmail) {
+    public ResponseEntity<?> getAssignedInitiativesForUser(
+            @PathVariable String userEmail,
+            @RequestParam(required = false) String fields) {
         try {
+            FieldSelection selection = FieldSelection.parse(fields);
             List<WorkflowTransactionDetailDTO> initiatives = workflowTransactionService
-                    .getAssignedInitiativesForUser(userEmail);
-            return ResponseEntity.ok(new ApiResponse<>(true, "Assigned initiatives retrieved successfully", initiatives));
+                    .getAssignedInitiativesForUser(userEmail, selection);
+            return ResponseEntity.ok(selection.apply(
+                    new ApiResponse<>(true, "Assigned initiatives retrieved successfully", initiatives)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>(false, "Error retrieving assigned initiatives: " + e.getMessage(), null));
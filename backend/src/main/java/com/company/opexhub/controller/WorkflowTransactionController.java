@@ -6,8 +6,10 @@ import com.company.opexhub.entity.WorkflowTransaction;
 import com.company.opexhub.security.UserPrincipal;
 import com.company.opexhub.service.WorkflowTransactionService;
 import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.util.FieldSelection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,8 +33,10 @@ public class WorkflowTransactionController {
     }
     
     @GetMapping("/visible/{initiativeId}")
-    public List<WorkflowTransactionDetailDTO> getVisibleWorkflowTransactions(@PathVariable Long initiativeId) {
-        return workflowTransactionService.getVisibleWorkflowTransactions(initiativeId);
+    public MappingJacksonValue getVisibleWorkflowTransactions(@PathVariable Long initiativeId,
+                                                              @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        return selection.apply(workflowTransactionService.getVisibleWorkflowTransactions(initiativeId, selection));
     }
 
     @GetMapping("/pending/{roleCode}")
@@ -146,19 +150,22 @@ public class WorkflowTransactionController {
 
 // Add this method to fetch workflow transactions by initiative ID
 @GetMapping("/{initiativeId}")
-public ResponseEntity<List<WorkflowTransactionDetailDTO>> getWorkflowTransactionsByInitiative(
-        @PathVariable Long initiativeId) {
+public ResponseEntity<MappingJacksonValue> getWorkflowTransactionsByInitiative(
+        @PathVariable Long initiativeId,
+        @RequestParam(required = false) String fields) {
     
     try {
+        FieldSelection selection = FieldSelection.parse(fields);
         List<WorkflowTransactionDetailDTO> transactions = workflowTransactionService
-                .getVisibleWorkflowTransactions(initiativeId);
-        return ResponseEntity.ok(transactions);
+                .getVisibleWorkflowTransactions(initiativeId, selection);
+        return ResponseEntity.ok(selection.apply(transactions));
     } catch (Exception e) {
         return ResponseEntity.badRequest().build();
     }
 }
     @GetMapping("/ready-for-closure")
-    public List<WorkflowTransactionDetailDTO> getInitiativesReadyForClosure() {
-        return workflowTransactionService.getInitiativesReadyForClosure();
+    public MappingJacksonValue getInitiativesReadyForClosure(@RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        return selection.apply(workflowTransactionService.getInitiativesReadyForClosure(selection));
     }
 }
\ No newline at end of file
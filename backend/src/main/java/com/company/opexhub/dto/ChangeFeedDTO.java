@@ -0,0 +1,29 @@
+package com.company.opexhub.dto;
+
+import com.company.opexhub.entity.ChangeLogEntry;
+
+import java.util.List;
+
+public class ChangeFeedDTO {
+    private List<ChangeLogEntry> changes;
+    private Long nextCursor;
+    private Boolean hasMore;
+
+    public ChangeFeedDTO() {}
+
+    public ChangeFeedDTO(List<ChangeLogEntry> changes, Long nextCursor, Boolean hasMore) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<ChangeLogEntry> getChanges() { return changes; }
+    public void setChanges(List<ChangeLogEntry> changes) { this.changes = changes; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+
+    public Boolean getHasMore() { return hasMore; }
+    public void setHasMore(Boolean hasMore) { this.hasMore = hasMore; }
+}
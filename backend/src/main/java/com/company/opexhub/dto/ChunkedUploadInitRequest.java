@@ -0,0 +1,36 @@
+package com.company.opexhub.dto;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+public class ChunkedUploadInitRequest {
+    @NotNull
+    private Long initiativeId;
+
+    @NotBlank
+    private String fileName;
+
+    @NotBlank
+    private String contentType;
+
+    @NotNull
+    @Positive
+    private Long fileSize;
+
+    // Constructors
+    public ChunkedUploadInitRequest() {}
+
+    // Getters and Setters
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+
+    public Long getFileSize() { return fileSize; }
+    public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+}
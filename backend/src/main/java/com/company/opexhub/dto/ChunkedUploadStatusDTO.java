@@ -0,0 +1,38 @@
+package com.company.opexhub.dto;
+
+import java.util.List;
+
+public class ChunkedUploadStatusDTO {
+    private String uploadId;
+    private Long fileSize;
+    private Integer chunkSize;
+    private Integer chunkCount;
+    private List<Integer> receivedChunks;
+
+    public ChunkedUploadStatusDTO() {}
+
+    public ChunkedUploadStatusDTO(String uploadId, Long fileSize, Integer chunkSize, Integer chunkCount,
+                                  List<Integer> receivedChunks) {
+        this.uploadId = uploadId;
+        this.fileSize = fileSize;
+        this.chunkSize = chunkSize;
+        this.chunkCount = chunkCount;
+        this.receivedChunks = receivedChunks;
+    }
+
+    // Getters and Setters
+    public String getUploadId() { return uploadId; }
+    public void setUploadId(String uploadId) { this.uploadId = uploadId; }
+
+    public Long getFileSize() { return fileSize; }
+    public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+
+    public Integer getChunkSize() { return chunkSize; }
+    public void setChunkSize(Integer chunkSize) { this.chunkSize = chunkSize; }
+
+    public Integer getChunkCount() { return chunkCount; }
+    public void setChunkCount(Integer chunkCount) { this.chunkCount = chunkCount; }
+
+    public List<Integer> getReceivedChunks() { return receivedChunks; }
+    public void setReceivedChunks(List<Integer> receivedChunks) { this.receivedChunks = receivedChunks; }
+}
@@ -0,0 +1,41 @@
+package com.company.opexhub.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. Pass nextCursor back as cursor to read the following page;
+ * it is null when hasMore is false.
+ */
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private Boolean hasMore;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, String nextCursor, Boolean hasMore) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = new ArrayList<>(content.size());
+        for (T item : content) {
+            converted.add(converter.apply(item));
+        }
+        return new CursorPage<>(converted, nextCursor, hasMore);
+    }
+
+    // Getters and Setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public Boolean getHasMore() { return hasMore; }
+    public void setHasMore(Boolean hasMore) { this.hasMore = hasMore; }
+}
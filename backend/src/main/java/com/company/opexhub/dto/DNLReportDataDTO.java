@@ -1,5 +1,8 @@
 package com.company.opexhub.dto;
 
+import com.company.opexhub.util.SavingsAccumulator;
+
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,29 +35,30 @@ public class DNLReportDataDTO {
                 return data; // Return array of zeros
             }
             
+            // Savings are accumulated in paise and only converted to double for the chart/table
+            SavingsAccumulator savings = new SavingsAccumulator(4, 6);
+            
             // Process monitoring data - fetch from ACHIEVED_VALUE column
             for (Object[] row : monitoringData) {
                 try {
                     String category = ((String) row[0]).toLowerCase(); // Convert to lowercase for matching
                     String budgetType = row[1] != null ? ((String) row[1]).toLowerCase() : "budgeted"; // Handle null budgetType with default
-                    Double totalSavings = ((Number) row[2]).doubleValue(); // This comes from ACHIEVED_VALUE column
-                    
-                    System.out.println("📊 Processing row - category: " + category + ", budgetType: " + budgetType + ", savings: " + totalSavings);
+                    long totalSavings = SavingsAccumulator.toCents(row[2] instanceof BigDecimal
+                            ? (BigDecimal) row[2] : new BigDecimal(row[2].toString())); // This comes from ACHIEVED_VALUE column
                     
                     Integer categoryIndex = categoryMap.get(category);
                     if (categoryIndex != null) {
                         if ("budgeted".equals(budgetType)) {
-                            data[categoryIndex][0] = totalSavings; // FY'26 Budgeted Saving (from ACHIEVED_VALUE)
-                            data[categoryIndex][2] = totalSavings; // Budgeted (from ACHIEVED_VALUE)
-                            data[categoryIndex][4] = totalSavings; // Savings till current month (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 0, totalSavings); // FY'26 Budgeted Saving (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 2, totalSavings); // Budgeted (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 4, totalSavings); // Savings till current month (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 5, totalSavings); // Total (Budgeted + Non-budgeted)
                         } else if ("non-budgeted".equals(budgetType)) {
-                            data[categoryIndex][1] = totalSavings; // FY'26 Non Budgeted Saving (from ACHIEVED_VALUE)
-                            data[categoryIndex][3] = totalSavings; // Non-budgeted (from ACHIEVED_VALUE)
-                            data[categoryIndex][4] += totalSavings; // Add to Savings till current month (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 1, totalSavings); // FY'26 Non Budgeted Saving (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 3, totalSavings); // Non-budgeted (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 4, totalSavings); // Add to Savings till current month (from ACHIEVED_VALUE)
+                            savings.addCents(categoryIndex, 5, totalSavings); // Total (Budgeted + Non-budgeted)
                         }
-                        
-                        // Calculate Total column (sum of Budgeted + Non-budgeted from ACHIEVED_VALUE)
-                        data[categoryIndex][5] = data[categoryIndex][2] + data[categoryIndex][3];
                     } else {
                         System.out.println("⚠️  Unknown category: " + category);
                     }
@@ -66,7 +70,13 @@ public class DNLReportDataDTO {
             
             // Calculate totals row (index 3) - sum of all categories from ACHIEVED_VALUE
             for (int j = 0; j < 6; j++) {
-                data[3][j] = data[0][j] + data[1][j] + data[2][j];
+                savings.addCents(3, j, savings.columnTotalCents(j));
+            }
+            
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 6; j++) {
+                    data[i][j] = savings.getDouble(i, j);
+                }
             }
             
             System.out.println("✅ Data processing completed successfully");
@@ -0,0 +1,41 @@
+package com.company.opexhub.dto;
+
+/**
+ * Initiative list filters; every criterion is optional and null means "any".
+ * Bound from query parameters of GET /api/initiatives/filter.
+ */
+public class InitiativeFilter {
+    private String status;
+    private String site;
+    private String discipline;
+    private String budgetType;
+    private Integer stage;
+    // Starting year, e.g. "2025" for FY 2025-26
+    private String financialYear;
+    // Matched against title and initiative number
+    private String search;
+
+    public InitiativeFilter() {}
+
+    // Getters and Setters
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getSite() { return site; }
+    public void setSite(String site) { this.site = site; }
+
+    public String getDiscipline() { return discipline; }
+    public void setDiscipline(String discipline) { this.discipline = discipline; }
+
+    public String getBudgetType() { return budgetType; }
+    public void setBudgetType(String budgetType) { this.budgetType = budgetType; }
+
+    public Integer getStage() { return stage; }
+    public void setStage(Integer stage) { this.stage = stage; }
+
+    public String getFinancialYear() { return financialYear; }
+    public void setFinancialYear(String financialYear) { this.financialYear = financialYear; }
+
+    public String getSearch() { return search; }
+    public void setSearch(String search) { this.search = search; }
+}
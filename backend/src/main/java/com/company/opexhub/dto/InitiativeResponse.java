@@ -1,11 +1,15 @@
 package com.company.opexhub.dto;
 
+import com.company.opexhub.util.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 
+@JsonFilter(FieldSelection.FILTER_ID)
 public class InitiativeResponse {
     private Long id;
     private String title;
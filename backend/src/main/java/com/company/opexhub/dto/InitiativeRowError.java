@@ -0,0 +1,25 @@
+package com.company.opexhub.dto;
+
+/**
+ * A problem with one row of a bulk create / XLSX import; row is the 1-based position in the
+ * request list, or the spreadsheet row number for imports
+ */
+public class InitiativeRowError {
+    private Integer row;
+    private String message;
+
+    // Constructors
+    public InitiativeRowError() {}
+
+    public InitiativeRowError(Integer row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Integer getRow() { return row; }
+    public void setRow(Integer row) { this.row = row; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,187 @@
+package com.company.opexhub.dto;
+
+import com.company.opexhub.util.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Initiative list row: the columns the list screens show, the creator and the rejection details,
+ * built by a single constructor-expression query (InitiativeRepository.findSummariesByIdIn).
+ * The CLOB fields (description, assumptions, baseline data) are only on InitiativeResponse,
+ * served by GET /api/initiatives/{id}.
+ */
+@JsonFilter(FieldSelection.FILTER_ID)
+public class InitiativeSummaryDTO {
+    private Long id;
+    private String title;
+    private String initiativeNumber;
+    private String status;
+    private String priority;
+    private String site;
+    private String discipline;
+    private String budgetType;
+    private BigDecimal expectedSavings;
+    private BigDecimal actualSavings;
+    private BigDecimal targetValue;
+    private BigDecimal estimatedCapex;
+    private Integer progressPercentage;
+    private Integer currentStage;
+    private String currentStageName;
+    private String requiresMoc;
+    private String requiresCapex;
+    private String mocNumber;
+    private String capexNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String initiatorName;
+    private String createdByName;
+    private String createdByEmail;
+    private String rejectedBy;
+    private String rejectionReason;
+    private LocalDateTime rejectionDate;
+    private String rejectedStageName;
+    private Integer rejectedStageNumber;
+
+    // Constructors
+    public InitiativeSummaryDTO() {}
+
+    public InitiativeSummaryDTO(Long id, String title, String initiativeNumber, String status,
+                                String priority, String site, String discipline, String budgetType,
+                                BigDecimal expectedSavings, BigDecimal actualSavings, BigDecimal targetValue, BigDecimal estimatedCapex,
+                                Integer progressPercentage, Integer currentStage, String requiresMoc, String requiresCapex,
+                                String mocNumber, String capexNumber, LocalDate startDate, LocalDate endDate,
+                                LocalDateTime createdAt, LocalDateTime updatedAt, String initiatorName, String createdByName,
+                                String createdByEmail, String rejectedBy, String rejectionReason, LocalDateTime rejectionDate,
+                                String rejectedStageName, Integer rejectedStageNumber) {
+        this.id = id;
+        this.title = title;
+        this.initiativeNumber = initiativeNumber;
+        this.status = status;
+        this.priority = priority;
+        this.site = site;
+        this.discipline = discipline;
+        this.budgetType = budgetType;
+        this.expectedSavings = expectedSavings;
+        this.actualSavings = actualSavings;
+        this.targetValue = targetValue;
+        this.estimatedCapex = estimatedCapex;
+        this.progressPercentage = progressPercentage;
+        this.currentStage = currentStage;
+        this.currentStageName = InitiativeResponse.getStageName(currentStage);
+        this.requiresMoc = requiresMoc;
+        this.requiresCapex = requiresCapex;
+        this.mocNumber = mocNumber;
+        this.capexNumber = capexNumber;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.initiatorName = initiatorName;
+        this.createdByName = createdByName;
+        this.createdByEmail = createdByEmail;
+        this.rejectedBy = rejectedBy;
+        this.rejectionReason = rejectionReason;
+        this.rejectionDate = rejectionDate;
+        this.rejectedStageName = rejectedStageName;
+        this.rejectedStageNumber = rejectedStageNumber;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getInitiativeNumber() { return initiativeNumber; }
+    public void setInitiativeNumber(String initiativeNumber) { this.initiativeNumber = initiativeNumber; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public String getSite() { return site; }
+    public void setSite(String site) { this.site = site; }
+
+    public String getDiscipline() { return discipline; }
+    public void setDiscipline(String discipline) { this.discipline = discipline; }
+
+    public String getBudgetType() { return budgetType; }
+    public void setBudgetType(String budgetType) { this.budgetType = budgetType; }
+
+    public BigDecimal getExpectedSavings() { return expectedSavings; }
+    public void setExpectedSavings(BigDecimal expectedSavings) { this.expectedSavings = expectedSavings; }
+
+    public BigDecimal getActualSavings() { return actualSavings; }
+    public void setActualSavings(BigDecimal actualSavings) { this.actualSavings = actualSavings; }
+
+    public BigDecimal getTargetValue() { return targetValue; }
+    public void setTargetValue(BigDecimal targetValue) { this.targetValue = targetValue; }
+
+    public BigDecimal getEstimatedCapex() { return estimatedCapex; }
+    public void setEstimatedCapex(BigDecimal estimatedCapex) { this.estimatedCapex = estimatedCapex; }
+
+    public Integer getProgressPercentage() { return progressPercentage; }
+    public void setProgressPercentage(Integer progressPercentage) { this.progressPercentage = progressPercentage; }
+
+    public Integer getCurrentStage() { return currentStage; }
+    public void setCurrentStage(Integer currentStage) { this.currentStage = currentStage; }
+
+    public String getCurrentStageName() { return currentStageName; }
+    public void setCurrentStageName(String currentStageName) { this.currentStageName = currentStageName; }
+
+    public String getRequiresMoc() { return requiresMoc; }
+    public void setRequiresMoc(String requiresMoc) { this.requiresMoc = requiresMoc; }
+
+    public String getRequiresCapex() { return requiresCapex; }
+    public void setRequiresCapex(String requiresCapex) { this.requiresCapex = requiresCapex; }
+
+    public String getMocNumber() { return mocNumber; }
+    public void setMocNumber(String mocNumber) { this.mocNumber = mocNumber; }
+
+    public String getCapexNumber() { return capexNumber; }
+    public void setCapexNumber(String capexNumber) { this.capexNumber = capexNumber; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public String getInitiatorName() { return initiatorName; }
+    public void setInitiatorName(String initiatorName) { this.initiatorName = initiatorName; }
+
+    public String getCreatedByName() { return createdByName; }
+    public void setCreatedByName(String createdByName) { this.createdByName = createdByName; }
+
+    public String getCreatedByEmail() { return createdByEmail; }
+    public void setCreatedByEmail(String createdByEmail) { this.createdByEmail = createdByEmail; }
+
+    public String getRejectedBy() { return rejectedBy; }
+    public void setRejectedBy(String rejectedBy) { this.rejectedBy = rejectedBy; }
+
+    public String getRejectionReason() { return rejectionReason; }
+    public void setRejectionReason(String rejectionReason) { this.rejectionReason = rejectionReason; }
+
+    public LocalDateTime getRejectionDate() { return rejectionDate; }
+    public void setRejectionDate(LocalDateTime rejectionDate) { this.rejectionDate = rejectionDate; }
+
+    public String getRejectedStageName() { return rejectedStageName; }
+    public void setRejectedStageName(String rejectedStageName) { this.rejectedStageName = rejectedStageName; }
+
+    public Integer getRejectedStageNumber() { return rejectedStageNumber; }
+    public void setRejectedStageNumber(Integer rejectedStageNumber) { this.rejectedStageNumber = rejectedStageNumber; }
+}
@@ -0,0 +1,124 @@
+package com.company.opexhub.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MonitoringTimelineDTO {
+    private Long initiativeId;
+    private List<EntrySummary> entries;
+    private BigDecimal totalAchievedValue;
+    private BigDecimal totalTargetValue;
+    private Boolean allFinalized;
+    private Long pendingFAApprovalCount;
+    private Long finalizedPendingFACount;
+
+    public MonitoringTimelineDTO() {}
+
+    public MonitoringTimelineDTO(Long initiativeId, List<EntrySummary> entries, BigDecimal totalAchievedValue,
+                                 BigDecimal totalTargetValue, Boolean allFinalized,
+                                 Long pendingFAApprovalCount, Long finalizedPendingFACount) {
+        this.initiativeId = initiativeId;
+        this.entries = entries;
+        this.totalAchievedValue = totalAchievedValue;
+        this.totalTargetValue = totalTargetValue;
+        this.allFinalized = allFinalized;
+        this.pendingFAApprovalCount = pendingFAApprovalCount;
+        this.finalizedPendingFACount = finalizedPendingFACount;
+    }
+
+    // Inner class for a single monitoring entry without the CLOB remark columns
+    public static class EntrySummary {
+        private Long id;
+        private String monitoringMonth;
+        private String kpiDescription;
+        private String category;
+        private BigDecimal targetValue;
+        private BigDecimal achievedValue;
+        private BigDecimal deviation;
+        private BigDecimal deviationPercentage;
+        private String isFinalized;
+        private String faApproval;
+        private String enteredBy;
+        private LocalDateTime updatedAt;
+
+        public EntrySummary() {}
+
+        public EntrySummary(Long id, String monitoringMonth, String kpiDescription, String category,
+                            BigDecimal targetValue, BigDecimal achievedValue, BigDecimal deviation,
+                            BigDecimal deviationPercentage, String isFinalized, String faApproval,
+                            String enteredBy, LocalDateTime updatedAt) {
+            this.id = id;
+            this.monitoringMonth = monitoringMonth;
+            this.kpiDescription = kpiDescription;
+            this.category = category;
+            this.targetValue = targetValue;
+            this.achievedValue = achievedValue;
+            this.deviation = deviation;
+            this.deviationPercentage = deviationPercentage;
+            this.isFinalized = isFinalized;
+            this.faApproval = faApproval;
+            this.enteredBy = enteredBy;
+            this.updatedAt = updatedAt;
+        }
+
+        // Getters and setters
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getMonitoringMonth() { return monitoringMonth; }
+        public void setMonitoringMonth(String monitoringMonth) { this.monitoringMonth = monitoringMonth; }
+
+        public String getKpiDescription() { return kpiDescription; }
+        public void setKpiDescription(String kpiDescription) { this.kpiDescription = kpiDescription; }
+
+        public String getCategory() { return category; }
+        public void setCategory(String category) { this.category = category; }
+
+        public BigDecimal getTargetValue() { return targetValue; }
+        public void setTargetValue(BigDecimal targetValue) { this.targetValue = targetValue; }
+
+        public BigDecimal getAchievedValue() { return achievedValue; }
+        public void setAchievedValue(BigDecimal achievedValue) { this.achievedValue = achievedValue; }
+
+        public BigDecimal getDeviation() { return deviation; }
+        public void setDeviation(BigDecimal deviation) { this.deviation = deviation; }
+
+        public BigDecimal getDeviationPercentage() { return deviationPercentage; }
+        public void setDeviationPercentage(BigDecimal deviationPercentage) { this.deviationPercentage = deviationPercentage; }
+
+        public String getIsFinalized() { return isFinalized; }
+        public void setIsFinalized(String isFinalized) { this.isFinalized = isFinalized; }
+
+        public String getFaApproval() { return faApproval; }
+        public void setFaApproval(String faApproval) { this.faApproval = faApproval; }
+
+        public String getEnteredBy() { return enteredBy; }
+        public void setEnteredBy(String enteredBy) { this.enteredBy = enteredBy; }
+
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    }
+
+    // Getters and setters
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public List<EntrySummary> getEntries() { return entries; }
+    public void setEntries(List<EntrySummary> entries) { this.entries = entries; }
+
+    public BigDecimal getTotalAchievedValue() { return totalAchievedValue; }
+    public void setTotalAchievedValue(BigDecimal totalAchievedValue) { this.totalAchievedValue = totalAchievedValue; }
+
+    public BigDecimal getTotalTargetValue() { return totalTargetValue; }
+    public void setTotalTargetValue(BigDecimal totalTargetValue) { this.totalTargetValue = totalTargetValue; }
+
+    public Boolean getAllFinalized() { return allFinalized; }
+    public void setAllFinalized(Boolean allFinalized) { this.allFinalized = allFinalized; }
+
+    public Long getPendingFAApprovalCount() { return pendingFAApprovalCount; }
+    public void setPendingFAApprovalCount(Long pendingFAApprovalCount) { this.pendingFAApprovalCount = pendingFAApprovalCount; }
+
+    public Long getFinalizedPendingFACount() { return finalizedPendingFACount; }
+    public void setFinalizedPendingFACount(Long finalizedPendingFACount) { this.finalizedPendingFACount = finalizedPendingFACount; }
+}
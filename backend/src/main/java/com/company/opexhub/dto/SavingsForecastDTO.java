@@ -0,0 +1,101 @@
+package com.company.opexhub.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for the FY-end savings forecast
+ * Contains projected landing per site / budget type / category, per site and overall
+ */
+public class SavingsForecastDTO {
+
+    private String financialYear;
+
+    // Number of FY months (April onwards) already completed when the forecast was made
+    private Integer monthsElapsed;
+
+    private List<ForecastLine> lines;
+
+    private List<ForecastLine> siteTotals;
+
+    private ForecastLine total;
+
+    public SavingsForecastDTO() {}
+
+    public SavingsForecastDTO(String financialYear, Integer monthsElapsed, List<ForecastLine> lines,
+                              List<ForecastLine> siteTotals, ForecastLine total) {
+        this.financialYear = financialYear;
+        this.monthsElapsed = monthsElapsed;
+        this.lines = lines;
+        this.siteTotals = siteTotals;
+        this.total = total;
+    }
+
+    // Inner class for one forecast aggregate
+    public static class ForecastLine {
+        private String site;
+        private String budgetType;
+        private String category;
+        private Integer initiativeCount;
+        private BigDecimal actualToDate;
+        private BigDecimal targetToDate;
+        private BigDecimal projectedRemaining;
+        private BigDecimal projectedLanding;
+
+        public ForecastLine() {}
+
+        public ForecastLine(String site, String budgetType, String category, Integer initiativeCount,
+                            BigDecimal actualToDate, BigDecimal targetToDate,
+                            BigDecimal projectedRemaining, BigDecimal projectedLanding) {
+            this.site = site;
+            this.budgetType = budgetType;
+            this.category = category;
+            this.initiativeCount = initiativeCount;
+            this.actualToDate = actualToDate;
+            this.targetToDate = targetToDate;
+            this.projectedRemaining = projectedRemaining;
+            this.projectedLanding = projectedLanding;
+        }
+
+        // Getters and Setters
+        public String getSite() { return site; }
+        public void setSite(String site) { this.site = site; }
+
+        public String getBudgetType() { return budgetType; }
+        public void setBudgetType(String budgetType) { this.budgetType = budgetType; }
+
+        public String getCategory() { return category; }
+        public void setCategory(String category) { this.category = category; }
+
+        public Integer getInitiativeCount() { return initiativeCount; }
+        public void setInitiativeCount(Integer initiativeCount) { this.initiativeCount = initiativeCount; }
+
+        public BigDecimal getActualToDate() { return actualToDate; }
+        public void setActualToDate(BigDecimal actualToDate) { this.actualToDate = actualToDate; }
+
+        public BigDecimal getTargetToDate() { return targetToDate; }
+        public void setTargetToDate(BigDecimal targetToDate) { this.targetToDate = targetToDate; }
+
+        public BigDecimal getProjectedRemaining() { return projectedRemaining; }
+        public void setProjectedRemaining(BigDecimal projectedRemaining) { this.projectedRemaining = projectedRemaining; }
+
+        public BigDecimal getProjectedLanding() { return projectedLanding; }
+        public void setProjectedLanding(BigDecimal projectedLanding) { this.projectedLanding = projectedLanding; }
+    }
+
+    // Getters and Setters
+    public String getFinancialYear() { return financialYear; }
+    public void setFinancialYear(String financialYear) { this.financialYear = financialYear; }
+
+    public Integer getMonthsElapsed() { return monthsElapsed; }
+    public void setMonthsElapsed(Integer monthsElapsed) { this.monthsElapsed = monthsElapsed; }
+
+    public List<ForecastLine> getLines() { return lines; }
+    public void setLines(List<ForecastLine> lines) { this.lines = lines; }
+
+    public List<ForecastLine> getSiteTotals() { return siteTotals; }
+    public void setSiteTotals(List<ForecastLine> siteTotals) { this.siteTotals = siteTotals; }
+
+    public ForecastLine getTotal() { return total; }
+    public void setTotal(ForecastLine total) { this.total = total; }
+}
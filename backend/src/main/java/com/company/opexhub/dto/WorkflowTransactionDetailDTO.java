@@ -1,7 +1,11 @@
 package com.company.opexhub.dto;
 
+import com.company.opexhub.util.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.LocalDateTime;
 
+@JsonFilter(FieldSelection.FILTER_ID)
 public class WorkflowTransactionDetailDTO {
     private Long id;
     private Long initiativeId;
@@ -0,0 +1,35 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Single row locked by every transaction while it writes its change log rows, just before commit.
+ * Holding it until commit makes change log ids follow commit order, so a feed reader never sees a
+ * higher id before a lower one has committed.
+ */
+@Entity
+@Table(name = "OPEX_CHANGE_FEED_LOCK")
+public class ChangeFeedLock {
+    public static final Long LOCK_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    // Constructors
+    public ChangeFeedLock() {}
+
+    public ChangeFeedLock(Long id) {
+        this.id = id;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getLockedAt() { return lockedAt; }
+    public void setLockedAt(LocalDateTime lockedAt) { this.lockedAt = lockedAt; }
+}
@@ -0,0 +1,86 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only change log row for the BI change feed (GET /api/changes).
+ * The sequence id is the feed cursor, so rows are never updated or deleted.
+ */
+@Entity
+@Table(name = "OPEX_CHANGE_LOG", indexes = {
+    @Index(name = "IDX_OPEX_CHANGE_LOG_AT", columnList = "changed_at")
+})
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_log_seq")
+    // Not pooled: the feed cursor relies on ids following allocation order across nodes
+    @SequenceGenerator(name = "change_log_seq", sequenceName = "OPEX_CHANGE_LOG_SEQ", allocationSize = 1)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 50)
+    @Column(name = "entity_type", nullable = false)
+    private String entityType; // MONTHLY_MONITORING_ENTRY, INITIATIVE, WORKFLOW_TRANSACTION
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "initiative_id")
+    private Long initiativeId;
+
+    @NotBlank
+    @Size(max = 30)
+    @Column(name = "operation", nullable = false)
+    private String operation; // CREATE, UPDATE, FINALIZE, FA_APPROVAL, STATUS_CHANGE, DELETE
+
+    // JSON snapshot of the changed row's reportable fields (no CLOB remarks)
+    @Column(name = "payload", columnDefinition = "CLOB")
+    private String payload;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public ChangeLogEntry() {}
+
+    public ChangeLogEntry(String entityType, Long entityId, Long initiativeId, String operation, String payload) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.initiativeId = initiativeId;
+        this.operation = operation;
+        this.payload = payload;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (changedAt == null) {
+            changedAt = LocalDateTime.now();
+        }
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+}
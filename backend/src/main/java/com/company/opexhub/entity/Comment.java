@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
-    @SequenceGenerator(name = "comment_seq", sequenceName = "OPEX_REMARKS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "comment_seq", sequenceName = "OPEX_REMARKS_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -0,0 +1,74 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted single-use token behind the F&A email approval links, so links mailed days earlier
+ * keep working across restarts and on every instance. A row is deleted when the link is used.
+ */
+@Entity
+@Table(name = "OPEX_EMAIL_ACTION_TOKENS", indexes = {
+    @Index(name = "IDX_OPEX_EMAIL_TOKEN_EXPIRY", columnList = "expiry_time")
+})
+public class EmailActionToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_action_token_seq")
+    @SequenceGenerator(name = "email_action_token_seq", sequenceName = "OPEX_EMAIL_ACTION_TOKENS_SEQ", allocationSize = 50)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 64)
+    @Column(name = "token", nullable = false, unique = true)
+    private String token;
+
+    @Column(name = "entry_id", nullable = false)
+    private Long entryId;
+
+    @NotBlank
+    @Size(max = 20)
+    @Column(name = "action", nullable = false)
+    private String action; // APPROVE, REQUEST_EDIT
+
+    @Column(name = "expiry_time", nullable = false)
+    private LocalDateTime expiryTime;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public EmailActionToken() {}
+
+    public EmailActionToken(String token, Long entryId, String action, LocalDateTime expiryTime) {
+        this.token = token;
+        this.entryId = entryId;
+        this.action = action;
+        this.expiryTime = expiryTime;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public Long getEntryId() { return entryId; }
+    public void setEntryId(Long entryId) { this.entryId = entryId; }
+
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public LocalDateTime getExpiryTime() { return expiryTime; }
+    public void setExpiryTime(LocalDateTime expiryTime) { this.expiryTime = expiryTime; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
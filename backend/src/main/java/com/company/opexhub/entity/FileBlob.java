@@ -0,0 +1,73 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * A stored attachment body, kept once per distinct content under its SHA-256.
+ * InitiativeFile rows reference it; refCount tracks how many, and the blob file is removed
+ * when the last reference is deleted.
+ */
+@Entity
+@Table(name = "OPEX_FILE_BLOBS")
+public class FileBlob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_blob_seq")
+    @SequenceGenerator(name = "file_blob_seq", sequenceName = "OPEX_FILE_BLOBS_SEQ", allocationSize = 50)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 64)
+    @Column(name = "sha256", nullable = false, unique = true)
+    private String sha256;
+
+    @NotBlank
+    @Size(max = 500)
+    @Column(name = "storage_path", nullable = false)
+    private String storagePath;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public FileBlob() {}
+
+    public FileBlob(String sha256, String storagePath, Long fileSize) {
+        this.sha256 = sha256;
+        this.storagePath = storagePath;
+        this.fileSize = fileSize;
+        this.refCount = 1;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getSha256() { return sha256; }
+    public void setSha256(String sha256) { this.sha256 = sha256; }
+
+    public String getStoragePath() { return storagePath; }
+    public void setStoragePath(String storagePath) { this.storagePath = storagePath; }
+
+    public Long getFileSize() { return fileSize; }
+    public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+
+    public Integer getRefCount() { return refCount; }
+    public void setRefCount(Integer refCount) { this.refCount = refCount; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -13,6 +13,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -27,11 +28,14 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
-@Table(name = "OPEX_INITIATIVES")
+@Table(name = "OPEX_INITIATIVES", indexes = {
+    // Keyset pagination of the initiative list (newest first)
+    @Index(name = "IDX_OPEX_INITIATIVES_CREATED", columnList = "created_at, id")
+})
 public class Initiative {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "initiative_seq")
-    @SequenceGenerator(name = "initiative_seq", sequenceName = "OPEX_INITIATIVE_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "initiative_seq", sequenceName = "OPEX_INITIATIVE_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -5,13 +5,14 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
 @Table(name = "OPEX_INITIATIVE_FILES")
 public class InitiativeFile {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "initiative_file_seq")
-    @SequenceGenerator(name = "initiative_file_seq", sequenceName = "OPEX_INITIATIVE_FILE_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "initiative_file_seq", sequenceName = "OPEX_INITIATIVE_FILE_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -39,6 +40,12 @@ public class InitiativeFile {
     @JsonBackReference
     private Initiative initiative;
 
+    // Null for files stored before content-addressed storage
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    @JsonIgnore
+    private FileBlob blob;
+
     // Constructors
     public InitiativeFile() {}
 
@@ -77,4 +84,7 @@ public class InitiativeFile {
 
     public Initiative getInitiative() { return initiative; }
     public void setInitiative(Initiative initiative) { this.initiative = initiative; }
+
+    public FileBlob getBlob() { return blob; }
+    public void setBlob(FileBlob blob) { this.blob = blob; }
 }
\ No newline at end of file
@@ -28,7 +28,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 public class InitiativeMom {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "initiative_mom_seq")
-    @SequenceGenerator(name = "initiative_mom_seq", sequenceName = "OPEX_INITIATIVE_MOM_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "initiative_mom_seq", sequenceName = "OPEX_INITIATIVE_MOM_SEQ", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
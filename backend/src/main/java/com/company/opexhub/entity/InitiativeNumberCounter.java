@@ -0,0 +1,57 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Next unallocated value of one initiative number sequence, e.g. all initiatives of a site in a
+ * year or those of one discipline at a site in a year. Values are handed out in blocks by
+ * InitiativeNumberSequencer.
+ */
+@Entity
+@Table(name = "OPEX_INIT_NUMBER_COUNTERS")
+public class InitiativeNumberCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "initiative_number_counter_seq")
+    @SequenceGenerator(name = "initiative_number_counter_seq", sequenceName = "OPEX_INIT_NUMBER_COUNTERS_SEQ", allocationSize = 50)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 200)
+    @Column(name = "counter_key", nullable = false, unique = true)
+    private String counterKey;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InitiativeNumberCounter() {}
+
+    public InitiativeNumberCounter(String counterKey, Long nextValue) {
+        this.counterKey = counterKey;
+        this.nextValue = nextValue;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getCounterKey() { return counterKey; }
+    public void setCounterKey(String counterKey) { this.counterKey = counterKey; }
+
+    public Long getNextValue() { return nextValue; }
+    public void setNextValue(Long nextValue) { this.nextValue = nextValue; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -26,7 +26,7 @@ public class MonthlyMonitoringEntry {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_monitoring_seq")
-    @SequenceGenerator(name = "monthly_monitoring_seq", sequenceName = "OPEX_MONTHLY_MON_SEQ", allocationSize = 1, initialValue = 1)
+    @SequenceGenerator(name = "monthly_monitoring_seq", sequenceName = "OPEX_MONTHLY_MON_SEQ", allocationSize = 50, initialValue = 1)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -11,7 +11,7 @@ public class TimelineEntry {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_entry_seq")
-    @SequenceGenerator(name = "timeline_entry_seq", sequenceName = "OPEX_TIMELINE_ENT_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "timeline_entry_seq", sequenceName = "OPEX_TIMELINE_ENT_SEQ", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
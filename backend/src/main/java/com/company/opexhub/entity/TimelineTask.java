@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 public class TimelineTask {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_task_seq")
-    @SequenceGenerator(name = "timeline_task_seq", sequenceName = "OPEX_TIMELINE_TASK_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "timeline_task_seq", sequenceName = "OPEX_TIMELINE_TASK_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank
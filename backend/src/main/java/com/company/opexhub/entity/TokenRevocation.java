@@ -0,0 +1,85 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted JWT revocation, shared by every node through the database.
+ * GLOBAL and USER rows reject tokens issued before revokedBefore; TOKEN rows reject one token id (jti)
+ * until the token would have expired anyway. Every insert also increments TokenRevocationVersion,
+ * which the nodes poll.
+ */
+@Entity
+@Table(name = "OPEX_TOKEN_REVOCATIONS", indexes = {
+    @Index(name = "IDX_OPEX_TOKEN_REV_SCOPE", columnList = "scope")
+})
+public class TokenRevocation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "token_revocation_seq")
+    // Revocations are rare; the sequence keeps the increment of 1 it was created with
+    @SequenceGenerator(name = "token_revocation_seq", sequenceName = "OPEX_TOKEN_REVOCATIONS_SEQ", allocationSize = 1)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 10)
+    @Column(name = "scope", nullable = false)
+    private String scope; // GLOBAL, USER, TOKEN
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Size(max = 64)
+    @Column(name = "token_id")
+    private String tokenId;
+
+    // Tokens issued at or before this instant are rejected (GLOBAL / USER)
+    @Column(name = "revoked_before")
+    private LocalDateTime revokedBefore;
+
+    // After this instant the row can no longer match a live token and is purged
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public TokenRevocation() {}
+
+    public TokenRevocation(String scope, Long userId, String tokenId, LocalDateTime revokedBefore, LocalDateTime expiresAt) {
+        this.scope = scope;
+        this.userId = userId;
+        this.tokenId = tokenId;
+        this.revokedBefore = revokedBefore;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getScope() { return scope; }
+    public void setScope(String scope) { this.scope = scope; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getTokenId() { return tokenId; }
+    public void setTokenId(String tokenId) { this.tokenId = tokenId; }
+
+    public LocalDateTime getRevokedBefore() { return revokedBefore; }
+    public void setRevokedBefore(LocalDateTime revokedBefore) { this.revokedBefore = revokedBefore; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,41 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Single row holding the revocation version every node polls. Each revocation increments it in the
+ * same transaction as its insert; the increment row-locks it until commit, so versions are handed out
+ * in commit order and a node that has loaded version N has seen every revocation up to N.
+ */
+@Entity
+@Table(name = "OPEX_TOKEN_REVOCATION_VERSION")
+public class TokenRevocationVersion {
+    public static final Long ROW_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public TokenRevocationVersion() {}
+
+    public TokenRevocationVersion(Long id) {
+        this.id = id;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
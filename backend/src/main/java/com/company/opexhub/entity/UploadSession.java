@@ -0,0 +1,121 @@
+package com.company.opexhub.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * An in-progress chunked upload. Received chunks live as files in the session's staging
+ * directory; the row carries the declared file and the last activity used to expire abandoned
+ * sessions. It is deleted once the upload completes.
+ */
+@Entity
+@Table(name = "OPEX_UPLOAD_SESSIONS", indexes = {
+    @Index(name = "IDX_OPEX_UPLOAD_SESSION_ACTIVITY", columnList = "last_activity_at")
+})
+public class UploadSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "upload_session_seq")
+    @SequenceGenerator(name = "upload_session_seq", sequenceName = "OPEX_UPLOAD_SESSIONS_SEQ", allocationSize = 50)
+    private Long id;
+
+    @NotBlank
+    @Size(max = 36)
+    @Column(name = "upload_id", nullable = false, unique = true)
+    private String uploadId;
+
+    @Column(name = "initiative_id", nullable = false)
+    private Long initiativeId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotBlank
+    @Size(max = 255)
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Size(max = 100)
+    @Column(name = "file_type")
+    private String fileType;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    @NotBlank
+    @Size(max = 20)
+    @Column(name = "status", nullable = false)
+    private String status; // OPEN, COMPLETING
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    // Constructors
+    public UploadSession() {}
+
+    public UploadSession(String uploadId, Long initiativeId, Long userId, String fileName, String fileType,
+                         Long fileSize, Integer chunkSize, Integer chunkCount) {
+        this.uploadId = uploadId;
+        this.initiativeId = initiativeId;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.fileSize = fileSize;
+        this.chunkSize = chunkSize;
+        this.chunkCount = chunkCount;
+        this.status = "OPEN";
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        lastActivityAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getUploadId() { return uploadId; }
+    public void setUploadId(String uploadId) { this.uploadId = uploadId; }
+
+    public Long getInitiativeId() { return initiativeId; }
+    public void setInitiativeId(Long initiativeId) { this.initiativeId = initiativeId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public String getFileType() { return fileType; }
+    public void setFileType(String fileType) { this.fileType = fileType; }
+
+    public Long getFileSize() { return fileSize; }
+    public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
+
+    public Integer getChunkSize() { return chunkSize; }
+    public void setChunkSize(Integer chunkSize) { this.chunkSize = chunkSize; }
+
+    public Integer getChunkCount() { return chunkCount; }
+    public void setChunkCount(Integer chunkCount) { this.chunkCount = chunkCount; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getLastActivityAt() { return lastActivityAt; }
+    public void setLastActivityAt(LocalDateTime lastActivityAt) { this.lastActivityAt = lastActivityAt; }
+}
@@ -17,7 +17,7 @@ import java.util.Set;
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
-    @SequenceGenerator(name = "user_seq", sequenceName = "OPEX_USER_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "user_seq", sequenceName = "OPEX_USER_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -7,7 +7,7 @@ import javax.persistence.*;
 public class WfMaster {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wf_master_seq")
-    @SequenceGenerator(name = "wf_master_seq", sequenceName = "OPEX_WF_MASTER_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "wf_master_seq", sequenceName = "OPEX_WF_MASTER_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "stage_number", nullable = false)
@@ -9,7 +9,7 @@ import javax.validation.constraints.Size;
 public class WorkflowStage {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workflow_stage_seq")
-    @SequenceGenerator(name = "workflow_stage_seq", sequenceName = "OPEX_WF_STAGE_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "workflow_stage_seq", sequenceName = "OPEX_WF_STAGE_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "stage_number")
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 public class WorkflowTransaction {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workflow_transaction_seq")
-    @SequenceGenerator(name = "workflow_transaction_seq", sequenceName = "OPEX_WF_TRANS_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "workflow_transaction_seq", sequenceName = "OPEX_WF_TRANS_SEQ", allocationSize = 50)
     private Long id;
 
     @NotNull
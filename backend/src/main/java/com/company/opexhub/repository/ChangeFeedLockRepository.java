@@ -0,0 +1,19 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.ChangeFeedLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ChangeFeedLockRepository extends JpaRepository<ChangeFeedLock, Long> {
+
+    // Row-locks the feed lock until the surrounding transaction ends; returns 0 when the row does not exist
+    @Modifying
+    @Query("UPDATE ChangeFeedLock l SET l.lockedAt = :now WHERE l.id = :id")
+    int lock(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
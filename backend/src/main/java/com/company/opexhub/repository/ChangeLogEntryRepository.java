@@ -0,0 +1,21 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChangeLogEntryRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    // Changes after the cursor, in cursor order (ids are drawn in commit order, see ChangeLogService)
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.id > :since ORDER BY c.id")
+    List<ChangeLogEntry> findChangesSince(@Param("since") Long since, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM ChangeLogEntry c")
+    long findLatestId();
+}
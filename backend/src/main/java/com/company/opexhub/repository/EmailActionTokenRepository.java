@@ -0,0 +1,29 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.EmailActionToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface EmailActionTokenRepository extends JpaRepository<EmailActionToken, Long> {
+
+    Optional<EmailActionToken> findByToken(String token);
+
+    // Returns 0 when another instance already consumed the token
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailActionToken t WHERE t.token = :token")
+    int deleteByTokenValue(@Param("token") String token);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailActionToken t WHERE t.expiryTime <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,34 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findBySha256(String sha256);
+
+    // Returns 0 when no live blob has this hash yet
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount + 1 WHERE b.sha256 = :sha256 AND b.refCount > 0")
+    int incrementRefCount(@Param("sha256") String sha256);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 WHERE b.id = :id AND b.refCount > 0")
+    int decrementRefCount(@Param("id") Long id);
+
+    // Returns 1 only when the blob has no references left
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.id = :id AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
@@ -2,11 +2,28 @@ package com.company.opexhub.repository;
 
 import com.company.opexhub.entity.InitiativeFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface InitiativeFileRepository extends JpaRepository<InitiativeFile, Long> {
     List<InitiativeFile> findByInitiativeId(Long initiativeId);
     void deleteByInitiativeId(Long initiativeId);
+
+    // Files stored before content-addressed storage, still at their per-initiative path
+    List<InitiativeFile> findByBlobIsNull();
+
+    // Archive downloads: initiative fetched with the rows, stable order for deterministic entry names
+    @Query("SELECT f FROM InitiativeFile f JOIN FETCH f.initiative i WHERE i.id = :initiativeId ORDER BY f.id")
+    List<InitiativeFile> findForArchiveByInitiativeId(@Param("initiativeId") Long initiativeId);
+
+    @Query("SELECT f FROM InitiativeFile f JOIN FETCH f.initiative i WHERE i.site = :site " +
+           "AND i.createdAt >= :startDate AND i.createdAt <= :endDate ORDER BY i.id, f.id")
+    List<InitiativeFile> findForArchiveBySiteAndFinancialYear(@Param("site") String site,
+                                                              @Param("startDate") LocalDateTime startDate,
+                                                              @Param("endDate") LocalDateTime endDate);
 }
\ No newline at end of file
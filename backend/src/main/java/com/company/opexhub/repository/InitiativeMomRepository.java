@@ -1,6 +1,7 @@
 package com.company.opexhub.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,4 +66,10 @@ public interface InitiativeMomRepository extends JpaRepository<InitiativeMom, Lo
            "FROM InitiativeMom m WHERE m.initiative.id = :initiativeId " +
            "ORDER BY year DESC, month DESC")
     List<Object[]> findDistinctMonthsByInitiativeId(@Param("initiativeId") Long initiativeId);
-}
\ No newline at end of file
+
+    /**
+     * Initiative id, meeting title and content of the MOMs of the given initiatives (search indexing)
+     */
+    @Query("SELECT m.initiative.id, m.meetingTitle, m.content FROM InitiativeMom m WHERE m.initiative.id IN :initiativeIds")
+    List<Object[]> findSearchTextByInitiativeIds(@Param("initiativeIds") Collection<Long> initiativeIds);
+}
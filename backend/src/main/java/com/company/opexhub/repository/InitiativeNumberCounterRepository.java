@@ -0,0 +1,25 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.InitiativeNumberCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface InitiativeNumberCounterRepository extends JpaRepository<InitiativeNumberCounter, Long> {
+
+    // Row-locks the counter until the surrounding transaction ends; returns 0 when the counter does not exist yet
+    @Transactional
+    @Modifying
+    @Query("UPDATE InitiativeNumberCounter c SET c.nextValue = c.nextValue + :count, c.updatedAt = :now " +
+           "WHERE c.counterKey = :counterKey")
+    int advance(@Param("counterKey") String counterKey, @Param("count") long count, @Param("now") LocalDateTime now);
+
+    @Query("SELECT c.nextValue FROM InitiativeNumberCounter c WHERE c.counterKey = :counterKey")
+    Long findNextValue(@Param("counterKey") String counterKey);
+}
@@ -1,54 +1,41 @@
 package com.company.opexhub.repository;
 
+import com.company.opexhub.dto.InitiativeSummaryDTO;
 import com.company.opexhub.entity.Initiative;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface InitiativeRepository extends JpaRepository<Initiative, Long> {
+public interface InitiativeRepository extends JpaRepository<Initiative, Long>, JpaSpecificationExecutor<Initiative>,
+        InitiativeRepositoryCustom {
     
     Page<Initiative> findByStatus(String status, Pageable pageable);
     
     Page<Initiative> findBySite(String site, Pageable pageable);
     
-    Page<Initiative> findByStatusAndSite(String status, String site, Pageable pageable);
-    
     Page<Initiative> findByCreatedBy_Id(Long userId, Pageable pageable);
     
-    @Query("SELECT i FROM Initiative i WHERE i.title LIKE %:title%")
-    Page<Initiative> findByTitleContaining(@Param("title") String title, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.initiativeNumber LIKE %:initiativeNumber%")
-    Page<Initiative> findByInitiativeNumberContaining(@Param("initiativeNumber") String initiativeNumber, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.status = :status AND i.site = :site AND i.title LIKE %:title%")
-    Page<Initiative> findByStatusAndSiteAndTitleContaining(@Param("status") String status, 
-                                                          @Param("site") String site, 
-                                                          @Param("title") String title, 
-                                                          Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.status = :status AND i.site = :site AND i.initiativeNumber LIKE %:initiativeNumber%")
-    Page<Initiative> findByStatusAndSiteAndInitiativeNumberContaining(@Param("status") String status, 
-                                                                     @Param("site") String site, 
-                                                                     @Param("initiativeNumber") String initiativeNumber, 
-                                                                     Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.status = :status AND i.initiativeNumber LIKE %:initiativeNumber%")
-    Page<Initiative> findByStatusAndInitiativeNumberContaining(@Param("status") String status, 
-                                                              @Param("initiativeNumber") String initiativeNumber, 
-                                                              Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.site = :site AND i.initiativeNumber LIKE %:initiativeNumber%")
-    Page<Initiative> findBySiteAndInitiativeNumberContaining(@Param("site") String site, 
-                                                            @Param("initiativeNumber") String initiativeNumber, 
-                                                            Pageable pageable);
+    // List rows without CLOBs: creator and first rejected stage joined in the same statement
+    @Query("SELECT new com.company.opexhub.dto.InitiativeSummaryDTO(" +
+           "i.id, i.title, i.initiativeNumber, i.status, i.priority, i.site, i.discipline, i.budgetType, " +
+           "i.expectedSavings, i.actualSavings, i.targetValue, i.estimatedCapex, i.progressPercentage, i.currentStage, " +
+           "i.requiresMoc, i.requiresCapex, i.mocNumber, i.capexNumber, i.startDate, i.endDate, " +
+           "i.createdAt, i.updatedAt, i.initiatorName, u.fullName, u.email, " +
+           "w.actionBy, w.comment, w.actionDate, w.stageName, w.stageNumber) " +
+           "FROM Initiative i LEFT JOIN i.createdBy u " +
+           "LEFT JOIN WorkflowTransaction w ON w.initiativeId = i.id AND i.status = 'Rejected' AND w.approveStatus = 'rejected' " +
+           "WHERE i.id IN :ids AND (w.id IS NULL OR w.stageNumber = " +
+           "(SELECT MIN(r.stageNumber) FROM WorkflowTransaction r WHERE r.initiativeId = i.id AND r.approveStatus = 'rejected'))")
+    List<InitiativeSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
     
     List<Initiative> findByPriority(String priority);
     
@@ -171,31 +158,4 @@ public interface InitiativeRepository extends JpaRepository<Initiative, Long> {
         "AND (:year IS NULL OR :year = '' OR EXTRACT(YEAR FROM m.created_at) = :year) " +
         "ORDER BY i.initiative_number, m.meeting_date DESC", nativeQuery = true)
     List<Object[]> getMOMReportDataFiltered(@Param("site") String site, @Param("year") Integer year);
-    
-    // Financial Year filtering methods - using same FY logic as DashboardService
-    // Financial year runs from April 1 to March 31
-    
-    @Query("SELECT i FROM Initiative i WHERE i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findByFinancialYear(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.site = :site AND i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findBySiteAndFinancialYear(@Param("site") String site, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.status = :status AND i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findByStatusAndFinancialYear(@Param("status") String status, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.status = :status AND i.site = :site AND i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findByStatusAndSiteAndFinancialYear(@Param("status") String status, @Param("site") String site, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.title LIKE %:title% AND i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findByTitleContainingAndFinancialYear(@Param("title") String title, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.initiativeNumber LIKE %:initiativeNumber% AND i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findByInitiativeNumberContainingAndFinancialYear(@Param("initiativeNumber") String initiativeNumber, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.status = :status AND i.site = :site AND i.title LIKE %:title% AND i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findByStatusAndSiteAndTitleContainingAndFinancialYear(@Param("status") String status, @Param("site") String site, @Param("title") String title, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
-    
-    @Query("SELECT i FROM Initiative i WHERE i.status = :status AND i.site = :site AND i.initiativeNumber LIKE %:initiativeNumber% AND i.createdAt >= :startDate AND i.createdAt <= :endDate")
-    Page<Initiative> findByStatusAndSiteAndInitiativeNumberContainingAndFinancialYear(@Param("status") String status, @Param("site") String site, @Param("initiativeNumber") String initiativeNumber, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
 }
\ No newline at end of file
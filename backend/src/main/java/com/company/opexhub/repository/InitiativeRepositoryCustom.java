@@ -0,0 +1,30 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.Initiative;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.Tuple;
+import java.util.Collection;
+import java.util.List;
+
+public interface InitiativeRepositoryCustom {
+
+    /**
+     * First limit initiatives matching spec, newest first (createdAt DESC, id DESC), without a count query;
+     * rows without createdAt are skipped
+     */
+    List<Initiative> findNewestFirst(Specification<Initiative> spec, int limit);
+
+    /**
+     * Ids of one page of initiatives matching spec, without loading the entities
+     */
+    Page<Long> findIds(Specification<Initiative> spec, Pageable pageable);
+
+    /**
+     * Selected columns of the given initiatives: id, then the attributes in order, then creator
+     * fullName and email when withCreator is set
+     */
+    List<Tuple> findColumnsByIdIn(Collection<Long> ids, List<String> attributes, boolean withCreator);
+}
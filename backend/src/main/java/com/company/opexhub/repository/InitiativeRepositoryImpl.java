@@ -0,0 +1,108 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom part of InitiativeRepository: criteria queries JpaSpecificationExecutor cannot express,
+ * i.e. a plain row limit without COUNT(*) for keyset pages, id-only pages for list projections and
+ * sparse column selections.
+ */
+public class InitiativeRepositoryImpl implements InitiativeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Initiative> findNewestFirst(Specification<Initiative> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Initiative> query = cb.createQuery(Initiative.class);
+        Root<Initiative> root = query.from(Initiative.class);
+        // A row without createdAt has no keyset position (and databases disagree on where NULL sorts)
+        Predicate predicate = cb.isNotNull(root.get("createdAt"));
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicate = cb.and(predicate, filter);
+            }
+        }
+        query.where(predicate);
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Page<Long> findIds(Specification<Initiative> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Initiative> root = query.from(Initiative.class);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        query.select(root.<Long>get("id"));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        } else {
+            // Stable order so consecutive pages neither repeat nor skip rows
+            query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        }
+
+        TypedQuery<Long> pageQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            pageQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(pageQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<Tuple> findColumnsByIdIn(Collection<Long> ids, List<String> attributes, boolean withCreator) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Initiative> root = query.from(Initiative.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id"));
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute));
+        }
+        if (withCreator) {
+            Join<Initiative, User> creator = root.join("createdBy", JoinType.LEFT);
+            selections.add(creator.get("fullName"));
+            selections.add(creator.get("email"));
+        }
+        query.multiselect(selections).where(root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private long count(Specification<Initiative> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Initiative> root = query.from(Initiative.class);
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        query.select(cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
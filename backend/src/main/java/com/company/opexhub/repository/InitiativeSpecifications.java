@@ -0,0 +1,76 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.Initiative;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Composable criteria for Initiative queries. Each factory returns null for a null argument,
+ * which Specification.where / and treat as "no restriction", so any combination of filters
+ * can be chained without branching.
+ */
+public final class InitiativeSpecifications {
+
+    private InitiativeSpecifications() {
+    }
+
+    public static Specification<Initiative> hasStatus(String status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Initiative> hasSite(String site) {
+        return site == null ? null : (root, query, cb) -> cb.equal(root.get("site"), site);
+    }
+
+    public static Specification<Initiative> hasDiscipline(String discipline) {
+        return discipline == null ? null : (root, query, cb) -> cb.equal(root.get("discipline"), discipline);
+    }
+
+    /**
+     * Same semantics as the dashboard queries: a missing budget type counts as "budgeted"
+     */
+    public static Specification<Initiative> hasBudgetType(String budgetType) {
+        if (budgetType == null) {
+            return null;
+        }
+        String value = budgetType.toLowerCase(Locale.ROOT);
+        return (root, query, cb) ->
+            cb.equal(cb.lower(cb.coalesce(root.<String>get("budgetType"), "budgeted")), value);
+    }
+
+    public static Specification<Initiative> atStage(Integer stage) {
+        return stage == null ? null : (root, query, cb) -> cb.equal(root.get("currentStage"), stage);
+    }
+
+    public static Specification<Initiative> createdBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.between(root.<LocalDateTime>get("createdAt"), start, end);
+    }
+
+    /**
+     * Case-insensitive substring match on title or initiative number
+     */
+    public static Specification<Initiative> textContains(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + text.trim().toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.or(
+            cb.like(cb.lower(root.<String>get("title")), pattern, '\\'),
+            cb.like(cb.lower(root.<String>get("initiativeNumber")), pattern, '\\'));
+    }
+
+    /**
+     * Rows strictly after the given key in (createdAt DESC, id DESC) order
+     */
+    public static Specification<Initiative> after(LocalDateTime createdAt, long id) {
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.<LocalDateTime>get("createdAt"), createdAt),
+            cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.<Long>get("id"), id)));
+    }
+}
@@ -141,6 +141,23 @@ public interface MonthlyMonitoringEntryRepository extends JpaRepository<MonthlyM
                                         @Param("budgetType") String budgetType,
                                         @Param("category") String category);
 
+    // Savings forecast query - monthly achieved/target series per initiative and category
+    @Query("SELECT i.id, i.site, COALESCE(LOWER(i.budgetType), 'budgeted') as budgetType, LOWER(mme.category) as category, " +
+           "mme.monitoringMonth, " +
+           "SUM(CASE WHEN mme.achievedValue IS NOT NULL THEN mme.achievedValue ELSE 0 END) as actualSavings, " +
+           "SUM(CASE WHEN mme.targetValue IS NOT NULL THEN mme.targetValue ELSE 0 END) as targetSavings " +
+           "FROM MonthlyMonitoringEntry mme " +
+           "JOIN mme.initiative i " +
+           "WHERE mme.monitoringMonth >= :startMonth AND mme.monitoringMonth <= :endMonth " +
+           "AND (:site IS NULL OR :site = 'all' OR i.site = :site) " +
+           "AND (:budgetType IS NULL OR :budgetType = 'all' OR COALESCE(LOWER(i.budgetType), 'budgeted') = :budgetType) " +
+           "GROUP BY i.id, i.site, COALESCE(LOWER(i.budgetType), 'budgeted'), LOWER(mme.category), mme.monitoringMonth " +
+           "ORDER BY i.id, LOWER(mme.category), mme.monitoringMonth")
+    List<Object[]> findInitiativeMonthlySeries(@Param("startMonth") String startMonth,
+                                               @Param("endMonth") String endMonth,
+                                               @Param("site") String site,
+                                               @Param("budgetType") String budgetType);
+
     // Query for last financial year cumulative data
     @Query("SELECT SUM(CASE WHEN mme.achievedValue IS NOT NULL THEN mme.achievedValue ELSE 0 END) as cumulativeSavings " +
            "FROM MonthlyMonitoringEntry mme " +
@@ -205,6 +222,12 @@ public interface MonthlyMonitoringEntryRepository extends JpaRepository<MonthlyM
     @Query("SELECT SUM(mme.achievedValue) FROM MonthlyMonitoringEntry mme WHERE mme.initiative.id = :initiativeId AND mme.achievedValue IS NOT NULL AND mme.isFinalized = 'Y'")
     java.math.BigDecimal sumAchievedValueByInitiativeId(@Param("initiativeId") Long initiativeId);
 
+    // Timeline projection for a particular initiative - scalar columns only, CLOB remarks are not loaded
+    @Query("SELECT m.id, m.monitoringMonth, m.kpiDescription, m.category, m.targetValue, m.achievedValue, " +
+           "m.deviation, m.deviationPercentage, m.isFinalized, m.faApproval, m.enteredBy, m.updatedAt " +
+           "FROM MonthlyMonitoringEntry m WHERE m.initiative.id = :initiativeId ORDER BY m.monitoringMonth")
+    List<Object[]> findTimelineRowsByInitiativeId(@Param("initiativeId") Long initiativeId);
+
     // All Years / Overall Aggregate Queries - Required for Dashboard "All Year" filter
     
     // Sum all achieved values across all monitoring entries (for "All Years" filter)
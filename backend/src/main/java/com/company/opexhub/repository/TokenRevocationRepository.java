@@ -0,0 +1,29 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    @Query("SELECT MAX(r.revokedBefore) FROM TokenRevocation r WHERE r.scope = 'GLOBAL' AND r.expiresAt > :now")
+    LocalDateTime findGlobalRevokedBefore(@Param("now") LocalDateTime now);
+
+    @Query("SELECT r.userId, MAX(r.revokedBefore) FROM TokenRevocation r " +
+           "WHERE r.scope = 'USER' AND r.expiresAt > :now GROUP BY r.userId")
+    List<Object[]> findUserRevokedBefore(@Param("now") LocalDateTime now);
+
+    @Query("SELECT r.tokenId FROM TokenRevocation r WHERE r.scope = 'TOKEN' AND r.expiresAt > :now")
+    List<String> findRevokedTokenIds(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,23 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.TokenRevocationVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TokenRevocationVersionRepository extends JpaRepository<TokenRevocationVersion, Long> {
+
+    // Version polled by every node; null until the row exists
+    @Query("SELECT v.version FROM TokenRevocationVersion v WHERE v.id = :id")
+    Long findVersion(@Param("id") Long id);
+
+    // Row-locks the version until the surrounding transaction ends; returns 0 when the row does not exist
+    @Modifying
+    @Query("UPDATE TokenRevocationVersion v SET v.version = v.version + 1, v.updatedAt = :now WHERE v.id = :id")
+    int increment(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
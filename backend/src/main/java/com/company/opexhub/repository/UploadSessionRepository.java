@@ -0,0 +1,46 @@
+package com.company.opexhub.repository;
+
+import com.company.opexhub.entity.UploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+
+    Optional<UploadSession> findByUploadId(String uploadId);
+
+    // Holds the session row until the caller's transaction ends; changeStatus waits for it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UploadSession s WHERE s.uploadId = :uploadId")
+    Optional<UploadSession> findByUploadIdForUpdate(@Param("uploadId") String uploadId);
+
+    List<UploadSession> findByLastActivityAtBefore(LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.lastActivityAt = :now WHERE s.uploadId = :uploadId")
+    int touch(@Param("uploadId") String uploadId, @Param("now") LocalDateTime now);
+
+    // Returns 0 when the status was not fromStatus (e.g. another request is already completing the upload)
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = :toStatus, s.lastActivityAt = :now " +
+           "WHERE s.uploadId = :uploadId AND s.status = :fromStatus")
+    int changeStatus(@Param("uploadId") String uploadId, @Param("fromStatus") String fromStatus,
+                     @Param("toStatus") String toStatus, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.uploadId = :uploadId")
+    int deleteByUploadIdValue(@Param("uploadId") String uploadId);
+}
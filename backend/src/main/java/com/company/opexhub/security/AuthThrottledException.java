@@ -0,0 +1,22 @@
+package com.company.opexhub.security;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * Thrown when a login or registration attempt is refused before any password hashing, either
+ * because the account or client IP ran out of attempts or the hashing executor is saturated.
+ * Extends InternalAuthenticationServiceException so the AuthenticationManager rethrows it as-is
+ * instead of reporting it as bad credentials.
+ */
+public class AuthThrottledException extends InternalAuthenticationServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AuthThrottledException(String message) {
+        super(message);
+    }
+
+    public AuthThrottledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,7 +1,9 @@
 package com.company.opexhub.security;
 
+import com.company.opexhub.config.MetricsConfig;
 import com.company.opexhub.service.CustomUserDetailsService;
 import com.company.opexhub.service.TokenInvalidationService;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +32,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private TokenInvalidationService tokenInvalidationService;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Override
@@ -37,23 +42,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                // Check if token was issued before mass logout
-                Date tokenIssuedAt = tokenProvider.getIssuedAtDateFromJWT(jwt);
-                
-                if (!tokenInvalidationService.isTokenValid(tokenIssuedAt)) {
-                    logger.info("Token invalidated due to mass logout");
+            // Verify the token once; issue time and user id come from the same claims
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.getVerifiedClaims(jwt) : null;
+
+            if (claims != null) {
+                Date tokenIssuedAt = claims.getIssuedAt();
+                Long userId = Long.parseLong(claims.getSubject());
+
+                // Check if token was revoked by mass logout, for this user or by token id
+                if (!tokenInvalidationService.isTokenValid(userId, claims.getId(), tokenIssuedAt)) {
+                    logger.info("Token revoked for user {}", userId);
                     filterChain.doFilter(request, response);
                     return;
                 }
-                
-                Long userId = tokenProvider.getUserIdFromJWT(jwt);
 
-                UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+                // Reuse the principal built for an earlier request with the same token
+                UserDetails userDetails = userPrincipalCache.get(userId, tokenIssuedAt);
+                if (userDetails == null) {
+                    userDetails = customUserDetailsService.loadUserById(userId);
+                    userPrincipalCache.put(userId, tokenIssuedAt, userDetails);
+                }
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (userDetails instanceof UserPrincipal) {
+                    MetricsConfig.recordUserSite(request, ((UserPrincipal) userDetails).getSite());
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
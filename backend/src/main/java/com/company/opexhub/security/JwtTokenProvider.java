@@ -7,7 +7,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
@@ -20,12 +22,27 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private int jwtExpirationInMs;
 
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
+    @Value("${jwt.claims-cache.stripes:16}")
+    private int claimsCacheStripes;
+
+    // null when jwt.claims-cache.max-entries is 0: every request verifies the signature
+    private VerifiedClaimsCache verifiedClaims;
+
+    @PostConstruct
+    public void createClaimsCache() {
+        verifiedClaims = claimsCacheMaxEntries > 0 ? new VerifiedClaimsCache(claimsCacheMaxEntries, claimsCacheStripes) : null;
+    }
+
     public String generateToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(Long.toString(userPrincipal.getId()))
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
@@ -34,27 +51,27 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
-
-        return Long.parseLong(claims.getSubject());
+        return Long.parseLong(parseClaims(token).getSubject());
     }
     
     public Date getIssuedAtDateFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getIssuedAt();
+        return parseClaims(token).getIssuedAt();
     }
 
     public boolean validateToken(String authToken) {
+        return getVerifiedClaims(authToken) != null;
+    }
+
+    /**
+     * Verify the token once and return its claims, or null if it is invalid or expired.
+     * Verified claims are cached (striped LRU keyed by the token's signature segment) until the
+     * token's expiry, so repeated requests with the same token skip the signature check. The HS512
+     * signature already identifies header and payload; a hit returns the claims verified for that
+     * signature, never claims read from the presented payload.
+     */
+    public Claims getVerifiedClaims(String authToken) {
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(authToken);
-            return true;
+            return parseClaims(authToken);
         } catch (SignatureException ex) {
             logger.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -66,6 +83,39 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty.");
         }
-        return false;
+        return null;
+    }
+
+    private Claims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+
+        String cacheKey = signatureOf(token);
+        if (verifiedClaims == null || cacheKey.isEmpty()) {
+            return verify(token);
+        }
+        long now = System.currentTimeMillis();
+        Claims cached = verifiedClaims.get(cacheKey, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = verify(token);
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : now;
+        verifiedClaims.put(cacheKey, claims, expiresAt);
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        return Jwts.parser()
+                .setSigningKey(jwtSecret)
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    // Segment after the last '.'; empty for an unsigned token, which is never cached
+    private static String signatureOf(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.company.opexhub.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token-bucket throttling of login, registration and password-reset code attempts, per account (email)
+ * and per client IP. Checked before any password hashing so a brute-force run or a login storm is turned
+ * away cheaply. The client IP is the request's remote address, which WebConfig's RemoteIpFilter resolves
+ * from X-Forwarded-For for requests that come through the load balancer.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+
+    @Value("${security.login-throttle.account.capacity:5}")
+    private int accountCapacity;
+
+    @Value("${security.login-throttle.account.refill-per-minute:5}")
+    private double accountRefillPerMinute;
+
+    @Value("${security.login-throttle.ip.capacity:30}")
+    private int ipCapacity;
+
+    @Value("${security.login-throttle.ip.refill-per-minute:30}")
+    private double ipRefillPerMinute;
+
+    // Buckets beyond this bound are not tracked until idle ones are evicted
+    @Value("${security.login-throttle.max-entries:50000}")
+    private int maxEntries;
+
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder accountRejections = new LongAdder();
+    private final LongAdder ipRejections = new LongAdder();
+    private long lastLoggedRejections;
+
+    /**
+     * Take one attempt from the IP and account buckets
+     * @throws AuthThrottledException when either bucket is empty
+     */
+    public void acquire(String email, String clientIp) {
+        if (clientIp != null && !tryConsume(ipBuckets, clientIp, ipCapacity, ipRefillPerMinute)) {
+            ipRejections.increment();
+            throw new AuthThrottledException("Too many attempts from this address, please try again later");
+        }
+        if (email != null && !tryConsume(accountBuckets, email.trim().toLowerCase(), accountCapacity, accountRefillPerMinute)) {
+            accountRejections.increment();
+            throw new AuthThrottledException("Too many attempts for this account, please try again later");
+        }
+    }
+
+    /**
+     * Drop buckets that have refilled completely (they behave exactly like a missing one)
+     */
+    @Scheduled(fixedDelayString = "${security.login-throttle.sweep-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        accountBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+
+        long rejections = getRejectionCount();
+        if (rejections > lastLoggedRejections) {
+            logger.warn("Login throttle rejected {} attempts in the last interval ({} accounts, {} addresses tracked)",
+                    rejections - lastLoggedRejections, accountBuckets.size(), ipBuckets.size());
+            lastLoggedRejections = rejections;
+        }
+    }
+
+    private boolean tryConsume(Map<String, TokenBucket> buckets, String key, int capacity, double refillPerMinute) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxEntries) {
+                return true;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerMinute));
+        }
+        return bucket.tryConsume(System.nanoTime());
+    }
+
+    // Metrics
+    public long getAccountRejections() { return accountRejections.sum(); }
+    public long getIpRejections() { return ipRejections.sum(); }
+    public long getRejectionCount() { return accountRejections.sum() + ipRejections.sum(); }
+
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, double refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume(long now) {
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+        }
+    }
+}
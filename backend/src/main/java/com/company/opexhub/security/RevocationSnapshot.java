@@ -0,0 +1,132 @@
+package com.company.opexhub.security;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory view of the token revocation store, rebuilt by TokenInvalidationService
+ * whenever the store version changes and swapped in with a single volatile write.
+ *
+ * Lookups never allocate: per-user cut-offs live in sorted primitive arrays searched by binary
+ * search, and revoked token ids sit behind a bloom filter so the exact set is only consulted for
+ * the rare ids the filter reports as possibly revoked.
+ */
+public final class RevocationSnapshot {
+
+    private static final int HASH_COUNT = 7;
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int MIN_BITS = 1024;
+
+    public static final RevocationSnapshot EMPTY =
+            new RevocationSnapshot(-1L, Long.MIN_VALUE, Collections.<Long, Long>emptyMap(), Collections.<String>emptyList());
+
+    private final long version;
+    private final long globalRevokedBefore;
+    private final long[] userIds;
+    private final long[] userRevokedBefore;
+    private final long[] bloomBits;
+    private final int bloomMask;
+    private final Set<String> revokedTokenIds;
+
+    /**
+     * @param version             store version this snapshot was built from
+     * @param globalRevokedBefore epoch millis; tokens issued at or before it are revoked (Long.MIN_VALUE for none)
+     * @param userRevokedBefore   user id to epoch millis cut-off
+     * @param revokedTokenIds     individually revoked token ids (jti)
+     */
+    public RevocationSnapshot(long version, long globalRevokedBefore,
+                              Map<Long, Long> userRevokedBefore, Collection<String> revokedTokenIds) {
+        this.version = version;
+        this.globalRevokedBefore = globalRevokedBefore;
+
+        this.userIds = new long[userRevokedBefore.size()];
+        int i = 0;
+        for (Long userId : userRevokedBefore.keySet()) {
+            userIds[i++] = userId;
+        }
+        Arrays.sort(userIds);
+        this.userRevokedBefore = new long[userIds.length];
+        for (i = 0; i < userIds.length; i++) {
+            this.userRevokedBefore[i] = userRevokedBefore.get(userIds[i]);
+        }
+
+        int bits = Math.max(MIN_BITS, Integer.highestOneBit(revokedTokenIds.size() * BITS_PER_ENTRY) << 1);
+        this.bloomBits = new long[bits >>> 6];
+        this.bloomMask = bits - 1;
+        this.revokedTokenIds = new HashSet<>(revokedTokenIds);
+        for (String tokenId : this.revokedTokenIds) {
+            long hash = hash(tokenId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int k = 0; k < HASH_COUNT; k++) {
+                int bit = (h1 + k * h2) & bloomMask;
+                bloomBits[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+
+    /**
+     * True when a token with the given subject, id and issue time (epoch millis) has been revoked.
+     * tokenId may be null for tokens issued before token ids were added.
+     */
+    public boolean isRevoked(long userId, String tokenId, long issuedAt) {
+        if (issuedAt <= globalRevokedBefore) {
+            return true;
+        }
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index >= 0 && issuedAt <= userRevokedBefore[index]) {
+            return true;
+        }
+        return tokenId != null && mightBeRevoked(tokenId) && revokedTokenIds.contains(tokenId);
+    }
+
+    public boolean isGloballyRevoked(long issuedAt) {
+        return issuedAt <= globalRevokedBefore;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getGlobalRevokedBefore() {
+        return globalRevokedBefore;
+    }
+
+    public int getRevokedUserCount() {
+        return userIds.length;
+    }
+
+    public int getRevokedTokenCount() {
+        return revokedTokenIds.size();
+    }
+
+    private boolean mightBeRevoked(String tokenId) {
+        if (revokedTokenIds.isEmpty()) {
+            return false;
+        }
+        long hash = hash(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int k = 0; k < HASH_COUNT; k++) {
+            int bit = (h1 + k * h2) & bloomMask;
+            if ((bloomBits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit FNV-1a over the UTF-16 chars; walks the string in place without copying it
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,110 @@
+package com.company.opexhub.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of authenticated principals so JwtAuthenticationFilter does not reload the
+ * user from the database on every request. Keyed by user id and token issue time; entries are
+ * dropped by TokenInvalidationService on mass logout and when a user's tokens are revoked (password
+ * reset). Users are not edited through the application, so a role or site changed in the database
+ * reaches requests once the entry expires after security.principal-cache.ttl-seconds. A full cache
+ * evicts its expired entries, or failing that the oldest one, instead of starting over empty.
+ */
+@Component
+public class UserPrincipalCache {
+
+    @Value("${security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${security.principal-cache.max-entries:5000}")
+    private int maxEntries;
+
+    private final Map<Key, CachedPrincipal> cache = new ConcurrentHashMap<>();
+
+    public UserDetails get(Long userId, Date issuedAt) {
+        Key key = new Key(userId, issuedAt);
+        CachedPrincipal cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            cache.remove(key, cached);
+            return null;
+        }
+        return cached.principal;
+    }
+
+    public void put(Long userId, Date issuedAt, UserDetails principal) {
+        if (cache.size() >= maxEntries) {
+            evictExpiredOrOldest();
+        }
+        cache.put(new Key(userId, issuedAt), new CachedPrincipal(principal, System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    public void invalidateUser(Long userId) {
+        cache.keySet().removeIf(key -> key.userId.equals(userId));
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    // Every entry gets the same TTL, so the one expiring first is the oldest
+    private void evictExpiredOrOldest() {
+        long now = System.currentTimeMillis();
+        boolean expired = false;
+        Map.Entry<Key, CachedPrincipal> oldest = null;
+        for (Iterator<Map.Entry<Key, CachedPrincipal>> it = cache.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Key, CachedPrincipal> entry = it.next();
+            if (entry.getValue().expiresAt < now) {
+                it.remove();
+                expired = true;
+            } else if (oldest == null || entry.getValue().expiresAt < oldest.getValue().expiresAt) {
+                oldest = entry;
+            }
+        }
+        if (!expired && oldest != null) {
+            cache.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private static final class Key {
+        private final Long userId;
+        private final long issuedAt;
+
+        Key(Long userId, Date issuedAt) {
+            this.userId = userId;
+            this.issuedAt = issuedAt != null ? issuedAt.getTime() : 0L;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return issuedAt == other.issuedAt && userId.equals(other.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * userId.hashCode() + Long.hashCode(issuedAt);
+        }
+    }
+
+    private static final class CachedPrincipal {
+        private final UserDetails principal;
+        private final long expiresAt;
+
+        CachedPrincipal(UserDetails principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.company.opexhub.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of verified JWT claims for JwtTokenProvider, keyed by the token's signature segment.
+ *
+ * Split into stripes, each an access-ordered LinkedHashMap (LRU) guarded by its own monitor, so
+ * concurrent requests only contend when their tokens land in the same stripe instead of all
+ * serialising on one lock. Each stripe holds its share of maxEntries and evicts its own eldest
+ * entry; entries are also dropped when read after their token has expired.
+ */
+final class VerifiedClaimsCache {
+
+    private final Stripe[] stripes;
+
+    /**
+     * @param stripeCount rounded up to a power of two
+     */
+    VerifiedClaimsCache(int maxEntries, int stripeCount) {
+        int count = 1;
+        while (count < stripeCount) {
+            count <<= 1;
+        }
+        int perStripe = Math.max(1, (maxEntries + count - 1) / count);
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * @return the cached claims, or null when absent or expired at now
+     */
+    Claims get(String key, long now) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            CachedClaims cached = stripe.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt <= now) {
+                stripe.remove(key);
+                return null;
+            }
+            return cached.claims;
+        }
+    }
+
+    void put(String key, Claims claims, long expiresAt) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, new CachedClaims(claims, expiresAt));
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, CachedClaims> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static final class CachedClaims {
+        private final Claims claims;
+        private final long expiresAt;
+
+        CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
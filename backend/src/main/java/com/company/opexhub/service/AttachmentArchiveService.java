@@ -0,0 +1,142 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.InitiativeFile;
+import com.company.opexhub.repository.InitiativeFileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams initiative attachments as a ZIP archive straight to the response.
+ *
+ * Files are copied through one fixed-size buffer per archive, so heap use does not depend on the
+ * number or size of the files. Entry names are derived in file id order: a repeated name becomes
+ * "name (2).ext", "name (3).ext" and so on, so the same selection always yields the same archive
+ * layout. Files missing on disk are listed in MISSING_FILES.txt instead of failing the download.
+ */
+@Service
+public class AttachmentArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentArchiveService.class);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String MISSING_FILES_ENTRY = "MISSING_FILES.txt";
+
+    @Autowired
+    private InitiativeFileRepository initiativeFileRepository;
+
+    public List<InitiativeFile> getInitiativeFiles(Long initiativeId) {
+        return initiativeFileRepository.findForArchiveByInitiativeId(initiativeId);
+    }
+
+    /**
+     * @param financialYear starting year, e.g. 2025 for FY 2025-26
+     */
+    public List<InitiativeFile> getSiteFiles(String site, String financialYear) {
+        LocalDateTime[] fyRange = InitiativeService.getFinancialYearRange(financialYear);
+        return initiativeFileRepository.findForArchiveBySiteAndFinancialYear(site, fyRange[0], fyRange[1]);
+    }
+
+    /**
+     * Write the files as a ZIP archive; with perInitiativeFolders each initiative gets its own folder
+     */
+    public void writeZip(List<InitiativeFile> files, boolean perInitiativeFolders, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // Attachments are mostly PDFs, images and Office files that are already compressed
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        Set<String> usedNames = new HashSet<>();
+        List<String> missing = new ArrayList<>();
+        for (InitiativeFile file : files) {
+            Path path = Paths.get(file.getFilePath());
+            String folder = perInitiativeFolders ? folderName(file.getInitiative()) + "/" : "";
+            String entryName = uniqueName(usedNames, folder, sanitize(file.getFileName()));
+            if (!Files.isRegularFile(path)) {
+                missing.add(entryName + " (file id " + file.getId() + ")");
+                continue;
+            }
+
+            ZipEntry entry = new ZipEntry(entryName);
+            if (file.getUploadedAt() != null) {
+                entry.setTime(file.getUploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            zip.putNextEntry(entry);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer.clear();
+                while (channel.read(buffer) != -1) {
+                    buffer.flip();
+                    zip.write(buffer.array(), 0, buffer.limit());
+                    buffer.clear();
+                }
+            }
+            zip.closeEntry();
+        }
+
+        if (!missing.isEmpty()) {
+            logger.warn("{} attachment(s) missing on disk while building archive", missing.size());
+            zip.putNextEntry(new ZipEntry(MISSING_FILES_ENTRY));
+            zip.write(("The following attachments could not be found on the server:\r\n"
+                + String.join("\r\n", missing) + "\r\n").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    private static String folderName(Initiative initiative) {
+        String number = initiative.getInitiativeNumber();
+        return sanitize(number != null && !number.isEmpty() ? number : "initiative_" + initiative.getId());
+    }
+
+    // First occurrence keeps its name; later ones get " (2)", " (3)" ... before the extension
+    private static String uniqueName(Set<String> usedNames, String folder, String fileName) {
+        String candidate = folder + fileName;
+        if (usedNames.add(candidate.toLowerCase(Locale.ROOT))) {
+            return candidate;
+        }
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        String extension = dot > 0 ? fileName.substring(dot) : "";
+        for (int n = 2; ; n++) {
+            candidate = folder + base + " (" + n + ")" + extension;
+            if (usedNames.add(candidate.toLowerCase(Locale.ROOT))) {
+                return candidate;
+            }
+        }
+    }
+
+    // Same character rules as single-file downloads; also keeps entries from escaping their folder
+    private static String sanitize(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return "unnamed";
+        }
+        String sanitized = name
+            .replaceAll("[<>:\"/\\\\|?*]", "_")
+            .replaceAll("\\s+", "_")
+            .replaceAll("_{2,}", "_");
+        return sanitized.matches("\\.+") ? "unnamed" : sanitized;
+    }
+}
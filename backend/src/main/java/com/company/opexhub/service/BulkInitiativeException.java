@@ -0,0 +1,24 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.dto.InitiativeRowError;
+
+import java.util.List;
+
+/**
+ * Bulk create rejected before anything was written; carries every row problem found
+ */
+public class BulkInitiativeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<InitiativeRowError> errors;
+
+    public BulkInitiativeException(List<InitiativeRowError> errors) {
+        super(errors.size() + " row(s) failed validation; no initiatives were created");
+        this.errors = errors;
+    }
+
+    public List<InitiativeRowError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,189 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.dto.ChangeFeedDTO;
+import com.company.opexhub.entity.ChangeFeedLock;
+import com.company.opexhub.entity.ChangeLogEntry;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.WorkflowTransaction;
+import com.company.opexhub.repository.ChangeFeedLockRepository;
+import com.company.opexhub.repository.ChangeLogEntryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the append-only change log consumed by the BI change feed and serves it by cursor.
+ * Records are written inside the caller's transaction, so a change and its log row commit together.
+ *
+ * The rows of a transaction are held back until just before it commits and then inserted under the
+ * OPEX_CHANGE_FEED_LOCK row lock, which is kept until the commit. Ids are therefore drawn in commit
+ * order on every node: once a reader sees an id, every lower id is committed (or never will be), and
+ * a cursor can advance to the last id read however long the writing transactions ran.
+ */
+@Service
+public class ChangeLogService {
+
+    public static final String ENTITY_MONITORING_ENTRY = "MONTHLY_MONITORING_ENTRY";
+    public static final String ENTITY_INITIATIVE = "INITIATIVE";
+    public static final String ENTITY_WORKFLOW_TRANSACTION = "WORKFLOW_TRANSACTION";
+
+    public static final String OP_CREATE = "CREATE";
+    public static final String OP_UPDATE = "UPDATE";
+    public static final String OP_FINALIZE = "FINALIZE";
+    public static final String OP_FA_APPROVAL = "FA_APPROVAL";
+    public static final String OP_STATUS_CHANGE = "STATUS_CHANGE";
+    public static final String OP_DELETE = "DELETE";
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private ChangeLogEntryRepository changeLogEntryRepository;
+
+    @Autowired
+    private ChangeFeedLockRepository changeFeedLockRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InitiativeSearchService initiativeSearchService;
+
+    @PostConstruct
+    public void createFeedLock() {
+        if (changeFeedLockRepository.existsById(ChangeFeedLock.LOCK_ID)) {
+            return;
+        }
+        try {
+            changeFeedLockRepository.saveAndFlush(new ChangeFeedLock(ChangeFeedLock.LOCK_ID));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created it first
+        }
+    }
+
+    @Transactional
+    public void recordMonitoringEntryChange(MonthlyMonitoringEntry entry, String operation) {
+        Long initiativeId = entry.getInitiative() != null ? entry.getInitiative().getId() : null;
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", entry.getId());
+        payload.put("initiativeId", initiativeId);
+        payload.put("monitoringMonth", entry.getMonitoringMonth());
+        payload.put("kpiDescription", entry.getKpiDescription());
+        payload.put("category", entry.getCategory());
+        payload.put("targetValue", entry.getTargetValue());
+        payload.put("achievedValue", entry.getAchievedValue());
+        payload.put("deviation", entry.getDeviation());
+        payload.put("deviationPercentage", entry.getDeviationPercentage());
+        payload.put("isFinalized", entry.getIsFinalized());
+        payload.put("faApproval", entry.getFaApproval());
+        payload.put("enteredBy", entry.getEnteredBy());
+
+        record(ENTITY_MONITORING_ENTRY, entry.getId(), initiativeId, operation, payload);
+    }
+
+    @Transactional
+    public void recordInitiativeChange(Initiative initiative, String operation) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", initiative.getId());
+        payload.put("initiativeNumber", initiative.getInitiativeNumber());
+        payload.put("title", initiative.getTitle());
+        payload.put("site", initiative.getSite());
+        payload.put("discipline", initiative.getDiscipline());
+        payload.put("status", initiative.getStatus());
+        payload.put("currentStage", initiative.getCurrentStage());
+        payload.put("budgetType", initiative.getBudgetType());
+        payload.put("expectedSavings", initiative.getExpectedSavings());
+        payload.put("actualSavings", initiative.getActualSavings());
+
+        record(ENTITY_INITIATIVE, initiative.getId(), initiative.getId(), operation, payload);
+        // Every initiative write is recorded here, so it also keeps this node's search index current
+        initiativeSearchService.markDirty(initiative.getId());
+    }
+
+    @Transactional
+    public void recordWorkflowTransactionChange(WorkflowTransaction transaction, String operation) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", transaction.getId());
+        payload.put("initiativeId", transaction.getInitiativeId());
+        payload.put("stageNumber", transaction.getStageNumber());
+        payload.put("stageName", transaction.getStageName());
+        payload.put("site", transaction.getSite());
+        payload.put("approveStatus", transaction.getApproveStatus());
+        payload.put("actionBy", transaction.getActionBy());
+        payload.put("actionDate", transaction.getActionDate());
+        payload.put("pendingWith", transaction.getPendingWith());
+
+        record(ENTITY_WORKFLOW_TRANSACTION, transaction.getId(), transaction.getInitiativeId(), operation, payload);
+    }
+
+    /**
+     * Get the changes after the given cursor (exclusive), oldest first, at most limit rows.
+     * nextCursor is the id of the last returned change, or the given cursor when nothing is new.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO getChangesSince(Long since, int limit) {
+        long cursor = since != null ? since : 0L;
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to know whether another page is waiting
+        List<ChangeLogEntry> changes = changeLogEntryRepository.findChangesSince(cursor, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+        Long nextCursor = changes.isEmpty() ? cursor : changes.get(changes.size() - 1).getId();
+
+        return new ChangeFeedDTO(changes, nextCursor, hasMore);
+    }
+
+    private void record(String entityType, Long entityId, Long initiativeId, String operation, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            json = null;
+        }
+        pendingEntries().add(new ChangeLogEntry(entityType, entityId, initiativeId, operation, json));
+    }
+
+    // Rows recorded so far in the current transaction
+    private List<ChangeLogEntry> pendingEntries() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEntries) {
+                return ((PendingEntries) synchronization).entries;
+            }
+        }
+        PendingEntries pending = new PendingEntries();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending.entries;
+    }
+
+    private final class PendingEntries implements TransactionSynchronization {
+        private final List<ChangeLogEntry> entries = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Flush the transaction's own writes first so the lock is held only for the log inserts
+            changeLogEntryRepository.flush();
+            if (changeFeedLockRepository.lock(ChangeFeedLock.LOCK_ID, LocalDateTime.now()) == 0) {
+                throw new IllegalStateException("Change feed lock row is missing");
+            }
+            changeLogEntryRepository.saveAll(entries);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.dto.ChunkedUploadInitRequest;
+import com.company.opexhub.dto.ChunkedUploadStatusDTO;
+import com.company.opexhub.entity.FileBlob;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.InitiativeFile;
+import com.company.opexhub.entity.UploadSession;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.UploadSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resumable chunked uploads: init, PUT chunks (in any order, in parallel), complete.
+ *
+ * Each chunk is streamed to its own file in the session's staging directory while its SHA-256 is
+ * checked against the client's; it only gets its final "<index>.chunk" name once verified, so the
+ * chunk files present are exactly the chunks received and a client resumes by asking for them.
+ * Completion concatenates the chunks into one file (hashing it on the way) and hands it to the
+ * blob store, so nothing is ever held in memory beyond a copy buffer. A verified chunk is moved into
+ * place under the session's row lock after re-reading its status, and completion takes the same
+ * lock to leave OPEN, so no chunk can replace another once assembly has begun. Sessions without activity
+ * for file.upload.chunked.session-ttl-hours are deleted with their chunks.
+ */
+@Service
+public class ChunkedUploadService {
+
+    public static final String STATUS_OPEN = "OPEN";
+    public static final String STATUS_COMPLETING = "COMPLETING";
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private static final String CHUNK_SUFFIX = ".chunk";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private FileBlobService fileBlobService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Holds the session row lock while a received chunk is moved into place
+    private TransactionTemplate chunkTransaction;
+
+    @Value("${file.storage.root:D:/opexhub/uploads}")
+    private String storageRoot;
+
+    @Value("${file.upload.chunked.chunk-size-mb:4}")
+    private int chunkSizeMb;
+
+    @Value("${file.upload.chunked.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    private Path sessionsDir;
+
+    @PostConstruct
+    public void init() throws IOException {
+        // Under the storage root so the assembled file is moved into the blob store by a rename
+        sessionsDir = Paths.get(storageRoot).resolve("tmp").resolve("chunked");
+        Files.createDirectories(sessionsDir);
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public ChunkedUploadStatusDTO startUpload(ChunkedUploadInitRequest request, Long userId) throws IOException {
+        fileUploadService.validateFile(request.getContentType(), request.getFileSize());
+        if (!initiativeRepository.existsById(request.getInitiativeId())) {
+            throw new RuntimeException("Initiative not found with ID: " + request.getInitiativeId());
+        }
+
+        int chunkSize = chunkSizeMb * 1024 * 1024;
+        int chunkCount = (int) ((request.getFileSize() + chunkSize - 1) / chunkSize);
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), request.getInitiativeId(), userId,
+            request.getFileName(), request.getContentType(), request.getFileSize(), chunkSize, chunkCount);
+        Files.createDirectories(sessionDir(session.getUploadId()));
+        uploadSessionRepository.save(session);
+
+        logger.info("Chunked upload {} started: {} ({} bytes in {} chunks) for initiative {}",
+            session.getUploadId(), session.getFileName(), session.getFileSize(), chunkCount, session.getInitiativeId());
+        return toStatus(session);
+    }
+
+    /**
+     * Chunks already received, so an interrupted client only sends the rest
+     */
+    public ChunkedUploadStatusDTO getStatus(String uploadId, Long userId) throws IOException {
+        return toStatus(getSession(uploadId, userId));
+    }
+
+    /**
+     * Store one chunk; re-sending a chunk replaces it
+     * @param sha256 hex SHA-256 of the chunk as computed by the client
+     */
+    public void receiveChunk(String uploadId, int index, String sha256, InputStream body, Long userId) throws IOException {
+        UploadSession session = getSession(uploadId, userId);
+        if (!STATUS_OPEN.equals(session.getStatus())) {
+            throw new RuntimeException("Upload is already being completed");
+        }
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new RuntimeException("Chunk index out of range: " + index);
+        }
+        if (sha256 == null || sha256.isEmpty()) {
+            throw new RuntimeException("Chunk checksum is required");
+        }
+
+        long expectedSize = expectedChunkSize(session, index);
+        Path dir = sessionDir(uploadId);
+        Path temp = Files.createTempFile(dir, index + "-", ".part");
+        try {
+            MessageDigest digest = FileBlobService.sha256();
+            long received = 0;
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    received += read;
+                    if (received > expectedSize) {
+                        throw new RuntimeException("Chunk " + index + " is larger than " + expectedSize + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (received != expectedSize) {
+                throw new RuntimeException("Chunk " + index + " incomplete: " + received + " of " + expectedSize + " bytes");
+            }
+            if (!FileBlobService.toHex(digest.digest()).equalsIgnoreCase(sha256.trim())) {
+                throw new RuntimeException("Checksum mismatch for chunk " + index);
+            }
+            placeChunk(uploadId, temp, dir.resolve(index + CHUNK_SUFFIX));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Assemble the chunks into the attachment; only one concurrent completion of a session wins
+     */
+    public InitiativeFile completeUpload(String uploadId, Long userId) throws IOException {
+        UploadSession session = getSession(uploadId, userId);
+        if (uploadSessionRepository.changeStatus(uploadId, STATUS_OPEN, STATUS_COMPLETING, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("Upload is already being completed");
+        }
+
+        Path dir = sessionDir(uploadId);
+        InitiativeFile file;
+        try {
+            List<Integer> missing = new ArrayList<>();
+            for (int i = 0; i < session.getChunkCount(); i++) {
+                Path chunk = dir.resolve(i + CHUNK_SUFFIX);
+                if (!Files.isRegularFile(chunk) || Files.size(chunk) != expectedChunkSize(session, i)) {
+                    missing.add(i);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new RuntimeException("Missing chunks: " + missing);
+            }
+
+            Initiative initiative = initiativeRepository.findById(session.getInitiativeId())
+                .orElseThrow(() -> new RuntimeException("Initiative not found with ID: " + session.getInitiativeId()));
+
+            Path assembled = dir.resolve("assembled");
+            MessageDigest digest = FileBlobService.sha256();
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+            try (FileChannel out = FileChannel.open(assembled, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (int i = 0; i < session.getChunkCount(); i++) {
+                    try (FileChannel in = FileChannel.open(dir.resolve(i + CHUNK_SUFFIX), StandardOpenOption.READ)) {
+                        buffer.clear();
+                        while (in.read(buffer) != -1) {
+                            buffer.flip();
+                            digest.update(buffer.array(), 0, buffer.limit());
+                            while (buffer.hasRemaining()) {
+                                out.write(buffer);
+                            }
+                            buffer.clear();
+                        }
+                    }
+                }
+            }
+
+            FileBlob blob = fileBlobService.storeFile(assembled, FileBlobService.toHex(digest.digest()), session.getFileSize());
+            file = fileUploadService.attachStoredFile(initiative, session.getFileName(),
+                session.getFileType(), session.getFileSize(), blob);
+        } catch (IOException | RuntimeException e) {
+            // Leave the received chunks in place so the client can fix the gap and complete again
+            uploadSessionRepository.changeStatus(uploadId, STATUS_COMPLETING, STATUS_OPEN, LocalDateTime.now());
+            throw e;
+        }
+
+        // The file is attached, so cleanup is best effort: whatever is left (the session stays COMPLETING)
+        // is removed by purgeAbandonedUploads. Chunks go first, as the purge only finds them through the session
+        try {
+            deleteDirectory(dir);
+            uploadSessionRepository.deleteByUploadIdValue(uploadId);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Chunked upload {} completed but its session was not cleaned up: {}", uploadId, e.getMessage());
+        }
+        logger.info("Chunked upload {} completed as file {}", uploadId, file.getId());
+        return file;
+    }
+
+    public void cancelUpload(String uploadId, Long userId) throws IOException {
+        getSession(uploadId, userId);
+        uploadSessionRepository.deleteByUploadIdValue(uploadId);
+        deleteDirectory(sessionDir(uploadId));
+    }
+
+    /**
+     * Delete sessions (and their chunks) abandoned by the client
+     */
+    @Scheduled(fixedDelayString = "${file.upload.chunked.purge-ms:3600000}")
+    public void purgeAbandonedUploads() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusHours(sessionTtlHours);
+            int purged = 0;
+            for (UploadSession session : uploadSessionRepository.findByLastActivityAtBefore(cutoff)) {
+                uploadSessionRepository.deleteByUploadIdValue(session.getUploadId());
+                deleteDirectory(sessionDir(session.getUploadId()));
+                purged++;
+            }
+            if (purged > 0) {
+                logger.info("Purged {} abandoned chunked uploads", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to purge abandoned uploads: {}", e.getMessage());
+        }
+    }
+
+    private UploadSession getSession(String uploadId, Long userId) {
+        UploadSession session = uploadSessionRepository.findByUploadId(uploadId)
+            .orElseThrow(() -> new RuntimeException("Upload not found: " + uploadId));
+        if (!session.getUserId().equals(userId)) {
+            throw new RuntimeException("Upload not found: " + uploadId);
+        }
+        return session;
+    }
+
+    /**
+     * Move a verified chunk to its final name under the session row lock, so completeUpload (whose
+     * status change waits for the lock) either sees the chunk or has already closed the session to it
+     */
+    private void placeChunk(String uploadId, Path temp, Path target) throws IOException {
+        try {
+            chunkTransaction.execute(status -> {
+                UploadSession session = uploadSessionRepository.findByUploadIdForUpdate(uploadId)
+                    .orElseThrow(() -> new RuntimeException("Upload not found: " + uploadId));
+                if (!STATUS_OPEN.equals(session.getStatus())) {
+                    throw new RuntimeException("Upload is already being completed");
+                }
+                try {
+                    moveIntoPlace(temp, target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                uploadSessionRepository.touch(uploadId, LocalDateTime.now());
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ChunkedUploadStatusDTO toStatus(UploadSession session) throws IOException {
+        List<Integer> received = new ArrayList<>();
+        Path dir = sessionDir(session.getUploadId());
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> chunks = Files.newDirectoryStream(dir, "*" + CHUNK_SUFFIX)) {
+                for (Path chunk : chunks) {
+                    String name = chunk.getFileName().toString();
+                    received.add(Integer.valueOf(name.substring(0, name.length() - CHUNK_SUFFIX.length())));
+                }
+            }
+        }
+        Collections.sort(received);
+        return new ChunkedUploadStatusDTO(session.getUploadId(), session.getFileSize(), session.getChunkSize(),
+            session.getChunkCount(), received);
+    }
+
+    private static long expectedChunkSize(UploadSession session, int index) {
+        long chunkSize = session.getChunkSize();
+        return index < session.getChunkCount() - 1
+            ? chunkSize
+            : session.getFileSize() - chunkSize * (session.getChunkCount() - 1);
+    }
+
+    // uploadId comes from the client; only a UUID may become a directory name
+    private Path sessionDir(String uploadId) {
+        return sessionsDir.resolve(UUID.fromString(uploadId).toString());
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteDirectory(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+}
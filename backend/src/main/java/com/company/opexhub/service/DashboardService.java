@@ -293,20 +293,16 @@ public class DashboardService {
      * Calculate total actual savings from monthly monitoring entries
      */
     private BigDecimal getTotalActualSavings() {
-        return monthlyMonitoringEntryRepository.findAll().stream()
-                .filter(entry -> entry.getAchievedValue() != null)
-                .map(entry -> entry.getAchievedValue())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal total = monthlyMonitoringEntryRepository.sumAllAchievedValues();
+        return total != null ? total : BigDecimal.ZERO;
     }
 
     /**
      * Calculate total actual savings for a specific site
      */
     private BigDecimal getTotalActualSavingsBySite(String site) {
-        return monthlyMonitoringEntryRepository.findBySite(site).stream()
-                .filter(entry -> entry.getAchievedValue() != null)
-                .map(entry -> entry.getAchievedValue())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal total = monthlyMonitoringEntryRepository.sumAllAchievedValuesBySite(site);
+        return total != null ? total : BigDecimal.ZERO;
     }
 
     /**
@@ -1,19 +1,71 @@
 package com.company.opexhub.service;
 
+import com.company.opexhub.entity.EmailActionToken;
+import com.company.opexhub.repository.EmailActionTokenRepository;
+import com.company.opexhub.util.ExpiringTokenStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service to manage secure tokens for email-based actions
  * Tokens have a 7-day expiry and are single-use
+ * Tokens are persisted (OPEX_EMAIL_ACTION_TOKENS) so links keep working after a redeploy;
+ * recently used ones are also held in a bounded in-memory store
  */
 @Service
 public class EmailActionTokenService {
 
-    private final Map<String, TokenData> tokenStore = new ConcurrentHashMap<>();
+    private static final long TOKEN_VALIDITY_MS = TimeUnit.DAYS.toMillis(7);
+
+    @Autowired
+    private EmailActionTokenRepository emailActionTokenRepository;
+
+    @Value("${token-store.email-action.capacity:10000}")
+    private int capacity;
+
+    private ExpiringTokenStore<TokenData> tokenStore;
+
+    @PostConstruct
+    public void initTokenStore() {
+        // One-minute ticks: a 512-slot wheel turns every ~8.5 hours
+        tokenStore = new ExpiringTokenStore<>("email-action", TimeUnit.MINUTES.toMillis(1), 512, capacity,
+                new ExpiringTokenStore.Backend<TokenData>() {
+                    @Override
+                    public void save(String key, TokenData value, long expiresAtMillis) {
+                        emailActionTokenRepository.save(new EmailActionToken(key, value.getEntryId(),
+                                value.getAction(), value.getExpiryTime()));
+                    }
+
+                    @Override
+                    public ExpiringTokenStore.Entry<TokenData> load(String key) {
+                        return emailActionTokenRepository.findByToken(key)
+                                .map(t -> new ExpiringTokenStore.Entry<>(
+                                        new TokenData(t.getEntryId(), t.getAction(), t.getExpiryTime()),
+                                        toEpochMillis(t.getExpiryTime())))
+                                .orElse(null);
+                    }
+
+                    @Override
+                    public boolean delete(String key) {
+                        return emailActionTokenRepository.deleteByTokenValue(key) > 0;
+                    }
+
+                    @Override
+                    public int deleteExpired(long nowMillis) {
+                        return emailActionTokenRepository.deleteExpired(
+                                LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault()));
+                    }
+                });
+    }
     
     // Make TokenData public so it can be accessed from controllers
     public static class TokenData {
@@ -46,7 +98,7 @@ public class EmailActionTokenService {
     public String generateToken(Long entryId, String action) {
         String token = UUID.randomUUID().toString();
         LocalDateTime expiryTime = LocalDateTime.now().plusDays(7); // 7 days validity
-        tokenStore.put(token, new TokenData(entryId, action, expiryTime));
+        tokenStore.put(token, new TokenData(entryId, action, expiryTime), TOKEN_VALIDITY_MS);
         return token;
     }
     
@@ -56,19 +108,11 @@ public class EmailActionTokenService {
      * @return TokenData if valid, null otherwise
      */
     public TokenData validateAndConsumeToken(String token) {
-        TokenData tokenData = tokenStore.get(token);
+        // Used tokens are removed, so expired, used and unknown tokens all come back as null
+        TokenData tokenData = tokenStore.consume(token);
         
         if (tokenData == null) {
-            return null; // Token not found
-        }
-        
-        if (tokenData.isExpired()) {
-            tokenStore.remove(token);
-            return null; // Token expired
-        }
-        
-        if (tokenData.isUsed()) {
-            return null; // Token already used
+            return null; // Token not found, expired or already used
         }
         
         // Mark token as used
@@ -83,7 +127,7 @@ public class EmailActionTokenService {
     public TokenData getTokenData(String token) {
         TokenData tokenData = tokenStore.get(token);
         
-        if (tokenData == null || tokenData.isExpired() || tokenData.isUsed()) {
+        if (tokenData == null || tokenData.isUsed()) {
             return null;
         }
         
@@ -91,17 +135,19 @@ public class EmailActionTokenService {
     }
     
     /**
-     * Clean up expired and used tokens (should be called periodically)
+     * Clean up expired tokens, in memory and in the database
      */
+    @Scheduled(fixedDelayString = "${token-store.sweep-ms:60000}")
     public void cleanupExpiredTokens() {
-        int beforeCount = tokenStore.size();
-        tokenStore.entrySet().removeIf(entry -> 
-            entry.getValue().isExpired() || entry.getValue().isUsed());
-        int afterCount = tokenStore.size();
+        int removed = tokenStore.expireEntries();
         
-        if (beforeCount > afterCount) {
+        if (removed > 0) {
             System.out.println("Email action tokens cleanup - Removed " + 
-                (beforeCount - afterCount) + " expired/used tokens");
+                removed + " expired tokens");
         }
     }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -2,16 +2,18 @@ package com.company.opexhub.service;
 
 import com.company.opexhub.entity.User;
 import com.company.opexhub.repository.UserRepository;
-import mailhelper.MailHelper;
+import com.company.opexhub.util.ExpiringTokenStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -24,8 +26,22 @@ public class EmailVerificationService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    // In-memory storage for verification codes (in production, use Redis or database)
-    private final Map<String, VerificationCodeData> verificationCodes = new ConcurrentHashMap<>();
+    @Autowired
+    private MailService mailService;
+
+    private static final long CODE_VALIDITY_MS = TimeUnit.MINUTES.toMillis(15);
+
+    @Value("${token-store.verification.capacity:5000}")
+    private int capacity;
+
+    // Bounded in-memory storage for verification codes; codes live 15 minutes, so they are not persisted
+    private ExpiringTokenStore<VerificationCodeData> verificationCodes;
+
+    @PostConstruct
+    public void initCodeStore() {
+        // One-second ticks on a 1024-slot wheel cover the 15-minute validity in a single turn
+        verificationCodes = new ExpiringTokenStore<>("email-verification", 1000L, 1024, capacity, null);
+    }
     
     private static class VerificationCodeData {
         private final String code;
@@ -100,7 +116,8 @@ public class EmailVerificationService {
             // Store code with 15-minute expiry and user data
             LocalDateTime expiryTime = LocalDateTime.now().plusMinutes(15);
             verificationCodes.put(email.toLowerCase(), 
-                new VerificationCodeData(verificationCode, expiryTime, fullName, site, discipline, role, roleName, encodedPassword));
+                new VerificationCodeData(verificationCode, expiryTime, fullName, site, discipline, role, roleName, encodedPassword),
+                CODE_VALIDITY_MS);
 
             // Send email
             String subject = "Email Verification Code - OPEX Hub Registration";
@@ -108,7 +125,7 @@ public class EmailVerificationService {
             String bcc = "dnsharma@godeepak.com";
             String emailTemplate = createEmailVerificationTemplate(fullName, verificationCode, email);
             
-            MailHelper.send(subject, emailTemplate, email, cc, bcc);
+            mailService.send(MailService.TYPE_EMAIL_VERIFICATION, subject, emailTemplate, email, cc, bcc);
             
             Logger.getLogger(this.getClass().getName()).info(
                 String.format("Email verification code sent to %s for registration", email));
@@ -134,17 +151,13 @@ public class EmailVerificationService {
             return false;
         }
 
+        // Expired codes are never returned by the store
         VerificationCodeData verificationData = verificationCodes.get(email.toLowerCase());
         
         if (verificationData == null) {
             return false;
         }
         
-        if (verificationData.isExpired()) {
-            verificationCodes.remove(email.toLowerCase());
-            return false;
-        }
-        
         return verificationData.getCode().equals(code);
     }
 
@@ -292,7 +305,7 @@ public class EmailVerificationService {
         verificationCodes.put(email.toLowerCase(), 
             new VerificationCodeData(newCode, expiryTime, existingData.getFullName(), 
             existingData.getSite(), existingData.getDiscipline(), existingData.getRole(), 
-            existingData.getRoleName(), existingData.getPassword())); // Keep encoded password
+            existingData.getRoleName(), existingData.getPassword()), CODE_VALIDITY_MS); // Keep encoded password
         
         try {
             String subject = "Email Verification Code - OPEX Hub Registration (Resent)";
@@ -300,7 +313,7 @@ public class EmailVerificationService {
             String bcc = "dnsharma@godeepak.com";
             String emailTemplate = createEmailVerificationTemplate(existingData.getFullName(), newCode, email);
             
-            MailHelper.send(subject, emailTemplate, email, cc, bcc);
+            mailService.send(MailService.TYPE_EMAIL_VERIFICATION, subject, emailTemplate, email, cc, bcc);
             
             Logger.getLogger(this.getClass().getName()).info(
                 String.format("Email verification code resent to %s", email));
@@ -314,9 +327,10 @@ public class EmailVerificationService {
     }
 
     /**
-     * Clean up expired codes (call this periodically)
+     * Clean up expired codes (runs periodically)
      */
+    @Scheduled(fixedDelayString = "${token-store.sweep-ms:60000}")
     public void cleanupExpiredCodes() {
-        verificationCodes.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        verificationCodes.expireEntries();
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.FileBlob;
+import com.company.opexhub.repository.FileBlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Content-addressed attachment storage.
+ *
+ * An upload is streamed to a temp file while its SHA-256 is computed, then either counted as one
+ * more reference to the existing blob with that hash or moved to blobs/ab/cd/<sha256> under the
+ * storage root. Store and release of the same hash are serialized through a lock stripe, so a blob
+ * file is never deleted while an upload of the same content is adopting it on this node; across
+ * nodes the unique sha256 column decides which insert wins.
+ */
+@Service
+public class FileBlobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileBlobService.class);
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int STORE_ATTEMPTS = 3;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Value("${file.storage.root:D:/opexhub/uploads}")
+    private String storageRoot;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private Path blobDir;
+    private Path tempDir;
+
+    public FileBlobService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path root = Paths.get(storageRoot);
+        blobDir = root.resolve("blobs");
+        // Same volume as the blobs so the final move is a rename
+        tempDir = root.resolve("tmp");
+        Files.createDirectories(blobDir);
+        Files.createDirectories(tempDir);
+    }
+
+    /**
+     * Store the content once and return its blob with one reference added for the caller
+     */
+    public FileBlob store(InputStream content) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return adopt(temp, toHex(digest.digest()), size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Store a file already staged under the storage root whose SHA-256 the caller computed while
+     * writing it. The file is moved into the store when the content is new; otherwise it is left
+     * for the caller to delete.
+     */
+    public FileBlob storeFile(Path stagedFile, String sha256, long size) throws IOException {
+        return adopt(stagedFile, sha256, size);
+    }
+
+    /**
+     * Drop one reference; the last one removes the blob row and its file
+     */
+    public void release(Long blobId) {
+        FileBlob blob = fileBlobRepository.findById(blobId).orElse(null);
+        if (blob == null) {
+            return;
+        }
+        synchronized (lockFor(blob.getSha256())) {
+            fileBlobRepository.decrementRefCount(blobId);
+            if (fileBlobRepository.deleteIfUnreferenced(blobId) > 0) {
+                try {
+                    Path blobFile = Paths.get(blob.getStoragePath());
+                    Files.deleteIfExists(blobFile);
+                    Files.deleteIfExists(ThumbnailService.thumbnailPath(blobFile));
+                } catch (IOException e) {
+                    logger.warn("Blob {} unreferenced but its file could not be deleted: {}", blob.getSha256(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private FileBlob adopt(Path temp, String sha256, long size) throws IOException {
+        synchronized (lockFor(sha256)) {
+            for (int attempt = 0; attempt < STORE_ATTEMPTS; attempt++) {
+                if (fileBlobRepository.incrementRefCount(sha256) > 0) {
+                    return fileBlobRepository.findBySha256(sha256)
+                        .orElseThrow(() -> new IllegalStateException("Blob disappeared: " + sha256));
+                }
+                Path target = blobPath(sha256);
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    moveIntoPlace(temp, target);
+                }
+                try {
+                    return fileBlobRepository.saveAndFlush(new FileBlob(sha256, target.toString(), size));
+                } catch (DataIntegrityViolationException e) {
+                    // Another node stored the same content first; take a reference to its row instead
+                    logger.debug("Concurrent store of blob {}, retrying as a reference", sha256);
+                }
+            }
+        }
+        throw new IllegalStateException("Could not store blob " + sha256);
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // blobs/ab/cd/<sha256> keeps every directory small
+    private Path blobPath(String sha256) {
+        return blobDir.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private Object lockFor(String sha256) {
+        return locks[(sha256.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+}
@@ -1,32 +1,66 @@
 package com.company.opexhub.service;
 
+import com.company.opexhub.entity.FileBlob;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.entity.InitiativeFile;
 import com.company.opexhub.repository.InitiativeFileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class FileUploadService {
 
+    private static final Logger logger = LoggerFactory.getLogger(FileUploadService.class);
+
     @Autowired
     private InitiativeFileRepository initiativeFileRepository;
 
-    private static final String BASE_UPLOAD_DIR = "D:/opexhub/uploads/";
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB in bytes
+    @Autowired
+    private FileBlobService fileBlobService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Blob references are dropped after the deleting transaction has committed, so in a transaction of their own
+    private TransactionTemplate releaseTransaction;
+
+    // Larger files are uploaded in chunks (see ChunkedUploadService)
+    @Value("${file.upload.max-size-mb:100}")
+    private long maxFileSizeMb;
+
+    // spring.servlet.multipart.max-file-size is derived from this, so both paths reject the same files
+    @Value("${file.upload.multipart.max-size-mb:10}")
+    private long maxMultipartSizeMb;
     
+    @PostConstruct
+    public void init() {
+        releaseTransaction = new TransactionTemplate(transactionManager);
+        releaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     // Allowed file types
     private static final List<String> ALLOWED_DOCUMENT_TYPES = Arrays.asList(
         "application/pdf", "application/msword", 
@@ -42,38 +76,19 @@ public class FileUploadService {
 
     public List<InitiativeFile> uploadFiles(List<MultipartFile> files, Initiative initiative) throws IOException {
         List<InitiativeFile> uploadedFiles = new ArrayList<>();
-        
-        // Create directory if it doesn't exist
-        String initiativeDir = BASE_UPLOAD_DIR + "initiative_" + initiative.getId() + "/";
-        Path dirPath = Paths.get(initiativeDir);
-        if (!Files.exists(dirPath)) {
-            Files.createDirectories(dirPath);
-        }
 
         for (MultipartFile file : files) {
             try {
                 // Validate file
                 validateFile(file);
                 
-                // Generate unique filename
                 String originalFilename = file.getOriginalFilename();
-                String fileExtension = getFileExtension(originalFilename);
-                String uniqueFilename = UUID.randomUUID().toString() + "_" + originalFilename;
-                
-                // Save file to disk
-                Path filePath = dirPath.resolve(uniqueFilename);
-                Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
                 
-                // Create file record
-                InitiativeFile initiativeFile = new InitiativeFile(
-                    originalFilename,
-                    filePath.toString(),
-                    file.getContentType(),
-                    file.getSize(),
-                    initiative
-                );
+                // Store content once per SHA-256; identical uploads share the blob
+                FileBlob blob = fileBlobService.store(file.getInputStream());
                 
-                InitiativeFile savedFile = initiativeFileRepository.save(initiativeFile);
+                InitiativeFile savedFile = saveFileRecord(initiative, originalFilename, file.getContentType(),
+                    file.getSize(), blob);
                 uploadedFiles.add(savedFile);
                 
                 System.out.println("Successfully uploaded file: " + originalFilename + " for initiative: " + initiative.getId());
@@ -84,9 +99,41 @@ public class FileUploadService {
             }
         }
         
+        // Previews are generated in the background once the upload is committed
+        thumbnailService.generateAfterCommit(uploadedFiles);
+        
         return uploadedFiles;
     }
 
+    /**
+     * Record a file whose content is already in the blob store (e.g. an assembled chunked upload);
+     * the caller's blob reference is released if the record cannot be saved
+     */
+    public InitiativeFile attachStoredFile(Initiative initiative, String fileName, String contentType,
+                                           long size, FileBlob blob) {
+        InitiativeFile savedFile = saveFileRecord(initiative, fileName, contentType, size, blob);
+        thumbnailService.generateAfterCommit(Collections.singletonList(savedFile));
+        return savedFile;
+    }
+
+    private InitiativeFile saveFileRecord(Initiative initiative, String fileName, String contentType,
+                                          long size, FileBlob blob) {
+        InitiativeFile initiativeFile = new InitiativeFile(
+            fileName,
+            blob.getStoragePath(),
+            contentType,
+            size,
+            initiative
+        );
+        initiativeFile.setBlob(blob);
+        try {
+            return initiativeFileRepository.save(initiativeFile);
+        } catch (RuntimeException e) {
+            fileBlobService.release(blob.getId());
+            throw e;
+        }
+    }
+
     public List<InitiativeFile> getFilesByInitiativeId(Long initiativeId) {
         if (initiativeId == null) {
             return new ArrayList<>(); // Return empty list for null initiative ID
@@ -99,51 +146,96 @@ public class FileUploadService {
             .orElseThrow(() -> new RuntimeException("File not found with ID: " + fileId));
     }
 
-    public byte[] downloadFile(Long fileId) throws IOException {
-        InitiativeFile file = initiativeFileRepository.findById(fileId)
-            .orElseThrow(() -> new RuntimeException("File not found"));
-        
+    /**
+     * Stored file as a streamable Resource; nothing is read into memory here
+     */
+    public FileSystemResource getFileResource(InitiativeFile file) {
         Path filePath = Paths.get(file.getFilePath());
-        if (!Files.exists(filePath)) {
+        if (!Files.isRegularFile(filePath)) {
             throw new RuntimeException("File not found on disk");
         }
-        
-        return Files.readAllBytes(filePath);
+        return new FileSystemResource(filePath);
     }
 
     public void deleteFile(Long fileId) throws IOException {
         InitiativeFile file = initiativeFileRepository.findById(fileId)
             .orElseThrow(() -> new RuntimeException("File not found"));
         
-        // Delete file from disk
-        Path filePath = Paths.get(file.getFilePath());
-        if (Files.exists(filePath)) {
-            Files.delete(filePath);
-        }
-        
-        // Delete record from database
+        // Delete record from database, then drop its reference to the stored content
         initiativeFileRepository.delete(file);
+        releaseStoredFiles(Collections.singletonList(file));
+    }
+
+    /**
+     * Release the stored content of file records that were already deleted
+     * (e.g. by the cascade when an initiative is removed)
+     */
+    public void releaseStoredFiles(List<InitiativeFile> files) throws IOException {
+        for (InitiativeFile file : files) {
+            if (file.getBlob() != null) {
+                fileBlobService.release(file.getBlob().getId());
+            } else {
+                // Stored before content-addressed storage - the file belongs to this record alone
+                Path filePath = Paths.get(file.getFilePath());
+                Files.deleteIfExists(filePath);
+                Files.deleteIfExists(ThumbnailService.thumbnailPath(filePath));
+            }
+        }
+    }
+
+    /**
+     * Release the stored content of file records deleted in the surrounding transaction once it has
+     * committed, so a rolled-back delete still finds its files. Failures are logged, not thrown.
+     */
+    public void releaseStoredFilesAfterCommit(final List<InitiativeFile> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseQuietly(files);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseTransaction.executeWithoutResult(status -> releaseQuietly(files));
+            }
+        });
+    }
+
+    private void releaseQuietly(List<InitiativeFile> files) {
+        try {
+            releaseStoredFiles(files);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to release the stored content of {} deleted file(s): {}", files.size(), e.getMessage(), e);
+        }
     }
 
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new RuntimeException("File is empty");
         }
+        if (file.getSize() > maxMultipartSizeMb * 1024 * 1024) {
+            throw new RuntimeException("File size exceeds maximum multipart upload size of " + maxMultipartSizeMb
+                + "MB; upload larger files in chunks");
+        }
+        validateFile(file.getContentType(), file.getSize());
+    }
+
+    /**
+     * Check a declared file type and size against the upload rules
+     */
+    public void validateFile(String contentType, long size) {
+        if (size <= 0) {
+            throw new RuntimeException("File is empty");
+        }
         
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new RuntimeException("File size exceeds maximum allowed size of 5MB");
+        if (size > maxFileSizeMb * 1024 * 1024) {
+            throw new RuntimeException("File size exceeds maximum allowed size of " + maxFileSizeMb + "MB");
         }
         
-        String contentType = file.getContentType();
         if (!ALLOWED_DOCUMENT_TYPES.contains(contentType) && !ALLOWED_IMAGE_TYPES.contains(contentType)) {
             throw new RuntimeException("File type not allowed. Only documents and images are permitted.");
         }
     }
-
-    private String getFileExtension(String filename) {
-        if (filename == null || filename.lastIndexOf('.') == -1) {
-            return "";
-        }
-        return filename.substring(filename.lastIndexOf('.'));
-    }
 }
\ No newline at end of file
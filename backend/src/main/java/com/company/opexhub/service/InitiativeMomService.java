@@ -31,6 +31,10 @@ public class InitiativeMomService {
     @Autowired
     private UserRepository userRepository;
 
+    // MOM titles and content are indexed with their initiative
+    @Autowired
+    private InitiativeSearchService initiativeSearchService;
+
     /**
      * Get all MOM entries for an initiative
      */
@@ -103,6 +107,7 @@ public class InitiativeMomService {
         }
 
         mom = momRepository.save(mom);
+        initiativeSearchService.markDirty(initiativeId);
         
         return convertToDTO(mom);
     }
@@ -154,6 +159,7 @@ public class InitiativeMomService {
         }
 
         mom = momRepository.save(mom);
+        initiativeSearchService.markDirty(initiativeId);
         
         return convertToDTO(mom);
     }
@@ -176,6 +182,7 @@ public class InitiativeMomService {
         }
 
         momRepository.delete(mom);
+        initiativeSearchService.markDirty(initiativeId);
         
         return new ApiResponse(true, "MOM entry deleted successfully");
     }
@@ -0,0 +1,139 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.InitiativeNumberCounter;
+import com.company.opexhub.repository.InitiativeNumberCounterRepository;
+import com.company.opexhub.repository.InitiativeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Sequential parts of initiative numbers (per site and year, per site, discipline and year).
+ *
+ * Each sequence is a row in OPEX_INIT_NUMBER_COUNTERS. A node reserves a block of
+ * initiative.number.block-size values with one UPDATE, committed in its own transaction, and hands
+ * them out from memory; the row lock on that UPDATE is what keeps concurrent creates on any node from
+ * drawing the same value. Values of a block that is not used up before a restart are skipped, so
+ * numbers can have gaps; a block size of 1 keeps them gapless at one UPDATE per number.
+ * A counter is seeded from the existing initiatives the first time its sequence is used.
+ * Callers must not be inside a transaction: a thread holding one connection while the reservation
+ * waits for another, and others waiting on that block, can take every connection in the pool.
+ */
+@Service
+public class InitiativeNumberSequencer {
+
+    private static final Logger logger = LoggerFactory.getLogger(InitiativeNumberSequencer.class);
+
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private static final class Block {
+        long next;
+        long limit;
+    }
+
+    @Autowired
+    private InitiativeNumberCounterRepository counterRepository;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${initiative.number.block-size:10}")
+    private int blockSize;
+
+    private TransactionTemplate reserveTransaction;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        // A reservation must survive a rollback of the caller: other threads may already use the block
+        reserveTransaction = new TransactionTemplate(transactionManager);
+        reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        blockSize = Math.max(1, blockSize);
+    }
+
+    public long nextSiteNumber(String site, int year) {
+        return nextSiteNumbers(site, year, 1)[0];
+    }
+
+    public long nextDisciplineNumber(String site, String discipline, int year) {
+        return nextDisciplineNumbers(site, discipline, year, 1)[0];
+    }
+
+    /**
+     * count values at once, ascending; at most one counter UPDATE however large count is
+     */
+    public long[] nextSiteNumbers(String site, int year, int count) {
+        return next("SITE|" + site + "|" + year,
+                () -> initiativeRepository.countBySiteAndYear(site, year) + 1, count);
+    }
+
+    public long[] nextDisciplineNumbers(String site, String discipline, int year, int count) {
+        return next("DISCIPLINE|" + site + "|" + discipline + "|" + year,
+                () -> initiativeRepository.countBySiteAndDisciplineAndYear(site, discipline, year) + 1, count);
+    }
+
+    private long[] next(String counterKey, LongSupplier seed, int count) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Initiative numbers must be reserved outside a transaction");
+        }
+        long[] values = new long[count];
+        Block block = blocks.computeIfAbsent(counterKey, key -> new Block());
+        synchronized (block) {
+            int taken = 0;
+            while (taken < count && block.next < block.limit) {
+                values[taken++] = block.next++;
+            }
+            if (taken < count) {
+                // A large request gets a block of its own size; what it leaves over serves later callers
+                int size = Math.max(count - taken, blockSize);
+                long first = reserve(counterKey, seed, size);
+                block.next = first;
+                block.limit = first + size;
+                while (taken < count) {
+                    values[taken++] = block.next++;
+                }
+            }
+        }
+        return values;
+    }
+
+    // First value of a freshly reserved block
+    private long reserve(String counterKey, LongSupplier seed, int size) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long first = reserveTransaction.execute(status -> {
+                    if (counterRepository.advance(counterKey, size, LocalDateTime.now()) > 0) {
+                        return counterRepository.findNextValue(counterKey) - size;
+                    }
+                    long start = seed.getAsLong();
+                    counterRepository.saveAndFlush(new InitiativeNumberCounter(counterKey, start + size));
+                    logger.info("Initiative number counter {} created at {}", counterKey, start);
+                    return start;
+                });
+                return first;
+            } catch (DataIntegrityViolationException e) {
+                // Another node created the counter first; the next attempt advances it instead
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw new RuntimeException("Could not reserve initiative numbers for " + counterKey);
+                }
+            }
+        }
+    }
+}
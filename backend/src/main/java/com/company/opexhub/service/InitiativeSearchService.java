@@ -0,0 +1,279 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.ChangeLogEntry;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.repository.ChangeLogEntryRepository;
+import com.company.opexhub.repository.InitiativeMomRepository;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.util.SearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Full-text search over initiatives: title, number, description, assumptions, baseline data and
+ * MOM titles/content, with site, status and financial-year facets.
+ *
+ * The index lives in memory (SearchIndex) and is maintained by one "search-indexer" thread:
+ * - built at startup and rebuilt every search.index.rebuild-ms,
+ * - updated after commit for every initiative written on this node (ChangeLogService records
+ *   each initiative write) and every MOM saved or deleted (InitiativeMomService),
+ * - caught up with initiative changes made on other nodes by polling the change log.
+ * Until the first build completes isReady() is false and callers fall back to database queries.
+ */
+@Service
+public class InitiativeSearchService {
+
+    public static final String FACET_SITE = "site";
+    public static final String FACET_STATUS = "status";
+    public static final String FACET_FINANCIAL_YEAR = "financialYear";
+
+    private static final Logger logger = LoggerFactory.getLogger(InitiativeSearchService.class);
+
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    // Field weights: a hit in the number or title outranks one buried in a long text
+    private static final float WEIGHT_NUMBER = 5f;
+    private static final float WEIGHT_TITLE = 3f;
+    private static final float WEIGHT_DESCRIPTION = 1.5f;
+    private static final float WEIGHT_TEXT = 1f;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private InitiativeMomRepository initiativeMomRepository;
+
+    @Autowired
+    private ChangeLogEntryRepository changeLogEntryRepository;
+
+    private volatile SearchIndex index = new SearchIndex();
+    private volatile boolean ready;
+
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    // Indexer thread only
+    private long changeCursor;
+
+    @PreDestroy
+    public void stop() {
+        indexer.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ranked search; null filters are ignored
+     * @param financialYear starting year, e.g. "2025" for FY 2025-26
+     */
+    public SearchIndex.Result search(String text, String status, String site, String financialYear, int offset, int limit) {
+        Map<String, String> filters = new HashMap<>();
+        filters.put(FACET_STATUS, status);
+        filters.put(FACET_SITE, site);
+        filters.put(FACET_FINANCIAL_YEAR, financialYear);
+        return index.search(text, filters, offset, limit);
+    }
+
+    /**
+     * Queue an initiative for re-indexing once the current transaction commits (immediately without one)
+     */
+    @SuppressWarnings("unchecked")
+    public void markDirty(Long initiativeId) {
+        if (initiativeId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(Collections.singleton(initiativeId));
+            return;
+        }
+        // One set per transaction, so a save touching many rows is indexed once per initiative
+        Set<Long> ids = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (ids == null) {
+            final Set<Long> transactionIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, transactionIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InitiativeSearchService.this);
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(transactionIds);
+                    }
+                }
+            });
+            ids = transactionIds;
+        }
+        ids.add(initiativeId);
+    }
+
+    /**
+     * Full rebuild; also runs once at startup
+     */
+    @Scheduled(fixedDelayString = "${search.index.rebuild-ms:1800000}")
+    public void scheduleRebuild() {
+        indexer.execute(this::rebuild);
+    }
+
+    /**
+     * Pick up initiative changes committed on other nodes
+     */
+    @Scheduled(fixedDelayString = "${search.index.poll-ms:10000}")
+    public void scheduleChangePoll() {
+        if (ready) {
+            indexer.execute(this::applyLoggedChanges);
+        }
+    }
+
+    private void enqueue(Collection<Long> ids) {
+        pendingIds.addAll(ids);
+        if (drainScheduled.compareAndSet(false, true)) {
+            indexer.execute(() -> {
+                drainScheduled.set(false);
+                List<Long> batch = new ArrayList<>(pendingIds);
+                pendingIds.removeAll(batch);
+                reindex(batch);
+            });
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            // Read the cursor first so changes committed during the build are replayed afterwards
+            long cursor = changeLogEntryRepository.findLatestId();
+            SearchIndex fresh = new SearchIndex();
+            Page<Initiative> page;
+            int pageNumber = 0;
+            do {
+                page = initiativeRepository.findAll(PageRequest.of(pageNumber++, LOAD_PAGE_SIZE, Sort.by("id")));
+                addAll(fresh, page.getContent());
+            } while (page.hasNext());
+
+            index = fresh;
+            changeCursor = cursor;
+            ready = true;
+            logger.info("Initiative search index built: {} initiatives in {} ms",
+                fresh.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // Keep the previous index; the next scheduled rebuild retries
+            logger.error("Initiative search index build failed: {}", e.getMessage());
+        }
+    }
+
+    private void applyLoggedChanges() {
+        try {
+            List<ChangeLogEntry> changes;
+            do {
+                changes = changeLogEntryRepository.findChangesSince(changeCursor, PageRequest.of(0, LOAD_PAGE_SIZE));
+                Set<Long> ids = new HashSet<>();
+                for (ChangeLogEntry change : changes) {
+                    if (ChangeLogService.ENTITY_INITIATIVE.equals(change.getEntityType())) {
+                        ids.add(change.getInitiativeId());
+                    }
+                    changeCursor = change.getId();
+                }
+                reindex(ids);
+            } while (changes.size() == LOAD_PAGE_SIZE);
+        } catch (Exception e) {
+            logger.error("Initiative search change poll failed: {}", e.getMessage());
+        }
+    }
+
+    private void reindex(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            List<Initiative> initiatives = initiativeRepository.findAllById(ids);
+            addAll(index, initiatives);
+            Set<Long> deleted = new HashSet<>(ids);
+            for (Initiative initiative : initiatives) {
+                deleted.remove(initiative.getId());
+            }
+            for (Long id : deleted) {
+                index.remove(id);
+            }
+        } catch (Exception e) {
+            logger.error("Initiative search re-index of {} failed: {}", ids, e.getMessage());
+        }
+    }
+
+    private void addAll(SearchIndex target, List<Initiative> initiatives) {
+        if (initiatives.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> momTexts = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        for (Initiative initiative : initiatives) {
+            ids.add(initiative.getId());
+        }
+        for (Object[] row : initiativeMomRepository.findSearchTextByInitiativeIds(ids)) {
+            List<String> texts = momTexts.computeIfAbsent((Long) row[0], k -> new ArrayList<>());
+            texts.add((String) row[1]);
+            texts.add((String) row[2]);
+        }
+
+        for (Initiative initiative : initiatives) {
+            List<SearchIndex.Field> fields = new ArrayList<>();
+            fields.add(new SearchIndex.Field(initiative.getInitiativeNumber(), WEIGHT_NUMBER));
+            fields.add(new SearchIndex.Field(initiative.getTitle(), WEIGHT_TITLE));
+            fields.add(new SearchIndex.Field(initiative.getDescription(), WEIGHT_DESCRIPTION));
+            fields.add(new SearchIndex.Field(initiative.getAssumption1(), WEIGHT_TEXT));
+            fields.add(new SearchIndex.Field(initiative.getAssumption2(), WEIGHT_TEXT));
+            fields.add(new SearchIndex.Field(initiative.getAssumption3(), WEIGHT_TEXT));
+            fields.add(new SearchIndex.Field(initiative.getBaselineData(), WEIGHT_TEXT));
+            for (String text : momTexts.getOrDefault(initiative.getId(), Collections.emptyList())) {
+                fields.add(new SearchIndex.Field(text, WEIGHT_TEXT));
+            }
+
+            Map<String, String> facets = new LinkedHashMap<>();
+            facets.put(FACET_SITE, initiative.getSite());
+            facets.put(FACET_STATUS, initiative.getStatus());
+            facets.put(FACET_FINANCIAL_YEAR, financialYearOf(initiative.getCreatedAt()));
+
+            LocalDateTime createdAt = initiative.getCreatedAt();
+            long recency = createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+            target.put(initiative.getId(), facets, recency, fields);
+        }
+    }
+
+    // April-March financial year, named by its starting year (same as the initiative list filter)
+    private static String financialYearOf(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return null;
+        }
+        int year = createdAt.getMonthValue() >= 4 ? createdAt.getYear() : createdAt.getYear() - 1;
+        return String.valueOf(year);
+    }
+}
@@ -2,21 +2,52 @@ package com.company.opexhub.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.PostConstruct;
+import javax.persistence.Tuple;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.company.opexhub.dto.CursorPage;
+import com.company.opexhub.dto.InitiativeFilter;
 import com.company.opexhub.dto.InitiativeRequest;
+import com.company.opexhub.dto.InitiativeResponse;
+import com.company.opexhub.dto.InitiativeRowError;
+import com.company.opexhub.dto.InitiativeSummaryDTO;
 import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.InitiativeFile;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
 import com.company.opexhub.entity.User;
+import com.company.opexhub.entity.WorkflowTransaction;
 import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.InitiativeSpecifications;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
 import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+import com.company.opexhub.util.FieldSelection;
+import com.company.opexhub.util.KeysetCursor;
+import com.company.opexhub.util.SearchIndex;
 
 @Service
 public class InitiativeService {
@@ -27,12 +58,58 @@ public class InitiativeService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    @Autowired
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
     @Autowired
     private LoggingService loggingService;
 
     @Autowired
     private WorkflowTransactionService workflowTransactionService;
 
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private InitiativeSearchService initiativeSearchService;
+
+    @Autowired
+    private InitiativeNumberSequencer initiativeNumberSequencer;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Create paths reserve initiative numbers first, then write in this transaction
+    private TransactionTemplate createTransaction;
+
+    @PostConstruct
+    public void init() {
+        createTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // Oracle allows at most 1000 expressions in an IN list
+    private static final int SUMMARY_ID_CHUNK = 1000;
+
+    // InitiativeSummaryDTO properties read straight from Initiative columns of the same name
+    private static final List<String> SUMMARY_ATTRIBUTES = Arrays.asList(
+            "title", "initiativeNumber", "status", "priority", "site", "discipline", "budgetType",
+            "expectedSavings", "actualSavings", "targetValue", "estimatedCapex", "progressPercentage",
+            "currentStage", "requiresMoc", "requiresCapex", "mocNumber", "capexNumber",
+            "startDate", "endDate", "createdAt", "updatedAt", "initiatorName");
+
+    private static final String[] REJECTION_FIELDS = {
+            "rejectedBy", "rejectionReason", "rejectionDate", "rejectedStageName", "rejectedStageNumber"
+    };
+
     public Page<Initiative> getAllInitiatives(Pageable pageable) {
         return initiativeRepository.findAll(pageable);
     }
@@ -52,79 +129,176 @@ public class InitiativeService {
     public Page<Initiative> searchInitiatives(String status, String site, String search, String financialYear, Pageable pageable) {
         // Removed unnecessary INFO log for search parameters
         
-        // Determine if search term looks like initiative number (contains slash or alphanumeric pattern)
-        boolean isInitiativeNumberSearch = search != null && 
-            (search.contains("/") || search.matches(".*[A-Z]+.*[0-9]+.*") || search.matches(".*[0-9]+.*[A-Z]+.*"));
+        // Free text goes to the ranked full-text index once it is built; the LIKE filter below is the fallback
+        if (search != null && initiativeSearchService.isReady()) {
+            return searchInitiativesInIndex(status, site, search, financialYear, pageable);
+        }
         
-        // If financial year is provided, use the FY-specific repository methods
-        if (financialYear != null) {
-            return searchInitiativesWithFinancialYear(status, site, search, financialYear, isInitiativeNumberSearch, pageable);
+        return initiativeRepository.findAll(toSpecification(status, site, null, null, null, financialYear, search), pageable);
+    }
+    
+    public Page<InitiativeSummaryDTO> searchInitiativeSummaries(String status, String site, String search,
+                                                               String financialYear, Pageable pageable) {
+        return searchInitiativeSummaries(status, site, search, financialYear, pageable, FieldSelection.ALL);
+    }
+    
+    /**
+     * Same filters and ranking as searchInitiatives, returned as list rows: the page of ids is resolved
+     * first, then the rows are read with one projection query (no CLOBs, no per-row rejection lookups).
+     * With a sparse field selection that needs no rejection details only the selected columns are read,
+     * and the creator is joined only when its name or email is selected.
+     */
+    public Page<InitiativeSummaryDTO> searchInitiativeSummaries(String status, String site, String search,
+                                                               String financialYear, Pageable pageable,
+                                                               FieldSelection fields) {
+        List<Long> ids;
+        long total;
+        if (search != null && initiativeSearchService.isReady()) {
+            SearchIndex.Result result = initiativeSearchService.search(search, status, site, financialYear,
+                    (int) pageable.getOffset(), pageable.getPageSize());
+            ids = result.getIds();
+            total = result.getTotal();
+        } else {
+            Page<Long> idPage = initiativeRepository.findIds(
+                    toSpecification(status, site, null, null, null, financialYear, search), pageable);
+            ids = idPage.getContent();
+            total = idPage.getTotalElements();
         }
         
-        // Original logic for non-FY searches
-        if (status != null && site != null && search != null) {
-            if (isInitiativeNumberSearch) {
-                return initiativeRepository.findByStatusAndSiteAndInitiativeNumberContaining(status, site, search, pageable);
-            } else {
-                return initiativeRepository.findByStatusAndSiteAndTitleContaining(status, site, search, pageable);
+        boolean fullRows = fields.isAll() || fields.includesAny(REJECTION_FIELDS);
+        Map<Long, InitiativeSummaryDTO> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += SUMMARY_ID_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SUMMARY_ID_CHUNK, ids.size()));
+            List<InitiativeSummaryDTO> summaries = fullRows
+                    ? initiativeRepository.findSummariesByIdIn(chunk)
+                    : findSparseSummaries(chunk, fields);
+            for (InitiativeSummaryDTO summary : summaries) {
+                byId.putIfAbsent(summary.getId(), summary);
             }
-        } else if (search != null) {
-            if (isInitiativeNumberSearch) {
-                return initiativeRepository.findByInitiativeNumberContaining(search, pageable);
-            } else {
-                return initiativeRepository.findByTitleContaining(search, pageable);
+        }
+        List<InitiativeSummaryDTO> rows = new ArrayList<>();
+        for (Long id : ids) {
+            InitiativeSummaryDTO summary = byId.get(id);
+            if (summary != null) {
+                rows.add(summary);
             }
-        } else if (status != null && site != null) {
-            return initiativeRepository.findByStatusAndSite(status, site, pageable);
-        } else if (status != null) {
-            return initiativeRepository.findByStatus(status, pageable);
-        } else if (site != null) {
-            return initiativeRepository.findBySite(site, pageable);
-        } else {
-            return initiativeRepository.findAll(pageable);
         }
+        return new PageImpl<>(rows, pageable, total);
     }
     
-    private Page<Initiative> searchInitiativesWithFinancialYear(String status, String site, String search, 
-                                                               String financialYear, boolean isInitiativeNumberSearch, 
-                                                               Pageable pageable) {
-        // Removed unnecessary INFO logs for financial year filtering
+    private List<InitiativeSummaryDTO> findSparseSummaries(List<Long> ids, FieldSelection fields) {
+        List<String> attributes = new ArrayList<>();
+        for (String attribute : SUMMARY_ATTRIBUTES) {
+            if (fields.includes(attribute) || ("currentStage".equals(attribute) && fields.includes("currentStageName"))) {
+                attributes.add(attribute);
+            }
+        }
+        boolean withCreator = fields.includesAny("createdByName", "createdByEmail");
         
-        // Calculate financial year date range (same logic as DashboardService)
-        LocalDateTime[] fyRange = getFinancialYearRange(financialYear);
-        LocalDateTime fyStart = fyRange[0];
-        LocalDateTime fyEnd = fyRange[1];
+        List<InitiativeSummaryDTO> summaries = new ArrayList<>();
+        for (Tuple row : initiativeRepository.findColumnsByIdIn(ids, attributes, withCreator)) {
+            InitiativeSummaryDTO summary = new InitiativeSummaryDTO();
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(summary);
+            int column = 0;
+            summary.setId((Long) row.get(column++));
+            for (String attribute : attributes) {
+                wrapper.setPropertyValue(attribute, row.get(column++));
+            }
+            if (withCreator) {
+                summary.setCreatedByName((String) row.get(column++));
+                summary.setCreatedByEmail((String) row.get(column));
+            }
+            if (fields.includes("currentStageName")) {
+                summary.setCurrentStageName(InitiativeResponse.getStageName(summary.getCurrentStage()));
+            }
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+    
+    private Page<Initiative> searchInitiativesInIndex(String status, String site, String search,
+                                                      String financialYear, Pageable pageable) {
+        SearchIndex.Result result = initiativeSearchService.search(search, status, site, financialYear,
+                (int) pageable.getOffset(), pageable.getPageSize());
         
-        if (status != null && site != null && search != null) {
-            if (isInitiativeNumberSearch) {
-                return initiativeRepository.findByStatusAndSiteAndInitiativeNumberContainingAndFinancialYear(
-                        status, site, search, fyStart, fyEnd, pageable);
-            } else {
-                return initiativeRepository.findByStatusAndSiteAndTitleContainingAndFinancialYear(
-                        status, site, search, fyStart, fyEnd, pageable);
+        // findAllById does not keep the ranking order
+        Map<Long, Initiative> byId = new HashMap<>();
+        for (Initiative initiative : initiativeRepository.findAllById(result.getIds())) {
+            byId.put(initiative.getId(), initiative);
+        }
+        List<Initiative> ranked = new ArrayList<>();
+        for (Long id : result.getIds()) {
+            Initiative initiative = byId.get(id);
+            if (initiative != null) {
+                ranked.add(initiative);
             }
-        } else if (search != null) {
-            if (isInitiativeNumberSearch) {
-                return initiativeRepository.findByInitiativeNumberContainingAndFinancialYear(search, fyStart, fyEnd, pageable);
-            } else {
-                return initiativeRepository.findByTitleContainingAndFinancialYear(search, fyStart, fyEnd, pageable);
+        }
+        return new PageImpl<>(ranked, pageable, result.getTotal());
+    }
+    
+    /**
+     * Facet counts (site, status, financialYear) of the initiatives matching the search text;
+     * null while the search index is still being built
+     */
+    public Map<String, Map<String, Integer>> getSearchFacets(String status, String site, String search, String financialYear) {
+        if (!initiativeSearchService.isReady()) {
+            return null;
+        }
+        return initiativeSearchService.search(search, status, site, financialYear, 0, 0).getFacetCounts();
+    }
+    
+    /**
+     * Keyset-paginated initiative list, newest first (createdAt, id). Each page is one indexed range
+     * scan from the cursor position, so deep pages cost the same as the first one.
+     * @param cursor nextCursor of the previous page, null for the first page
+     */
+    public CursorPage<Initiative> filterInitiatives(InitiativeFilter filter, String cursor, int pageSize) {
+        Specification<Initiative> spec = toSpecification(filter.getStatus(), filter.getSite(), filter.getDiscipline(),
+                filter.getBudgetType(), filter.getStage(), filter.getFinancialYear(), filter.getSearch());
+        if (cursor != null && !cursor.isEmpty()) {
+            KeysetCursor position;
+            try {
+                position = KeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid cursor");
             }
-        } else if (status != null && site != null) {
-            return initiativeRepository.findByStatusAndSiteAndFinancialYear(status, site, fyStart, fyEnd, pageable);
-        } else if (status != null) {
-            return initiativeRepository.findByStatusAndFinancialYear(status, fyStart, fyEnd, pageable);
-        } else if (site != null) {
-            return initiativeRepository.findBySiteAndFinancialYear(site, fyStart, fyEnd, pageable);
-        } else {
-            return initiativeRepository.findByFinancialYear(fyStart, fyEnd, pageable);
+            spec = Specification.where(spec).and(InitiativeSpecifications.after(position.getCreatedAt(), position.getId()));
         }
+        
+        // One extra row tells whether another page exists, without a COUNT(*)
+        List<Initiative> rows = initiativeRepository.findNewestFirst(spec, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Initiative> content = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Initiative last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasMore);
+    }
+    
+    private static Specification<Initiative> toSpecification(String status, String site, String discipline,
+                                                             String budgetType, Integer stage,
+                                                             String financialYear, String search) {
+        Specification<Initiative> spec = Specification.where(InitiativeSpecifications.hasStatus(status))
+                .and(InitiativeSpecifications.hasSite(site))
+                .and(InitiativeSpecifications.hasDiscipline(discipline))
+                .and(InitiativeSpecifications.hasBudgetType(budgetType))
+                .and(InitiativeSpecifications.atStage(stage))
+                .and(InitiativeSpecifications.textContains(search));
+        if (financialYear != null) {
+            // Calculate financial year date range (same logic as DashboardService)
+            LocalDateTime[] fyRange = getFinancialYearRange(financialYear);
+            spec = spec.and(InitiativeSpecifications.createdBetween(fyRange[0], fyRange[1]));
+        }
+        return spec;
     }
     
     /**
      * Get financial year date range for a specific year as LocalDateTime array [start, end]
      * Same logic as DashboardService.getFinancialYearRange(String financialYear)
      */
-    private LocalDateTime[] getFinancialYearRange(String financialYear) {
+    static LocalDateTime[] getFinancialYearRange(String financialYear) {
         int year = Integer.parseInt(financialYear); // e.g., 2025 for FY 2025-26
         
         LocalDate fyStart = LocalDate.of(year, 4, 1);       // April 1st, 2025
@@ -140,64 +314,124 @@ public class InitiativeService {
         return initiativeRepository.findById(id);
     }
 
-    @Transactional
+    /**
+     * Numbers are reserved before the create transaction opens: a reservation commits on a
+     * connection of its own, and waiting for it while holding one could drain the pool under load.
+     */
     public Initiative createInitiative(InitiativeRequest request, Long userId) {
         loggingService.info("=== INITIATIVE CREATION STARTED ===");
         loggingService.info("User ID: " + userId + " | Site: " + request.getSite() + " | Discipline: " + request.getDiscipline());
-        
+
+        // Generate initiative number
+        String initiativeNumber = generateInitiativeNumber(request.getSite(), request.getDiscipline());
+
+        return createTransaction.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> {
+                        loggingService.error("Initiative creation failed - User not found: " + userId);
+                        return new RuntimeException("User not found");
+                    });
+
+            loggingService.info("Expected Savings: " + request.getExpectedSavings() + " | Target Value: " + request.getTargetValue() + 
+                " | Estimated CAPEX: " + request.getEstimatedCapex());
+            loggingService.info("Selected HOD ID: " + request.getSelectedHodId() + " | HOD Email: " + request.getSelectedHodEmail());
+
+            Initiative initiative = buildInitiative(request, user);
+            initiative.setInitiativeNumber(initiativeNumber);
+
+            Initiative savedInitiative = initiativeRepository.save(initiative);
+            changeLogService.recordInitiativeChange(savedInitiative, ChangeLogService.OP_CREATE);
+            loggingService.info("Initiative created successfully - ID: " + savedInitiative.getId() + 
+                " | Number: " + savedInitiative.getInitiativeNumber() + " | Title: " + savedInitiative.getTitle());
+
+            // Create initial workflow stages and transactions with HOD assignment
+            // createInitialWorkflowStages(savedInitiative);
+            workflowTransactionService.createInitialWorkflowTransactions(savedInitiative, request.getSelectedHodId(), request.getSelectedHodEmail());
+
+            loggingService.info("=== INITIATIVE CREATION COMPLETED === Initiative: " + savedInitiative.getInitiativeNumber());
+
+            return savedInitiative;
+        });
+    }
+
+    /**
+     * Create many initiatives in one transaction. Every row is checked before anything is written
+     * (BulkInitiativeException lists all problems found), numbers are reserved per site and per
+     * discipline once for the whole batch before the write transaction opens, and the inserts are
+     * flushed as JDBC batches (hibernate.jdbc.batch_size).
+     * A row may name its HOD by selectedHodId or by selectedHodEmail alone.
+     * @param rows      row number (list position or spreadsheet row) to request, in creation order
+     * @param rowErrors problems already found while reading the rows, reported together with the rest
+     */
+    public List<Initiative> createInitiatives(Map<Integer, InitiativeRequest> rows, List<InitiativeRowError> rowErrors,
+                                              Long userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    loggingService.error("Initiative creation failed - User not found: " + userId);
-                    return new RuntimeException("User not found");
-                });
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (rows.isEmpty() && rowErrors.isEmpty()) {
+            throw new RuntimeException("No initiatives to create");
+        }
+        loggingService.info("=== BULK INITIATIVE CREATION STARTED === User ID: " + userId + " | Rows: " + rows.size());
 
-        loggingService.info("Expected Savings: " + request.getExpectedSavings() + " | Target Value: " + request.getTargetValue() + 
-            " | Estimated CAPEX: " + request.getEstimatedCapex());
-        loggingService.info("Selected HOD ID: " + request.getSelectedHodId() + " | HOD Email: " + request.getSelectedHodEmail());
+        List<InitiativeRowError> errors = new ArrayList<>(rowErrors);
+        Map<Long, User> hodsById = new HashMap<>();
+        Map<Object, Optional<User>> hodLookups = new HashMap<>();
+        Map<String, Boolean> sitesWithWorkflow = new HashMap<>();
+        for (Map.Entry<Integer, InitiativeRequest> row : rows.entrySet()) {
+            validateBulkRow(row.getKey(), row.getValue(), hodsById, hodLookups, sitesWithWorkflow, errors);
+        }
+        if (!errors.isEmpty()) {
+            errors.sort(Comparator.comparing(InitiativeRowError::getRow));
+            loggingService.warning("Bulk initiative creation rejected - " + errors.size() + " problem(s) in " + rows.size() + " row(s)");
+            throw new BulkInitiativeException(errors);
+        }
 
-        Initiative initiative = new Initiative(
-                request.getTitle(),
-                request.getDescription(),
-                request.getPriority(),
-                request.getExpectedSavings(), // Allow zero values
-                request.getSite(),
-                request.getDiscipline(),
-                request.getStartDate(),
-                request.getEndDate(),
-                user,
-                request.getInitiatorName(),
-                request.getSelectedHodId()
-        );
+        List<Initiative> initiatives = new ArrayList<>();
+        for (InitiativeRequest request : rows.values()) {
+            initiatives.add(buildInitiative(request, user));
+        }
+        assignInitiativeNumbers(initiatives);
 
-        initiative.setRequiresMoc(request.getRequiresMoc());
-        initiative.setRequiresCapex(request.getRequiresCapex());
-        
-        // Set new fields for assumptions and additional form data
-        initiative.setAssumption1(request.getAssumption1());
-        initiative.setAssumption2(request.getAssumption2());
-        initiative.setAssumption3(request.getAssumption3());
-        initiative.setBaselineData(request.getBaselineData());
-        initiative.setTargetOutcome(request.getTargetOutcome());
-        initiative.setTargetValue(request.getTargetValue()); // Allow zero values
-        initiative.setConfidenceLevel(request.getConfidenceLevel());
-        initiative.setEstimatedCapex(request.getEstimatedCapex()); // Allow zero values
-        initiative.setBudgetType(request.getBudgetType());
-        
-        // Generate initiative number
-        String initiativeNumber = generateInitiativeNumber(request.getSite(), request.getDiscipline());
-        initiative.setInitiativeNumber(initiativeNumber);
+        return createTransaction.execute(status -> {
+            List<Initiative> savedInitiatives = initiativeRepository.saveAll(initiatives);
+            for (Initiative savedInitiative : savedInitiatives) {
+                changeLogService.recordInitiativeChange(savedInitiative, ChangeLogService.OP_CREATE);
+            }
+            workflowTransactionService.createInitialWorkflowTransactions(savedInitiatives, hodsById);
 
-        Initiative savedInitiative = initiativeRepository.save(initiative);
-        loggingService.info("Initiative created successfully - ID: " + savedInitiative.getId() + 
-            " | Number: " + savedInitiative.getInitiativeNumber() + " | Title: " + savedInitiative.getTitle());
+            loggingService.info("=== BULK INITIATIVE CREATION COMPLETED === " + savedInitiatives.size() + " initiative(s) created");
+            return savedInitiatives;
+        });
+    }
 
-        // Create initial workflow stages and transactions with HOD assignment
-        // createInitialWorkflowStages(savedInitiative);
-        workflowTransactionService.createInitialWorkflowTransactions(savedInitiative, request.getSelectedHodId(), request.getSelectedHodEmail());
-        
-        loggingService.info("=== INITIATIVE CREATION COMPLETED === Initiative: " + savedInitiative.getInitiativeNumber());
+    // Lookups are cached per batch: a sheet usually names a handful of HODs and sites
+    private void validateBulkRow(Integer rowNumber, InitiativeRequest request, Map<Long, User> hodsById,
+                                 Map<Object, Optional<User>> hodLookups, Map<String, Boolean> sitesWithWorkflow,
+                                 List<InitiativeRowError> errors) {
+        for (ConstraintViolation<InitiativeRequest> violation : validator.validate(request)) {
+            errors.add(new InitiativeRowError(rowNumber, violation.getPropertyPath() + " " + violation.getMessage()));
+        }
+
+        if (request.getSite() != null && !request.getSite().trim().isEmpty()
+                && !sitesWithWorkflow.computeIfAbsent(request.getSite(), workflowTransactionService::hasInitialStage)) {
+            errors.add(new InitiativeRowError(rowNumber, "No workflow configuration found for site: " + request.getSite()));
+        }
 
-        return savedInitiative;
+        Optional<User> hod;
+        if (request.getSelectedHodId() != null) {
+            hod = hodLookups.computeIfAbsent(request.getSelectedHodId(), id -> userRepository.findById((Long) id));
+        } else if (request.getSelectedHodEmail() != null && !request.getSelectedHodEmail().trim().isEmpty()) {
+            hod = hodLookups.computeIfAbsent(request.getSelectedHodEmail().trim(), email -> userRepository.findByEmail((String) email));
+        } else {
+            errors.add(new InitiativeRowError(rowNumber, "HOD selection is required for Stage 2 approval"));
+            return;
+        }
+        if (!hod.isPresent() || !"HOD".equals(hod.get().getRole())) {
+            errors.add(new InitiativeRowError(rowNumber, "Invalid HOD selection. User must have HOD role."));
+            return;
+        }
+        request.setSelectedHodId(hod.get().getId());
+        request.setSelectedHodEmail(hod.get().getEmail());
+        hodsById.put(hod.get().getId(), hod.get());
     }
 
 
@@ -239,14 +473,35 @@ public class InitiativeService {
         initiative.setBudgetType(request.getBudgetType());
 
         Initiative updated = initiativeRepository.save(initiative);
+        changeLogService.recordInitiativeChange(updated, ChangeLogService.OP_UPDATE);
         loggingService.info("Initiative updated successfully - ID: " + id + " | Number: " + updated.getInitiativeNumber());
         
         return updated;
     }
 
+    @Transactional
     public void deleteInitiative(Long id) {
         loggingService.warning("Initiative deletion requested - ID: " + id);
-        initiativeRepository.deleteById(id);
+        Initiative initiative = initiativeRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Initiative not found"));
+
+        // Monitoring entries and workflow rows are not mapped on the initiative; remove them here so each gets its DELETE record
+        List<MonthlyMonitoringEntry> entries = monthlyMonitoringEntryRepository.findByInitiativeIdOrderByMonitoringMonthDesc(id);
+        for (MonthlyMonitoringEntry entry : entries) {
+            changeLogService.recordMonitoringEntryChange(entry, ChangeLogService.OP_DELETE);
+        }
+        monthlyMonitoringEntryRepository.deleteAll(entries);
+        List<WorkflowTransaction> transactions = workflowTransactionRepository.findByInitiativeIdOrderByStageNumber(id);
+        for (WorkflowTransaction transaction : transactions) {
+            changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_DELETE);
+        }
+        workflowTransactionRepository.deleteAll(transactions);
+
+        // The file rows go with the cascade; their stored content is released once the delete has committed
+        List<InitiativeFile> files = fileUploadService.getFilesByInitiativeId(id);
+        changeLogService.recordInitiativeChange(initiative, ChangeLogService.OP_DELETE);
+        initiativeRepository.delete(initiative);
+        fileUploadService.releaseStoredFilesAfterCommit(files);
         loggingService.info("Initiative deleted - ID: " + id);
     }
 
@@ -258,21 +513,91 @@ public class InitiativeService {
         return initiativeRepository.findByPriority(priority);
     }
 
+    private static Initiative buildInitiative(InitiativeRequest request, User user) {
+        Initiative initiative = new Initiative(
+                request.getTitle(),
+                request.getDescription(),
+                request.getPriority(),
+                request.getExpectedSavings(), // Allow zero values
+                request.getSite(),
+                request.getDiscipline(),
+                request.getStartDate(),
+                request.getEndDate(),
+                user,
+                request.getInitiatorName(),
+                request.getSelectedHodId()
+        );
+
+        initiative.setRequiresMoc(request.getRequiresMoc());
+        initiative.setRequiresCapex(request.getRequiresCapex());
+        
+        // Set new fields for assumptions and additional form data
+        initiative.setAssumption1(request.getAssumption1());
+        initiative.setAssumption2(request.getAssumption2());
+        initiative.setAssumption3(request.getAssumption3());
+        initiative.setBaselineData(request.getBaselineData());
+        initiative.setTargetOutcome(request.getTargetOutcome());
+        initiative.setTargetValue(request.getTargetValue()); // Allow zero values
+        initiative.setConfidenceLevel(request.getConfidenceLevel());
+        initiative.setEstimatedCapex(request.getEstimatedCapex()); // Allow zero values
+        initiative.setBudgetType(request.getBudgetType());
+
+        return initiative;
+    }
+
     private String generateInitiativeNumber(String site, String discipline) {
-        // Get current year (2-digit format)
         int currentYear = java.time.LocalDate.now().getYear();
-        String yearCode = String.format("%02d", currentYear % 100);
-        
-        // Map discipline to category code
-        String categoryCode = getDisciplineCategoryCode(discipline);
         
         // Get discipline-specific sequential number for the site
-        Long disciplineCount = initiativeRepository.countBySiteAndDisciplineAndYear(site, discipline, currentYear);
-        String disciplineSequential = String.format("%02d", disciplineCount + 1);
+        long disciplineNumber = initiativeNumberSequencer.nextDisciplineNumber(site, discipline, currentYear);
         
         // Get overall site-specific initiative number
-        Long siteCount = initiativeRepository.countBySiteAndYear(site, currentYear);
-        String overallSequential = String.format("%03d", siteCount + 1);
+        long siteNumber = initiativeNumberSequencer.nextSiteNumber(site, currentYear);
+        
+        return formatInitiativeNumber(site, discipline, currentYear, disciplineNumber, siteNumber);
+    }
+
+    /**
+     * Numbers for a batch of new initiatives: one reservation per site and per site + discipline,
+     * handed out in list order
+     */
+    private void assignInitiativeNumbers(List<Initiative> initiatives) {
+        int currentYear = java.time.LocalDate.now().getYear();
+        Map<String, List<Initiative>> bySite = new LinkedHashMap<>();
+        Map<List<String>, List<Initiative>> byDiscipline = new LinkedHashMap<>();
+        for (Initiative initiative : initiatives) {
+            bySite.computeIfAbsent(initiative.getSite(), k -> new ArrayList<>()).add(initiative);
+            byDiscipline.computeIfAbsent(Arrays.asList(initiative.getSite(), initiative.getDiscipline()),
+                    k -> new ArrayList<>()).add(initiative);
+        }
+
+        Map<Initiative, Long> disciplineNumbers = new IdentityHashMap<>();
+        for (Map.Entry<List<String>, List<Initiative>> group : byDiscipline.entrySet()) {
+            long[] numbers = initiativeNumberSequencer.nextDisciplineNumbers(
+                    group.getKey().get(0), group.getKey().get(1), currentYear, group.getValue().size());
+            for (int i = 0; i < numbers.length; i++) {
+                disciplineNumbers.put(group.getValue().get(i), numbers[i]);
+            }
+        }
+        for (Map.Entry<String, List<Initiative>> group : bySite.entrySet()) {
+            long[] numbers = initiativeNumberSequencer.nextSiteNumbers(group.getKey(), currentYear, group.getValue().size());
+            for (int i = 0; i < numbers.length; i++) {
+                Initiative initiative = group.getValue().get(i);
+                initiative.setInitiativeNumber(formatInitiativeNumber(initiative.getSite(), initiative.getDiscipline(),
+                        currentYear, disciplineNumbers.get(initiative), numbers[i]));
+            }
+        }
+    }
+
+    private String formatInitiativeNumber(String site, String discipline, int year, long disciplineNumber, long siteNumber) {
+        // Get current year (2-digit format)
+        String yearCode = String.format("%02d", year % 100);
+        
+        // Map discipline to category code
+        String categoryCode = getDisciplineCategoryCode(discipline);
+        
+        String disciplineSequential = String.format("%02d", disciplineNumber);
+        String overallSequential = String.format("%03d", siteNumber);
         
         // Format: ZZZ/YY/XX/AB/123
         return String.format("%s/%s/%s/%s/%s", 
@@ -342,6 +667,7 @@ public class InitiativeService {
             try {
                 // Save the updated initiative
                 Initiative savedInitiative = initiativeRepository.save(initiative);
+                changeLogService.recordInitiativeChange(savedInitiative, ChangeLogService.OP_UPDATE);
                 loggingService.info("MOC/CAPEX update successful");
                 loggingService.info("Updated MOC - Requires: " + savedInitiative.getRequiresMoc() + " | Number: " + savedInitiative.getMocNumber());
                 loggingService.info("Updated CAPEX - Requires: " + savedInitiative.getRequiresCapex() + " | Number: " + savedInitiative.getCapexNumber());
@@ -2,95 +2,278 @@ package com.company.opexhub.service;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.sql.Timestamp;
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Logging service for OPEX Hub application
  * Creates daily log files for troubleshooting workflow and initiative operations
+ *
+ * Callers only append to a bounded lock-free ring buffer and never touch the disk. One background
+ * writer drains it into the day's file, which it keeps open, flushes once per batch and rolls over
+ * at midnight. When the buffer is full new lines are dropped and counted instead of blocking.
  */
 @Service
 public class LoggingService {
-    
-    // Log directory - relative to application root for flexibility
-    private final String LOG_DIRECTORY = "D:\\opexhub\\";
-    
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
+
+    // Log directory, e.g. D:/opexhub on the Windows servers
+    @Value("${app.log.directory:D:/opexhub}")
+    private String logDirectory;
+
+    @Value("${app.log.buffer-size:8192}")
+    private int bufferSize;
+
+    // How long the writer sleeps when the buffer is empty
+    @Value("${app.log.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private LogRingBuffer buffer;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final LongAdder droppedCount = new LongAdder();
+    private long reportedDropped;
+
+    // Writer thread state
+    private BufferedWriter writer;
+    private LocalDate writerDate;
+
+    @PostConstruct
+    public void start() {
+        buffer = new LogRingBuffer(bufferSize);
+        running = true;
+        writerThread = new Thread(this::drainLoop, "opex-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Write INFO level log
      */
     public void info(String message) {
         writeLog("INFO", message);
     }
-    
+
     /**
      * Write WARNING level log
      */
     public void warning(String message) {
         writeLog("WARNING", message);
     }
-    
+
     /**
      * Write ERROR level log
      */
     public void error(String message) {
         writeLog("ERROR", message);
     }
-    
+
     /**
      * Write ERROR level log with exception
      */
     public void error(String message, Exception e) {
         writeLog("ERROR", message + " | Exception: " + e.getMessage());
     }
-    
+
     /**
-     * Write log entry to daily log file
+     * Number of log lines dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Queue a log entry for the writer thread; never blocks
      */
     private void writeLog(String level, String message) {
-        try {
-            String logFileName = LOG_DIRECTORY + getTodayDate() + ".log";
-            createDirectoryIfNotExists(LOG_DIRECTORY);
+        if (!buffer.offer(System.currentTimeMillis(), level, message)) {
+            droppedCount.increment();
+        }
+    }
 
-            Timestamp timestamp = new Timestamp(System.currentTimeMillis());
-            String logMessage = String.format("[%s] [%s] %s%n", 
-                timestamp.toString(), level, message);
+    private void drainLoop() {
+        while (running) {
+            if (drainBatch() == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+            }
+        }
+        // Write whatever is still queued before closing the file
+        while (drainBatch() > 0) {
+            // keep draining
+        }
+        closeWriter();
+    }
 
-            Path logFilePath = Paths.get(logFileName);
+    private int drainBatch() {
+        int written = buffer.drain(this::writeEntry);
+        long dropped = droppedCount.sum();
+        if (dropped > reportedDropped) {
+            writeEntry(System.currentTimeMillis(), "WARNING",
+                (dropped - reportedDropped) + " log lines dropped - log buffer full");
+            reportedDropped = dropped;
+            written++;
+        }
+        if (written > 0 && writer != null) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                System.err.println("Failed to flush log file: " + e.getMessage());
+                closeWriter();
+            }
+        }
+        return written;
+    }
 
-            try (BufferedWriter writer = Files.newBufferedWriter(logFilePath, 
-                    java.nio.file.StandardOpenOption.CREATE, 
-                    java.nio.file.StandardOpenOption.APPEND)) {
-                writer.write(logMessage);
+    private void writeEntry(long timestamp, String level, String message) {
+        String logMessage = String.format("[%s] [%s] %s%n",
+            new Timestamp(timestamp).toString(), level, message);
+        try {
+            LocalDate date = Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault()).toLocalDate();
+            if (writer == null || !date.equals(writerDate)) {
+                openWriter(date);
             }
+            writer.write(logMessage);
         } catch (IOException e) {
-            // Fallback to console logging if file writing fails
+            // Fallback to console logging if file writing fails; the file is reopened on the next entry
             System.err.println("Failed to write to log file: " + e.getMessage());
-            System.err.println("[" + level + "] " + message);
+            System.err.print("[" + level + "] " + message + System.lineSeparator());
+            closeWriter();
         }
     }
-    
+
     /**
-     * Create log directory if it doesn't exist
+     * Open (or roll over to) the daily log file, creating the directory if needed
      */
-    private void createDirectoryIfNotExists(String directoryPath) throws IOException {
-        Path directory = Paths.get(directoryPath);
+    private void openWriter(LocalDate date) throws IOException {
+        closeWriter();
+        Path directory = Paths.get(logDirectory);
         if (Files.notExists(directory)) {
             Files.createDirectories(directory);
         }
+        Path logFilePath = directory.resolve(FILE_DATE_FORMAT.format(date) + ".log");
+        writer = Files.newBufferedWriter(logFilePath, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        writerDate = date;
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close log file: " + e.getMessage());
+            }
+            writer = null;
+            writerDate = null;
+        }
     }
-    
+
     /**
-     * Get today's date in dd-MMM-yyyy format for log file name
+     * Bounded multi-producer / single-consumer ring buffer of log entries.
+     * Producers claim a slot with one CAS and publish it through the slot's sequence number;
+     * a full buffer makes offer() return false instead of waiting.
      */
-    private String getTodayDate() {
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd-MMM-yyyy");
-        LocalDateTime now = LocalDateTime.now();
-        return dtf.format(now);
+    private static final class LogRingBuffer {
+
+        interface EntryConsumer {
+            void accept(long timestamp, String level, String message);
+        }
+
+        private final int mask;
+        private final AtomicLongArray sequences;
+        private final long[] timestamps;
+        private final String[] levels;
+        private final String[] messages;
+        private final AtomicLong tail = new AtomicLong();
+        private long head;
+
+        LogRingBuffer(int requestedCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+            this.mask = capacity - 1;
+            this.sequences = new AtomicLongArray(capacity);
+            this.timestamps = new long[capacity];
+            this.levels = new String[capacity];
+            this.messages = new String[capacity];
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        boolean offer(long timestamp, String level, String message) {
+            long position = tail.get();
+            while (true) {
+                int index = (int) (position & mask);
+                long sequence = sequences.get(index);
+                if (sequence == position) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        timestamps[index] = timestamp;
+                        levels[index] = level;
+                        messages[index] = message;
+                        // Publishing the sequence makes the slot's fields visible to the writer
+                        sequences.set(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (sequence < position) {
+                    return false; // full: the writer has not freed this slot yet
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        // Single consumer only (the writer thread)
+        int drain(EntryConsumer consumer) {
+            int drained = 0;
+            // At most one lap per call so the writer flushes regularly under sustained load
+            while (drained <= mask) {
+                int index = (int) (head & mask);
+                if (sequences.get(index) != head + 1) {
+                    break;
+                }
+                long timestamp = timestamps[index];
+                String level = levels[index];
+                String message = messages[index];
+                levels[index] = null;
+                messages[index] = null;
+                sequences.set(index, head + mask + 1);
+                head++;
+                consumer.accept(timestamp, level, message);
+                drained++;
+            }
+            return drained;
+        }
     }
 }
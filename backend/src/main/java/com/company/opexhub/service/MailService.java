@@ -0,0 +1,46 @@
+package com.company.opexhub.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import mailhelper.MailHelper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * Single entry point for outgoing mail so every MailHelper.send call is timed
+ * (opex.mail.send, tagged by mail type and outcome)
+ */
+@Service
+public class MailService {
+
+    public static final String TYPE_PASSWORD_RESET = "password-reset";
+    public static final String TYPE_EMAIL_VERIFICATION = "email-verification";
+    public static final String TYPE_FA_NOTIFICATION = "fa-notification";
+    public static final String TYPE_FA_APPROVAL_CONFIRMATION = "fa-approval-confirmation";
+    public static final String TYPE_FA_EDIT_REQUEST = "fa-edit-request";
+    public static final String TYPE_WORKFLOW_NOTIFICATION = "workflow-notification";
+    public static final String TYPE_WORKFLOW_REJECTION = "workflow-rejection";
+    public static final String TYPE_WORKFLOW_DIGEST = "workflow-digest";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void send(String mailType, String subject, String body, String to, String cc, String bcc) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            MailHelper.send(subject, body, to, cc, bcc);
+        } catch (IOException | RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("opex.mail.send")
+                    .description("Time taken to hand an email to the mail server")
+                    .tag("type", mailType)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
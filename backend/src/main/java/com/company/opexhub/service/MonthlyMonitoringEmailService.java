@@ -4,7 +4,6 @@ import com.company.opexhub.entity.MonthlyMonitoringEntry;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.entity.User;
 import com.company.opexhub.repository.UserRepository;
-import mailhelper.MailHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -27,6 +26,9 @@ public class MonthlyMonitoringEmailService {
     
     @Autowired
     private LoggingService loggingService;
+
+    @Autowired
+    private MailService mailService;
     
     @Value("${app.base.url:http://localhost:8001}")
     private String baseUrl;
@@ -71,7 +73,7 @@ public class MonthlyMonitoringEmailService {
             );
             
             // Send email
-            MailHelper.send(subject, emailBody, faUser.getEmail(), cc, bcc);
+            mailService.send(MailService.TYPE_FA_NOTIFICATION, subject, emailBody, faUser.getEmail(), cc, bcc);
             
             loggingService.info("F&A notification email sent successfully - " +
                 "Entry ID: " + entry.getId() + " | " +
@@ -121,7 +123,7 @@ public class MonthlyMonitoringEmailService {
                 faUser.getFullName()
             );
             
-            MailHelper.send(subject, emailBody, ilUser.getEmail(), null, "dnsharma@godeepak.com");
+            mailService.send(MailService.TYPE_FA_APPROVAL_CONFIRMATION, subject, emailBody, ilUser.getEmail(), null, "dnsharma@godeepak.com");
             
             loggingService.info("Approval confirmation sent - Entry ID: " + entry.getId());
             return true;
@@ -159,7 +161,7 @@ public class MonthlyMonitoringEmailService {
                 faComments
             );
             
-            MailHelper.send(subject, emailBody, ilUser.getEmail(), null, "dnsharma@godeepak.com");
+            mailService.send(MailService.TYPE_FA_EDIT_REQUEST, subject, emailBody, ilUser.getEmail(), null, "dnsharma@godeepak.com");
             
             loggingService.info("Edit request notification sent - Entry ID: " + entry.getId());
             return true;
@@ -325,6 +325,7 @@
 
 package com.company.opexhub.service;
 
+import com.company.opexhub.dto.MonitoringTimelineDTO;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.entity.MonthlyMonitoringEntry;
 import com.company.opexhub.repository.InitiativeRepository;
@@ -334,6 +335,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -352,6 +355,9 @@ public class MonthlyMonitoringService {
     @Autowired
     private MonthlyMonitoringEmailService emailService;
 
+    @Autowired
+    private ChangeLogService changeLogService;
+
     public List<MonthlyMonitoringEntry> getMonitoringEntriesByInitiative(Long initiativeId) {
         return monthlyMonitoringRepository.findByInitiative_IdOrderByMonitoringMonth(initiativeId);
     }
@@ -379,6 +385,7 @@ public class MonthlyMonitoringService {
         
         monitoringEntry.setInitiative(initiative);
         MonthlyMonitoringEntry savedEntry = monthlyMonitoringRepository.save(monitoringEntry);
+        changeLogService.recordMonitoringEntryChange(savedEntry, ChangeLogService.OP_CREATE);
         
         // Update Initiative's actual savings if entry is created as finalized
         if ("Y".equals(savedEntry.getIsFinalized())) {
@@ -418,6 +425,7 @@ public class MonthlyMonitoringService {
         }
         
         MonthlyMonitoringEntry savedEntry = monthlyMonitoringRepository.save(entry);
+        changeLogService.recordMonitoringEntryChange(savedEntry, ChangeLogService.OP_UPDATE);
         
         // Update Initiative's actual savings if:
         // 1. Entry was finalized before or after the update, OR
@@ -450,6 +458,7 @@ public class MonthlyMonitoringService {
         
         entry.setIsFinalized(isFinalized);
         MonthlyMonitoringEntry savedEntry = monthlyMonitoringRepository.save(entry);
+        changeLogService.recordMonitoringEntryChange(savedEntry, ChangeLogService.OP_FINALIZE);
         
         // Update Initiative's actual savings when entry is finalized or un-finalized
         try {
@@ -489,7 +498,9 @@ public class MonthlyMonitoringService {
         
         entry.setFaApproval(faApproval);
         entry.setFaComments(faComments);
-        return monthlyMonitoringRepository.save(entry);
+        MonthlyMonitoringEntry savedEntry = monthlyMonitoringRepository.save(entry);
+        changeLogService.recordMonitoringEntryChange(savedEntry, ChangeLogService.OP_FA_APPROVAL);
+        return savedEntry;
     }
 
     @Transactional
@@ -502,6 +513,7 @@ public class MonthlyMonitoringService {
             boolean wasFinalized = "Y".equals(entry.getIsFinalized());
             
             // Delete the entry
+            changeLogService.recordMonitoringEntryChange(entry, ChangeLogService.OP_DELETE);
             monthlyMonitoringRepository.deleteById(id);
             
             // Update Initiative's actual savings if the deleted entry was finalized
@@ -537,16 +549,21 @@ public class MonthlyMonitoringService {
     @Transactional
     public List<MonthlyMonitoringEntry> batchFAApproval(List<Long> entryIds, String faComments) {
         List<MonthlyMonitoringEntry> entries = monthlyMonitoringRepository.findAllById(entryIds);
+        List<MonthlyMonitoringEntry> approvedEntries = new ArrayList<>();
         
         for (MonthlyMonitoringEntry entry : entries) {
             // Only approve entries that are finalized but not yet F&A approved
             if ("Y".equals(entry.getIsFinalized()) && !"Y".equals(entry.getFaApproval())) {
                 entry.setFaApproval("Y");
                 entry.setFaComments(faComments);
+                approvedEntries.add(entry);
             }
         }
         
         List<MonthlyMonitoringEntry> savedEntries = monthlyMonitoringRepository.saveAll(entries);
+        for (MonthlyMonitoringEntry approvedEntry : approvedEntries) {
+            changeLogService.recordMonitoringEntryChange(approvedEntry, ChangeLogService.OP_FA_APPROVAL);
+        }
         
         // Note: actualSavings is now updated when entries are finalized, 
         // not when F&A approved, as per new requirement
@@ -706,6 +723,50 @@ public class MonthlyMonitoringService {
         return total != null ? total : BigDecimal.ZERO;
     }
 
+    // Get the monitoring timeline for an initiative: lightweight entries plus totals and
+    // finalisation/F&A state, all derived from a single projection query
+    public MonitoringTimelineDTO getMonitoringTimeline(Long initiativeId) {
+        List<Object[]> rows = monthlyMonitoringRepository.findTimelineRowsByInitiativeId(initiativeId);
+
+        List<MonitoringTimelineDTO.EntrySummary> entries = new ArrayList<>(rows.size());
+        BigDecimal totalAchieved = BigDecimal.ZERO;
+        BigDecimal totalTarget = BigDecimal.ZERO;
+        boolean allFinalized = !rows.isEmpty();
+        long pendingFACount = 0;
+        long finalizedPendingFACount = 0;
+
+        for (Object[] row : rows) {
+            MonitoringTimelineDTO.EntrySummary entry = new MonitoringTimelineDTO.EntrySummary(
+                    (Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (BigDecimal) row[4], (BigDecimal) row[5], (BigDecimal) row[6], (BigDecimal) row[7],
+                    (String) row[8], (String) row[9], (String) row[10], (LocalDateTime) row[11]);
+            entries.add(entry);
+
+            boolean finalized = "Y".equals(entry.getIsFinalized());
+            boolean faPending = "N".equals(entry.getFaApproval());
+
+            // Same rules as sumAchievedValueByInitiativeId, areAllEntriesFinalized and the pending F&A queries
+            if (finalized && entry.getAchievedValue() != null) {
+                totalAchieved = totalAchieved.add(entry.getAchievedValue());
+            }
+            if (entry.getTargetValue() != null) {
+                totalTarget = totalTarget.add(entry.getTargetValue());
+            }
+            if (!finalized) {
+                allFinalized = false;
+            }
+            if (faPending) {
+                pendingFACount++;
+                if (finalized) {
+                    finalizedPendingFACount++;
+                }
+            }
+        }
+
+        return new MonitoringTimelineDTO(initiativeId, entries, totalAchieved, totalTarget,
+                allFinalized, pendingFACount, finalizedPendingFACount);
+    }
+
     // Update Initiative's actualSavings field with total achieved value from monthly monitoring
     @Transactional
     public BigDecimal syncInitiativeActualSavings(Long initiativeId) {
@@ -715,6 +776,7 @@ public class MonthlyMonitoringService {
         BigDecimal totalAchievedValue = getTotalAchievedValueForInitiative(initiativeId);
         initiative.setActualSavings(totalAchievedValue);
         initiativeRepository.save(initiative);
+        changeLogService.recordInitiativeChange(initiative, ChangeLogService.OP_UPDATE);
         
         return totalAchievedValue;
     }
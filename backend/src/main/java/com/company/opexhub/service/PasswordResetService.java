@@ -2,16 +2,18 @@ package com.company.opexhub.service;
 
 import com.company.opexhub.entity.User;
 import com.company.opexhub.repository.UserRepository;
-import mailhelper.MailHelper;
+import com.company.opexhub.util.ExpiringTokenStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -27,8 +29,24 @@ public class PasswordResetService {
     @Autowired
     private LoggingService loggingService;
 
-    // In-memory storage for reset codes (in production, use Redis or database)
-    private final Map<String, ResetCodeData> resetCodes = new ConcurrentHashMap<>();
+    @Autowired
+    private TokenInvalidationService tokenInvalidationService;
+
+    @Autowired
+    private MailService mailService;
+
+    private static final long CODE_VALIDITY_MS = TimeUnit.MINUTES.toMillis(15);
+
+    @Value("${token-store.password-reset.capacity:5000}")
+    private int capacity;
+
+    // Bounded in-memory storage for reset codes; codes live 15 minutes, so they are not persisted
+    private ExpiringTokenStore<ResetCodeData> resetCodes;
+
+    @PostConstruct
+    public void initCodeStore() {
+        resetCodes = new ExpiringTokenStore<>("password-reset", 1000L, 1024, capacity, null);
+    }
     
     private static class ResetCodeData {
         private final String code;
@@ -63,7 +81,7 @@ public class PasswordResetService {
             
             // Store code with 15-minute expiry
             LocalDateTime expiryTime = LocalDateTime.now().plusMinutes(15);
-            resetCodes.put(email.toLowerCase(), new ResetCodeData(resetCode, expiryTime));
+            resetCodes.put(email.toLowerCase(), new ResetCodeData(resetCode, expiryTime), CODE_VALIDITY_MS);
 
             // Send email
             String subject = "Password Reset Code - OPEX Hub";
@@ -71,7 +89,7 @@ public class PasswordResetService {
             String bcc = "dnsharma@godeepak.com";
             String emailTemplate = createPasswordResetEmailTemplate(user.getFullName(), resetCode);
             
-            MailHelper.send(subject, emailTemplate, email, cc, bcc);
+            mailService.send(MailService.TYPE_PASSWORD_RESET, subject, emailTemplate, email, cc, bcc);
             
             loggingService.info("Password reset code sent successfully - Email: " + email + " | User: " + user.getFullName());
             Logger.getLogger(this.getClass().getName()).info(
@@ -98,16 +116,11 @@ public class PasswordResetService {
     public boolean verifyResetCode(String email, String code) {
         loggingService.info("Password reset code verification - Email: " + email);
         
+        // Expired codes are never returned by the store
         ResetCodeData resetData = resetCodes.get(email.toLowerCase());
         
         if (resetData == null) {
-            loggingService.warning("Code verification failed - No code found for email: " + email);
-            return false;
-        }
-        
-        if (resetData.isExpired()) {
-            loggingService.warning("Code verification failed - Code expired for email: " + email);
-            resetCodes.remove(email.toLowerCase());
+            loggingService.warning("Code verification failed - No valid code found for email: " + email);
             return false;
         }
         
@@ -144,6 +157,7 @@ public class PasswordResetService {
             // Update password
             user.setPassword(passwordEncoder.encode(newPassword));
             userRepository.save(user);
+            tokenInvalidationService.revokeUser(user.getId());
             
             // Remove used code
             resetCodes.remove(email.toLowerCase());
@@ -247,15 +261,14 @@ public class PasswordResetService {
     }
 
     /**
-     * Clean up expired codes (call this periodically)
+     * Clean up expired codes (runs periodically)
      */
+    @Scheduled(fixedDelayString = "${token-store.sweep-ms:60000}")
     public void cleanupExpiredCodes() {
-        int beforeCount = resetCodes.size();
-        resetCodes.entrySet().removeIf(entry -> entry.getValue().isExpired());
-        int afterCount = resetCodes.size();
+        int removed = resetCodes.expireEntries();
         
-        if (beforeCount > afterCount) {
-            loggingService.info("Password reset codes cleanup - Removed " + (beforeCount - afterCount) + " expired codes");
+        if (removed > 0) {
+            loggingService.info("Password reset codes cleanup - Removed " + removed + " expired codes");
         }
     }
 }
\ No newline at end of file
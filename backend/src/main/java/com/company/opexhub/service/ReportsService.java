@@ -5,6 +5,7 @@ import com.company.opexhub.dto.FinancialYearReportDTO;
 import com.company.opexhub.entity.Initiative;
 import com.company.opexhub.repository.InitiativeRepository;
 import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import com.company.opexhub.util.SavingsAccumulator;
 import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.kernel.colors.Color;
 import com.itextpdf.kernel.colors.ColorConstants;
@@ -38,6 +39,7 @@ import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.poi.util.Units;
@@ -48,6 +50,10 @@ import org.slf4j.LoggerFactory;
 public class ReportsService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReportsService.class);
+    
+    // Column indexes of the per-month financial year accumulator
+    private static final int FY_ACTUAL = 0;
+    private static final int FY_TARGET = 1;
 
     @Autowired
     private InitiativeRepository initiativeRepository;
@@ -104,49 +110,27 @@ public class ReportsService {
         Map<String, FinancialYearReportDTO.MonthlyData> monthlyDataMap = new HashMap<>();
         String[] months = {"Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec", "Jan", "Feb", "Mar"};
         
-        // Initialize all months with zero values
+        // Current FY actual/target per month, accumulated in paise in a single pass over the rows
+        SavingsAccumulator currentFY = accumulateByFYMonth(financialData);
+        
+        // Last FY actuals per month - one query with the same filters instead of a cumulative query per month
+        List<Object[]> lastFYData = monthlyMonitoringEntryRepository.findFinancialYearData(
+            (fyYear - 1) + "-04", fyYear + "-03", site, budgetType, category);
+        SavingsAccumulator lastFY = accumulateByFYMonth(lastFYData);
+        
         for (int i = 0; i < months.length; i++) {
             String monthKey = months[i];
-            String monthStr = String.format("%d-%02d", i < 9 ? fyYear : fyYear + 1, (i % 12) + (i < 9 ? 4 : -8));
-            
-            // Get last FY cumulative savings (previous year same month)
-            String lastFYEndMonth = String.format("%d-%02d", fyYear - 1, (i % 12) + (i < 9 ? 4 : -8));
-            BigDecimal lastFYCumulative = monthlyMonitoringEntryRepository.findCumulativeSavings(
-                (fyYear - 1) + "-04", lastFYEndMonth, site, budgetType, category);
-            
-            // Get potential monthly savings cumulative using TARGET VALUES (monthly average)
-            // FIXED: Using targetValue from MonthlyMonitoringEntry (monthly targets) instead of 
-            // expectedSavings from Initiative (total initiative savings)
-            // Calculate cumulative from beginning of FY (April) to current month
-            String fyStartMonth = fyYear + "-04"; // April of FY start year
-            BigDecimal potentialCumulative = monthlyMonitoringEntryRepository.findCumulativeTargetValue(
-                fyStartMonth, monthStr, site, budgetType, category);
-            
-            // Get current month actual and target savings from financial data
-            BigDecimal actualSavings = BigDecimal.ZERO;
-            BigDecimal targetSavings = BigDecimal.ZERO;
-            BigDecimal expectedSavings = BigDecimal.ZERO;
-            
-            for (Object[] row : financialData) {
-                String dataMonth = (String) row[0];
-                if (dataMonth.equals(monthStr)) {
-                    actualSavings = actualSavings.add(row[3] != null ? (BigDecimal) row[3] : BigDecimal.ZERO);
-                    targetSavings = targetSavings.add(row[4] != null ? (BigDecimal) row[4] : BigDecimal.ZERO);
-                    expectedSavings = expectedSavings.add(row[5] != null ? (BigDecimal) row[5] : BigDecimal.ZERO);
-                }
-            }
-            
-            // Calculate cumulative projected savings (target values cumulative)
-            BigDecimal cumulativeProjected = monthlyMonitoringEntryRepository.findCumulativeSavings(
-                fyYear + "-04", monthStr, site, budgetType, category);
             
             FinancialYearReportDTO.MonthlyData monthlyData = new FinancialYearReportDTO.MonthlyData(
                 monthKey,
-                lastFYCumulative != null ? lastFYCumulative : BigDecimal.ZERO,
-                potentialCumulative != null ? potentialCumulative : BigDecimal.ZERO,
-                actualSavings,
-                cumulativeProjected != null ? cumulativeProjected : BigDecimal.ZERO,
-                targetSavings // Current FY Target for the month
+                // Last FY cumulative savings (April of last FY up to the same month)
+                SavingsAccumulator.fromCents(lastFY.cumulativeCents(i, FY_ACTUAL)),
+                // Potential savings cumulative from monthly TARGET VALUES (April up to this month)
+                SavingsAccumulator.fromCents(currentFY.cumulativeCents(i, FY_TARGET)),
+                currentFY.get(i, FY_ACTUAL),
+                // Cumulative achieved savings (April up to this month)
+                SavingsAccumulator.fromCents(currentFY.cumulativeCents(i, FY_ACTUAL)),
+                currentFY.get(i, FY_TARGET) // Current FY Target for the month
             );
             
             monthlyDataMap.put(monthKey, monthlyData);
@@ -155,6 +139,24 @@ public class ReportsService {
         return monthlyDataMap;
     }
     
+    // Rows of findFinancialYearData (month, category, budgetType, actual, target, expected) -> [FY month][actual, target]
+    private SavingsAccumulator accumulateByFYMonth(List<Object[]> financialData) {
+        SavingsAccumulator accumulator = new SavingsAccumulator(12, 2);
+        if (financialData == null) {
+            return accumulator;
+        }
+        for (Object[] row : financialData) {
+            String dataMonth = (String) row[0];
+            if (dataMonth == null || dataMonth.length() < 7) {
+                continue;
+            }
+            int fyMonthIndex = (Integer.parseInt(dataMonth.substring(5, 7)) + 8) % 12; // April = 0 ... March = 11
+            accumulator.add(fyMonthIndex, FY_ACTUAL, row[3]);
+            accumulator.add(fyMonthIndex, FY_TARGET, row[4]);
+        }
+        return accumulator;
+    }
+    
     private Map<String, FinancialYearReportDTO.CategoryData> processCategoryData(
             String startMonth, String endMonth, String site, String budgetType, String category) {
         
@@ -164,28 +166,28 @@ public class ReportsService {
         List<Object[]> categoryData = monthlyMonitoringEntryRepository.findCategoryWiseSummary(
             startMonth, endMonth, site, budgetType, category);
         
-        // Process each category
+        // Accumulate [category][budgeted, non-budgeted] in paise
+        Map<String, Integer> categoryIndex = new LinkedHashMap<>();
+        SavingsAccumulator totals = new SavingsAccumulator(Math.max(categoryData.size(), 1), 2);
         for (Object[] row : categoryData) {
             String cat = (String) row[0];
             String budgetTypeVal = (String) row[1];
-            BigDecimal totalSavings = (BigDecimal) row[2];
             
-            FinancialYearReportDTO.CategoryData existingData = categoryDataMap.get(cat);
-            if (existingData == null) {
-                existingData = new FinancialYearReportDTO.CategoryData(cat, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
-                categoryDataMap.put(cat, existingData);
-            }
-            
-            if ("budgeted".equals(budgetTypeVal)) {
-                existingData.setBudgetedSavings(totalSavings);
-            } else {
-                existingData.setNonBudgetedSavings(totalSavings);
+            Integer index = categoryIndex.get(cat);
+            if (index == null) {
+                index = categoryIndex.size();
+                categoryIndex.put(cat, index);
             }
-            
-            // Update total
-            existingData.setTotalSavings(
-                existingData.getBudgetedSavings().add(existingData.getNonBudgetedSavings())
-            );
+            totals.add(index, "budgeted".equals(budgetTypeVal) ? 0 : 1, row[2]);
+        }
+        
+        for (Map.Entry<String, Integer> entry : categoryIndex.entrySet()) {
+            int index = entry.getValue();
+            categoryDataMap.put(entry.getKey(), new FinancialYearReportDTO.CategoryData(
+                entry.getKey(),
+                totals.get(index, 0),
+                totals.get(index, 1),
+                SavingsAccumulator.fromCents(totals.rowTotalCents(index))));
         }
         
         return categoryDataMap;
@@ -0,0 +1,259 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.dto.SavingsForecastDTO;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * FY-end savings forecast built from the monthly monitoring history.
+ *
+ * The achieved series of every initiative/category is loaded with one query into flat primitive
+ * arrays (12 slots per series, April to March). Each series is projected independently - in
+ * parallel - with a lightweight model: a least-squares trend blended with the recent run rate when
+ * there are at least three observed months, otherwise the plain run rate. Projections are then
+ * aggregated per site, budget type and category and converted to BigDecimal only for the DTO.
+ */
+@Service
+public class SavingsForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavingsForecastService.class);
+
+    private static final int MONTHS_IN_FY = 12;
+    private static final int MIN_TREND_POINTS = 3;
+    private static final int RUN_RATE_WINDOW = 3;
+
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    public SavingsForecastDTO getSavingsForecast(String financialYear, String site, String budgetType) {
+        long startTime = System.currentTimeMillis();
+        int fyYear = resolveFinancialYear(financialYear, LocalDate.now());
+        int monthsElapsed = monthsElapsed(fyYear, LocalDate.now());
+
+        List<Object[]> rows = monthlyMonitoringEntryRepository.findInitiativeMonthlySeries(
+                fyYear + "-04", (fyYear + 1) + "-03", site, budgetType);
+
+        // Flatten rows (ordered by initiative, category, month) into per-series primitive arrays
+        List<Long> seriesInitiative = new ArrayList<>();
+        List<String> seriesKey = new ArrayList<>();
+        List<String[]> seriesDimensions = new ArrayList<>();
+        double[] achieved = new double[rows.size() * MONTHS_IN_FY];
+        double[] target = new double[rows.size() * MONTHS_IN_FY];
+        boolean[] observed = new boolean[rows.size() * MONTHS_IN_FY];
+
+        int seriesCount = 0;
+        Long previousInitiative = null;
+        String previousCategory = null;
+        for (Object[] row : rows) {
+            Long initiativeId = (Long) row[0];
+            String category = row[3] != null ? (String) row[3] : "general";
+            if (!initiativeId.equals(previousInitiative) || !category.equals(previousCategory)) {
+                seriesCount++;
+                seriesInitiative.add(initiativeId);
+                String[] dimensions = {(String) row[1], (String) row[2], category};
+                seriesDimensions.add(dimensions);
+                seriesKey.add(dimensions[0] + "|" + dimensions[1] + "|" + dimensions[2]);
+                previousInitiative = initiativeId;
+                previousCategory = category;
+            }
+            int monthIndex = fyMonthIndex((String) row[4]);
+            if (monthIndex < 0) {
+                continue;
+            }
+            int slot = (seriesCount - 1) * MONTHS_IN_FY + monthIndex;
+            achieved[slot] += toDouble(row[5]);
+            target[slot] += toDouble(row[6]);
+            observed[slot] = true;
+        }
+
+        // Project the remaining FY months of every series in parallel
+        double[] remaining = new double[seriesCount];
+        if (monthsElapsed < MONTHS_IN_FY) {
+            IntStream.range(0, seriesCount).parallel()
+                    .forEach(s -> remaining[s] = projectRemaining(achieved, observed, s * MONTHS_IN_FY, monthsElapsed));
+        }
+
+        // Aggregate per site / budget type / category and per site
+        Map<String, Accumulator> lineTotals = new TreeMap<>();
+        Map<String, Accumulator> siteTotals = new TreeMap<>();
+        Accumulator grandTotal = new Accumulator(null, null, null);
+        for (int s = 0; s < seriesCount; s++) {
+            String[] dimensions = seriesDimensions.get(s);
+            double actualSum = 0;
+            double targetSum = 0;
+            for (int m = 0; m < MONTHS_IN_FY; m++) {
+                actualSum += achieved[s * MONTHS_IN_FY + m];
+                targetSum += target[s * MONTHS_IN_FY + m];
+            }
+            Long initiativeId = seriesInitiative.get(s);
+
+            lineTotals.computeIfAbsent(seriesKey.get(s),
+                    k -> new Accumulator(dimensions[0], dimensions[1], dimensions[2]))
+                    .add(initiativeId, actualSum, targetSum, remaining[s]);
+            siteTotals.computeIfAbsent(dimensions[0], k -> new Accumulator(dimensions[0], null, null))
+                    .add(initiativeId, actualSum, targetSum, remaining[s]);
+            grandTotal.add(initiativeId, actualSum, targetSum, remaining[s]);
+        }
+
+        List<SavingsForecastDTO.ForecastLine> lines = new ArrayList<>();
+        for (Accumulator accumulator : lineTotals.values()) {
+            lines.add(accumulator.toForecastLine());
+        }
+        List<SavingsForecastDTO.ForecastLine> sites = new ArrayList<>();
+        for (Accumulator accumulator : siteTotals.values()) {
+            sites.add(accumulator.toForecastLine());
+        }
+
+        logger.info("Savings forecast FY {} - {} series from {} rows computed in {} ms",
+                fyYear, seriesCount, rows.size(), System.currentTimeMillis() - startTime);
+
+        return new SavingsForecastDTO(String.valueOf(fyYear).substring(2), monthsElapsed,
+                lines, sites, grandTotal.toForecastLine());
+    }
+
+    /**
+     * Projects the months still ahead of one series (12 slots from offset): those after both its last
+     * observed month and the months already elapsed, which stay at what was reported for them.
+     * Trend + recent run rate blend when enough points exist, run rate otherwise; never negative.
+     */
+    static double projectRemaining(double[] achieved, boolean[] observed, int offset, int monthsElapsed) {
+        int count = 0;
+        int lastObserved = -1;
+        double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+        for (int m = 0; m < MONTHS_IN_FY; m++) {
+            if (observed[offset + m]) {
+                double y = achieved[offset + m];
+                count++;
+                lastObserved = m;
+                sumX += m;
+                sumY += y;
+                sumXY += m * y;
+                sumXX += (double) m * m;
+            }
+        }
+        if (count == 0 || lastObserved == MONTHS_IN_FY - 1) {
+            return 0;
+        }
+
+        // Recent run rate: mean of the last RUN_RATE_WINDOW observed months
+        double recentSum = 0;
+        int recentCount = 0;
+        for (int m = lastObserved; m >= 0 && recentCount < RUN_RATE_WINDOW; m--) {
+            if (observed[offset + m]) {
+                recentSum += achieved[offset + m];
+                recentCount++;
+            }
+        }
+        double runRate = recentSum / recentCount;
+
+        double slope = 0;
+        double intercept = runRate;
+        boolean useTrend = count >= MIN_TREND_POINTS;
+        if (useTrend) {
+            double denominator = count * sumXX - sumX * sumX;
+            if (denominator != 0) {
+                slope = (count * sumXY - sumX * sumY) / denominator;
+                intercept = (sumY - slope * sumX) / count;
+            } else {
+                useTrend = false;
+            }
+        }
+
+        double projected = 0;
+        for (int m = Math.max(lastObserved + 1, monthsElapsed); m < MONTHS_IN_FY; m++) {
+            double month = useTrend ? 0.5 * (intercept + slope * m) + 0.5 * runRate : runRate;
+            projected += Math.max(0, month);
+        }
+        return projected;
+    }
+
+    /**
+     * Same FY handling as ReportsService.getFinancialYearData ("25" -> 2025, "2025", default current FY)
+     * @throws IllegalArgumentException when financialYear is not a two- or four-digit year
+     */
+    static int resolveFinancialYear(String financialYear, LocalDate currentDate) {
+        if (financialYear == null || financialYear.trim().isEmpty()) {
+            return currentDate.getMonthValue() >= 4 ? currentDate.getYear() : currentDate.getYear() - 1;
+        }
+        String year = financialYear.trim();
+        if (!year.matches("\\d{2}|\\d{4}")) {
+            throw new IllegalArgumentException("Invalid financial year: " + financialYear);
+        }
+        int value = Integer.parseInt(year);
+        if (year.length() == 2) {
+            return value < 50 ? 2000 + value : 1900 + value;
+        }
+        return value;
+    }
+
+    // Completed FY months as of the given date (0 before April of fyYear, 12 once the FY is over)
+    static int monthsElapsed(int fyYear, LocalDate date) {
+        LocalDate fyStart = LocalDate.of(fyYear, 4, 1);
+        if (date.isBefore(fyStart)) {
+            return 0;
+        }
+        if (!date.isBefore(fyStart.plusYears(1))) {
+            return MONTHS_IN_FY;
+        }
+        return (date.getMonthValue() + 8) % MONTHS_IN_FY;
+    }
+
+    // "YYYY-MM" -> 0 (April) .. 11 (March)
+    private static int fyMonthIndex(String monitoringMonth) {
+        if (monitoringMonth == null || monitoringMonth.length() < 7) {
+            return -1;
+        }
+        int month = Integer.parseInt(monitoringMonth.substring(5, 7));
+        return (month + 8) % MONTHS_IN_FY;
+    }
+
+    private static double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static BigDecimal toAmount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static class Accumulator {
+        private final String site;
+        private final String budgetType;
+        private final String category;
+        private final Set<Long> initiatives = new HashSet<>();
+        private double actual;
+        private double target;
+        private double remaining;
+
+        Accumulator(String site, String budgetType, String category) {
+            this.site = site;
+            this.budgetType = budgetType;
+            this.category = category;
+        }
+
+        void add(Long initiativeId, double actualValue, double targetValue, double remainingValue) {
+            initiatives.add(initiativeId);
+            actual += actualValue;
+            target += targetValue;
+            remaining += remainingValue;
+        }
+
+        SavingsForecastDTO.ForecastLine toForecastLine() {
+            return new SavingsForecastDTO.ForecastLine(site, budgetType, category, initiatives.size(),
+                    toAmount(actual), toAmount(target), toAmount(remaining), toAmount(actual + remaining));
+        }
+    }
+}
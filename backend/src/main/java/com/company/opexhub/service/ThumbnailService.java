@@ -0,0 +1,312 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.InitiativeFile;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small JPEG previews of uploaded images and of the first page of uploaded PDFs.
+ *
+ * Generation runs on a small dedicated pool with a bounded queue, after the upload has been
+ * stored (and after its transaction commits, when there is one). The preview is cached as
+ * "<stored file>.thumb.jpg" next to the original, so deduplicated blobs share one preview.
+ * When the queue is full the upload is simply not queued; the first preview request for it
+ * queues it again. A file that cannot be decoded gets an empty "<stored file>.thumb.failed"
+ * marker instead, so it is reported FAILED and never queued again.
+ */
+@Service
+public class ThumbnailService {
+
+    public static final String STATUS_READY = "READY";
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_UNSUPPORTED = "UNSUPPORTED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    private static final String THUMBNAIL_SUFFIX = ".thumb.jpg";
+    private static final String FAILED_SUFFIX = ".thumb.failed";
+
+    private static final List<String> IMAGE_TYPES = Arrays.asList(
+        "image/jpeg", "image/jpg", "image/png", "image/gif", "image/bmp"
+    );
+    private static final String PDF_TYPE = "application/pdf";
+
+    @Value("${thumbnail.threads:2}")
+    private int threads;
+
+    @Value("${thumbnail.queue-capacity:100}")
+    private int queueCapacity;
+
+    // Longest edge of a preview in pixels
+    @Value("${thumbnail.max-size:320}")
+    private int maxSize;
+
+    @Value("${thumbnail.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    private ThreadPoolExecutor executor;
+
+    // Previews queued or being generated, so a file is never queued twice
+    private final Map<Path, Boolean> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void start() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue previews for freshly uploaded files once the surrounding transaction (if any) has committed
+     */
+    public void generateAfterCommit(final List<InitiativeFile> files) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    files.forEach(file -> enqueue(file));
+                }
+            });
+        } else {
+            files.forEach(file -> enqueue(file));
+        }
+    }
+
+    /**
+     * READY when the preview exists, PENDING when it is (now) queued, UNSUPPORTED for other file types,
+     * FAILED when the stored file could not be decoded
+     * @throws RuntimeException when the stored file is missing
+     */
+    public String getStatus(InitiativeFile file) {
+        if (!isSupported(file.getFileType())) {
+            return STATUS_UNSUPPORTED;
+        }
+        Path source = Paths.get(file.getFilePath());
+        if (Files.isRegularFile(thumbnailPath(source))) {
+            return STATUS_READY;
+        }
+        if (Files.exists(failedMarkerPath(source))) {
+            return STATUS_FAILED;
+        }
+        if (!Files.isRegularFile(source)) {
+            throw new RuntimeException("Stored file not found: " + file.getFileName());
+        }
+        enqueue(file);
+        return STATUS_PENDING;
+    }
+
+    public Path getThumbnailPath(InitiativeFile file) {
+        return thumbnailPath(Paths.get(file.getFilePath()));
+    }
+
+    /**
+     * Where the preview of a stored file is cached
+     */
+    public static Path thumbnailPath(Path storedFile) {
+        return storedFile.resolveSibling(storedFile.getFileName() + THUMBNAIL_SUFFIX);
+    }
+
+    private static Path failedMarkerPath(Path storedFile) {
+        return storedFile.resolveSibling(storedFile.getFileName() + FAILED_SUFFIX);
+    }
+
+    public static boolean isSupported(String contentType) {
+        return PDF_TYPE.equals(contentType) || IMAGE_TYPES.contains(contentType);
+    }
+
+    private void enqueue(InitiativeFile file) {
+        final String contentType = file.getFileType();
+        if (!isSupported(contentType)) {
+            return;
+        }
+        final Path source = Paths.get(file.getFilePath());
+        final Path target = thumbnailPath(source);
+        if (Files.exists(target) || Files.exists(failedMarkerPath(source))
+                || pending.putIfAbsent(target, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(source, target, contentType);
+                } finally {
+                    pending.remove(target);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(target);
+            logger.debug("Thumbnail queue full, {} will be generated on request", source.getFileName());
+        }
+    }
+
+    private void generate(Path source, Path target, String contentType) {
+        long start = System.nanoTime();
+        try {
+            if (!Files.isRegularFile(source)) {
+                return;
+            }
+            BufferedImage preview;
+            try {
+                preview = PDF_TYPE.equals(contentType) ? renderFirstPage(source) : scaleImage(source);
+            } catch (Exception e) {
+                logger.warn("Could not decode {}: {}", source.getFileName(), e.getMessage());
+                preview = null;
+            }
+            if (preview == null) {
+                // Decoding the same bytes again would fail the same way
+                markFailed(source);
+                return;
+            }
+            writeJpeg(preview, target);
+            logger.debug("Thumbnail for {} generated in {} ms", source.getFileName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            logger.warn("Thumbnail generation failed for {}: {}", source.getFileName(), e.getMessage());
+        }
+    }
+
+    private void markFailed(Path source) {
+        try {
+            Files.write(failedMarkerPath(source), new byte[0]);
+            logger.warn("No preview could be decoded from {}, marked as failed", source.getFileName());
+        } catch (IOException e) {
+            logger.warn("Could not mark the preview of {} as failed: {}", source.getFileName(), e.getMessage());
+        }
+    }
+
+    private BufferedImage renderFirstPage(Path source) throws IOException {
+        // Temp-file buffering keeps large PDFs out of the heap while page 1 is parsed
+        try (PDDocument document = PDDocument.load(source.toFile(), MemoryUsageSetting.setupTempFileOnly())) {
+            if (document.getNumberOfPages() == 0) {
+                return null;
+            }
+            PDPage page = document.getPage(0);
+            float longestEdge = Math.max(page.getCropBox().getWidth(), page.getCropBox().getHeight());
+            float scale = longestEdge > 0 ? maxSize / longestEdge : 1f;
+            return new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+        }
+    }
+
+    private BufferedImage scaleImage(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                // Decode only every n-th pixel of large photos instead of the full-resolution raster
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return resize(reader.read(0, param));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage image) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            // JPEG has no alpha channel; transparent PNG/GIF areas become white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        BufferedImage preview = image.getWidth() > maxSize || image.getHeight() > maxSize
+                || image.getType() != BufferedImage.TYPE_INT_RGB ? resize(image) : image;
+        Path temp = Files.createTempFile(target.getParent(), "thumb-", ".part");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.write(null, new IIOImage(preview, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            // Readers only ever see a complete preview
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
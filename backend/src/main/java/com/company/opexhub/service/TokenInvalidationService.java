@@ -1,37 +1,227 @@
 package com.company.opexhub.service;
 
+import com.company.opexhub.entity.TokenRevocation;
+import com.company.opexhub.entity.TokenRevocationVersion;
+import com.company.opexhub.repository.TokenRevocationRepository;
+import com.company.opexhub.repository.TokenRevocationVersionRepository;
+import com.company.opexhub.security.RevocationSnapshot;
+import com.company.opexhub.security.UserPrincipalCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Server-side JWT revocation (mass logout, per-user and per-token).
+ *
+ * Revocations are persisted in OPEX_TOKEN_REVOCATIONS so they survive restarts and reach every
+ * instance. Each node keeps an immutable RevocationSnapshot and rebuilds it when the polled
+ * TokenRevocationVersion changes; the per-request check only reads the current snapshot and never hits
+ * the database.
+ */
 @Service
 public class TokenInvalidationService {
-    
-    // Timestamp when mass logout was triggered
-    private Date massLogoutTimestamp = null;
-    
+
+    public static final String SCOPE_GLOBAL = "GLOBAL";
+    public static final String SCOPE_USER = "USER";
+    public static final String SCOPE_TOKEN = "TOKEN";
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenInvalidationService.class);
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private TokenRevocationVersionRepository tokenRevocationVersionRepository;
+
+    // A GLOBAL/USER revocation can only match tokens issued before it, which are gone after one token lifetime
+    @Value("${jwt.expiration}")
+    private long jwtExpirationInMs;
+
+    private volatile RevocationSnapshot snapshot = RevocationSnapshot.EMPTY;
+
+    @PostConstruct
+    public void loadRevocations() {
+        if (!tokenRevocationVersionRepository.existsById(TokenRevocationVersion.ROW_ID)) {
+            try {
+                tokenRevocationVersionRepository.saveAndFlush(new TokenRevocationVersion(TokenRevocationVersion.ROW_ID));
+            } catch (DataIntegrityViolationException e) {
+                // Another node created it first
+            }
+        }
+        refreshRevocations();
+    }
+
     /**
-     * Trigger mass logout - all tokens issued before this time will be invalid
+     * Trigger mass logout - all tokens issued before this time will be invalid on every node
      */
+    @Transactional
     public void triggerMassLogout() {
-        this.massLogoutTimestamp = new Date();
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationRepository.save(new TokenRevocation(SCOPE_GLOBAL, null, null, now, tokenLifetimeFrom(now)));
+        incrementVersion(now);
+        afterCommit(() -> {
+            reload();
+            userPrincipalCache.invalidateAll();
+        });
     }
-    
+
+    /**
+     * Revoke every token issued to a user so far (e.g. after a password reset)
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        tokenRevocationRepository.save(new TokenRevocation(SCOPE_USER, userId, null, now, tokenLifetimeFrom(now)));
+        incrementVersion(now);
+        afterCommit(() -> {
+            reload();
+            userPrincipalCache.invalidateUser(userId);
+        });
+    }
+
+    /**
+     * Revoke a single token by its id (jti); the row is kept until the token would have expired
+     */
+    @Transactional
+    public void revokeToken(String tokenId, Date tokenExpiresAt) {
+        LocalDateTime expiresAt = tokenExpiresAt != null
+                ? LocalDateTime.ofInstant(tokenExpiresAt.toInstant(), ZoneId.systemDefault())
+                : tokenLifetimeFrom(LocalDateTime.now());
+        tokenRevocationRepository.save(new TokenRevocation(SCOPE_TOKEN, null, tokenId, null, expiresAt));
+        incrementVersion(LocalDateTime.now());
+        afterCommit(this::reload);
+    }
+
+    /**
+     * Check a token against every revocation scope
+     * @param userId The token subject
+     * @param tokenId The token id (jti), null for tokens issued without one
+     * @param tokenIssuedAt The time when token was issued
+     * @return true if token is valid, false if revoked
+     */
+    public boolean isTokenValid(Long userId, String tokenId, Date tokenIssuedAt) {
+        return !snapshot.isRevoked(userId, tokenId, tokenIssuedAt.getTime());
+    }
+
     /**
      * Check if a token issued at given time is still valid
      * @param tokenIssuedAt The time when token was issued
      * @return true if token is valid, false if invalidated by mass logout
      */
     public boolean isTokenValid(Date tokenIssuedAt) {
-        if (massLogoutTimestamp == null) {
-            return true;
-        }
-        return tokenIssuedAt.after(massLogoutTimestamp);
+        return !snapshot.isGloballyRevoked(tokenIssuedAt.getTime());
     }
-    
+
     /**
      * Get the mass logout timestamp
      */
     public Date getMassLogoutTimestamp() {
-        return massLogoutTimestamp;
+        long globalRevokedBefore = snapshot.getGlobalRevokedBefore();
+        return globalRevokedBefore == Long.MIN_VALUE ? null : new Date(globalRevokedBefore);
+    }
+
+    /**
+     * Poll the revocation version and rebuild the local snapshot when another node added a revocation.
+     * A purge leaves the version unchanged, so the expired rows it removes stay in the snapshot until
+     * the next rebuild; that is harmless, they only match tokens that have expired themselves.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.poll-ms:5000}")
+    public void refreshRevocations() {
+        try {
+            Long version = tokenRevocationVersionRepository.findVersion(TokenRevocationVersion.ROW_ID);
+            if (version != null && version != snapshot.getVersion()) {
+                reload();
+            }
+        } catch (Exception e) {
+            // Keep serving the last snapshot; the next poll retries
+            logger.error("Failed to refresh token revocations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove revocations that can no longer match a live token
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.purge-ms:3600000}")
+    @Transactional
+    public void purgeExpiredRevocations() {
+        try {
+            int purged = tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+            if (purged > 0) {
+                logger.info("Purged {} expired token revocations", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to purge token revocations: {}", e.getMessage());
+        }
+    }
+
+    // Taken in the revoking transaction; the row lock held until commit keeps versions in commit order
+    private void incrementVersion(LocalDateTime now) {
+        if (tokenRevocationVersionRepository.increment(TokenRevocationVersion.ROW_ID, now) == 0) {
+            throw new IllegalStateException("Token revocation version row is missing");
+        }
+    }
+
+    /**
+     * Rebuild the snapshot once the revocation is committed; reloading inside the transaction would
+     * publish a revocation that a rollback then undoes, and other nodes could not see it yet anyway
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private synchronized void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        // Read the version first so a revocation added during the reload triggers another one
+        Long version = tokenRevocationVersionRepository.findVersion(TokenRevocationVersion.ROW_ID);
+
+        LocalDateTime global = tokenRevocationRepository.findGlobalRevokedBefore(now);
+
+        Map<Long, Long> userRevokedBefore = new HashMap<>();
+        for (Object[] row : tokenRevocationRepository.findUserRevokedBefore(now)) {
+            userRevokedBefore.put((Long) row[0], toEpochMillis((LocalDateTime) row[1]));
+        }
+
+        List<String> tokenIds = tokenRevocationRepository.findRevokedTokenIds(now);
+
+        snapshot = new RevocationSnapshot(version != null ? version : 0L,
+                global != null ? toEpochMillis(global) : Long.MIN_VALUE, userRevokedBefore, tokenIds);
+        logger.debug("Token revocations reloaded at version {} - {} users, {} tokens",
+                version, userRevokedBefore.size(), tokenIds.size());
+    }
+
+    private LocalDateTime tokenLifetimeFrom(LocalDateTime time) {
+        return time.plus(Duration.ofMillis(jwtExpirationInMs));
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -1,14 +1,22 @@
 package com.company.opexhub.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.util.HtmlUtils;
 
 import com.company.opexhub.dto.WorkflowTransactionDetailDTO;
 import com.company.opexhub.entity.Initiative;
@@ -19,7 +27,7 @@ import com.company.opexhub.repository.InitiativeRepository;
 import com.company.opexhub.repository.UserRepository;
 import com.company.opexhub.repository.WfMasterRepository;
 import com.company.opexhub.repository.WorkflowTransactionRepository;
-import mailhelper.MailHelper;
+import com.company.opexhub.util.FieldSelection;
 import java.io.IOException;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -27,6 +35,12 @@ import java.util.logging.Level;
 @Service
 public class WorkflowTransactionService {
 
+    // WorkflowTransactionDetailDTO fields filled from the initiative
+    private static final String[] INITIATIVE_FIELDS = {
+        "initiativeNumber", "initiativeTitle", "initiativeStatus", "expectedSavings", "description",
+        "requiresMoc", "mocNumber", "requiresCapex", "capexNumber"
+    };
+
     @Autowired
     private WorkflowTransactionRepository workflowTransactionRepository;
 
@@ -45,6 +59,12 @@ public class WorkflowTransactionService {
     @Autowired
     private LoggingService loggingService;
 
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private MailService mailService;
+
     /**
      * Create simple email template for workflow notifications (Outlook Classic friendly)
      */
@@ -135,6 +155,61 @@ public class WorkflowTransactionService {
             currentStageName, nextStageName, dashboardUrl);
     }
 
+    /**
+     * Digest for an HOD who was assigned several new initiatives at once (bulk create / import)
+     */
+    private String createHodDigestEmailTemplate(String recipientName, String submittedBy,
+                                                List<Initiative> initiatives, String dashboardUrl) {
+        StringBuilder template = new StringBuilder();
+        template.append("<!DOCTYPE html>\n");
+        template.append("<html>\n");
+        template.append("<head>\n");
+        template.append("    <meta charset=\"UTF-8\">\n");
+        template.append("    <title>Workflow Approval Required</title>\n");
+        template.append("</head>\n");
+        template.append("<body style=\"font-family: Arial, sans-serif; font-size: 14px; line-height: 1.4; color: #333;\">\n");
+        template.append("    \n");
+        template.append("    <h2 style=\"color: #2c5aa0; margin-bottom: 20px;\">Workflow Approval Required</h2>\n");
+        template.append("    \n");
+        template.append("    <p>Dear <strong>").append(HtmlUtils.htmlEscape(recipientName)).append("</strong>,</p>\n");
+        template.append("    \n");
+        template.append("    <p>").append(initiatives.size()).append(" new initiative(s) submitted by <strong>")
+                .append(HtmlUtils.htmlEscape(submittedBy))
+                .append("</strong> are awaiting your approval at Stage 2 (Evaluation and Approval).</p>\n");
+        template.append("    \n");
+        template.append("    <table border=\"1\" cellpadding=\"8\" cellspacing=\"0\" style=\"border-collapse: collapse; width: 100%; max-width: 800px; border: 1px solid #ccc;\">\n");
+        template.append("        <tr style=\"background-color: #f5f5f5; font-weight: bold;\">\n");
+        template.append("            <td>Initiative Number</td>\n");
+        template.append("            <td>Initiative Title</td>\n");
+        template.append("            <td>Site</td>\n");
+        template.append("            <td>Expected Savings</td>\n");
+        template.append("        </tr>\n");
+        for (Initiative initiative : initiatives) {
+            template.append("        <tr>\n");
+            template.append("            <td>").append(HtmlUtils.htmlEscape(initiative.getInitiativeNumber())).append("</td>\n");
+            template.append("            <td>").append(HtmlUtils.htmlEscape(initiative.getTitle())).append("</td>\n");
+            template.append("            <td>").append(HtmlUtils.htmlEscape(initiative.getSite())).append("</td>\n");
+            template.append("            <td>₹").append(initiative.getExpectedSavings() != null ? initiative.getExpectedSavings().toString() : "0").append(" K</td>\n");
+            template.append("        </tr>\n");
+        }
+        template.append("    </table>\n");
+        template.append("    \n");
+        template.append("    <p style=\"margin-top: 20px;\">\n");
+        template.append("        <a href=\"").append(dashboardUrl).append("\" style=\"background-color: #2c5aa0; color: white; padding: 10px 20px; text-decoration: none; border-radius: 4px; display: inline-block;\">Access Dashboard</a>\n");
+        template.append("    </p>\n");
+        template.append("    \n");
+        template.append("    <hr style=\"margin: 30px 0; border: none; border-top: 1px solid #ccc;\">\n");
+        template.append("    \n");
+        template.append("    <p style=\"font-size: 12px; color: #666;\">\n");
+        template.append("        <strong>OPEX Initiative Management System</strong><br>\n");
+        template.append("        This is an automated notification. Please do not reply to this email.<br>\n");
+        template.append("    </p>\n");
+        template.append("    \n");
+        template.append("</body>\n");
+        template.append("</html>\n");
+        return template.toString();
+    }
+
     /**
      * Create email template for rejected/dropped initiative notifications
      */
@@ -244,7 +319,7 @@ public class WorkflowTransactionService {
             String bcc = "dnsharma@godeepak.com";
             
             // Send email
-            MailHelper.send(subject, emailTemplate, toEmail, cc, bcc);
+            mailService.send(MailService.TYPE_WORKFLOW_REJECTION, subject, emailTemplate, toEmail, cc, bcc);
             
             Logger.getLogger(this.getClass().getName()).info(
                 String.format("✅ %s notification email sent successfully to %s for initiative %s", 
@@ -262,6 +337,40 @@ public class WorkflowTransactionService {
         }
     }
 
+    /**
+     * One mail per HOD listing all of their newly assigned initiatives, sent once the transaction
+     * commits so nobody is notified about a batch that was rolled back
+     */
+    private void sendHodDigestEmailsAfterCommit(final Map<User, List<Initiative>> initiativesByHod, final String submittedBy) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                initiativesByHod.forEach((hod, initiatives) -> sendHodDigestEmail(hod, initiatives, submittedBy));
+            }
+        });
+    }
+
+    private void sendHodDigestEmail(User hod, List<Initiative> initiatives, String submittedBy) {
+        try {
+            String subject = String.format("Workflow Approval Required - %d new initiative(s) (Stage 2: Evaluation and Approval)",
+                initiatives.size());
+            String dashboardUrl = "https://dgapps.godeepak.com:8443/opexhub/";
+            String emailTemplate = createHodDigestEmailTemplate(hod.getFullName(), submittedBy, initiatives, dashboardUrl);
+            String bcc = "dnsharma@godeepak.com";
+
+            mailService.send(MailService.TYPE_WORKFLOW_DIGEST, subject, emailTemplate, hod.getEmail(), null, bcc);
+
+            Logger.getLogger(this.getClass().getName()).info(
+                String.format("✅ Workflow digest email sent to %s for %d initiative(s)", hod.getEmail(), initiatives.size()));
+        } catch (IOException e) {
+            Logger.getLogger(this.getClass().getName()).log(Level.SEVERE,
+                String.format("❌ Failed to send workflow digest email to %s: %s", hod.getEmail(), e.getMessage()), e);
+        } catch (Exception e) {
+            Logger.getLogger(this.getClass().getName()).log(Level.WARNING,
+                String.format("⚠️ Error in workflow digest email process for %s: %s", hod.getEmail(), e.getMessage()), e);
+        }
+    }
+
     /**
      * Send workflow notification email to next approver
      */
@@ -302,7 +411,7 @@ public class WorkflowTransactionService {
             String bcc = "dnsharma@godeepak.com";
             
             // Send email
-            MailHelper.send(subject, emailTemplate, toEmail, cc, bcc);
+            mailService.send(MailService.TYPE_WORKFLOW_NOTIFICATION, subject, emailTemplate, toEmail, cc, bcc);
             
             Logger.getLogger(this.getClass().getName()).info(
                 String.format("✅ Workflow notification email sent successfully to %s for initiative %s, stage %d (%s)", 
@@ -324,16 +433,29 @@ public class WorkflowTransactionService {
     }
     
     public List<WorkflowTransactionDetailDTO> getVisibleWorkflowTransactions(Long initiativeId) {
+        return getVisibleWorkflowTransactions(initiativeId, FieldSelection.ALL);
+    }
+    
+    public List<WorkflowTransactionDetailDTO> getVisibleWorkflowTransactions(Long initiativeId, FieldSelection fields) {
         List<WorkflowTransaction> allTransactions = workflowTransactionRepository
                 .findByInitiativeIdOrderByStageNumber(initiativeId);
         
+        // Visibility decides which rows are returned, so it is always evaluated here
         return allTransactions.stream()
-                .map(this::convertToDetailDTO)
-                .filter(WorkflowTransactionDetailDTO::getIsVisible)
+                .filter(this::isStageVisible)
+                .map(transaction -> {
+                    WorkflowTransactionDetailDTO dto = convertToDetailDTO(transaction, fields);
+                    dto.setIsVisible(true);
+                    return dto;
+                })
                 .collect(Collectors.toList());
     }
     
-    private WorkflowTransactionDetailDTO convertToDetailDTO(WorkflowTransaction transaction) {
+    /**
+     * Build the detail DTO; the initiative, assigned-user and next-stage lookups only run when one of
+     * the fields they fill is selected. Visibility is left to the caller (see toDetailDTO).
+     */
+    private WorkflowTransactionDetailDTO convertToDetailDTO(WorkflowTransaction transaction, FieldSelection fields) {
         WorkflowTransactionDetailDTO dto = new WorkflowTransactionDetailDTO();
         dto.setId(transaction.getId());
         dto.setInitiativeId(transaction.getInitiativeId());
@@ -351,7 +473,9 @@ public class WorkflowTransactionService {
         dto.setUpdatedAt(transaction.getUpdatedAt());
         
         // Get initiative details
-        Optional<Initiative> initiative = initiativeRepository.findById(transaction.getInitiativeId());
+        Optional<Initiative> initiative = fields.includesAny(INITIATIVE_FIELDS)
+                ? initiativeRepository.findById(transaction.getInitiativeId())
+                : Optional.empty();
         if (initiative.isPresent()) {
             Initiative init = initiative.get();
             dto.setInitiativeNumber(init.getInitiativeNumber());
@@ -362,7 +486,7 @@ public class WorkflowTransactionService {
         }
         
         // Get assigned user name if available
-        if (transaction.getAssignedUserId() != null) {
+        if (transaction.getAssignedUserId() != null && fields.includesAny("assignedUserName", "assignedUserEmail")) {
             Optional<User> assignedUser = userRepository.findById(transaction.getAssignedUserId());
             if (assignedUser.isPresent()) {
                 dto.setAssignedUserName(assignedUser.get().getFullName());
@@ -380,11 +504,20 @@ public class WorkflowTransactionService {
         }
         
         // Set next stage information
-        setNextStageInfo(dto, transaction);
+        if (fields.includesAny("nextStageName", "nextUser", "nextUserEmail")) {
+            setNextStageInfo(dto, transaction);
+        }
         
-        // Determine visibility based on workflow progression
-        dto.setIsVisible(isStageVisible(transaction));
+        return dto;
+    }
+    
+    private WorkflowTransactionDetailDTO toDetailDTO(WorkflowTransaction transaction, FieldSelection fields) {
+        WorkflowTransactionDetailDTO dto = convertToDetailDTO(transaction, fields);
         
+        // Determine visibility based on workflow progression
+        if (fields.includes("isVisible")) {
+            dto.setIsVisible(isStageVisible(transaction));
+        }
         return dto;
     }
     
@@ -492,36 +625,100 @@ public class WorkflowTransactionService {
                 transaction.setComment("Initiative created and registered");
                 transaction.setPendingWith(null);
                 
-                workflowTransactionRepository.save(transaction);
-                loggingService.info("Stage 1 auto-approved for Initiative: " + initiative.getInitiativeNumber());
-                
                 // Create Stage 2 as pending with selected HOD (NEW DYNAMIC HOD ASSIGNMENT)
-                createNextStageWithHod(initiative.getId(), 2, selectedHodId, selectedHodEmail);
+                WorkflowTransaction stage2Transaction = buildHodStage(initiative, 2, selectedHodId, selectedHodEmail);
+                
+                // Both rows in one insert batch
+                workflowTransactionRepository.saveAll(Arrays.asList(transaction, stage2Transaction));
+                changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
+                changeLogService.recordWorkflowTransactionChange(stage2Transaction, ChangeLogService.OP_CREATE);
+                loggingService.info("Stage 1 auto-approved for Initiative: " + initiative.getInitiativeNumber());
                 
                 // Send email notification to Stage 2 HOD approver
-                Optional<WorkflowTransaction> stage2Transaction = workflowTransactionRepository
-                        .findByInitiativeIdAndStageNumber(initiative.getId(), 2);
-                        
-                if (stage2Transaction.isPresent() && stage2Transaction.get().getPendingWith() != null) {
-                    sendWorkflowNotificationEmail(transaction, stage2Transaction.get(), initiative, 
-                        initiative.getCreatedBy().getFullName());
-                    
-                    loggingService.info("Stage 2 created and email sent to HOD: " + stage2Transaction.get().getPendingWith());
-                    Logger.getLogger(this.getClass().getName()).info(
-                        String.format("📧 Initial workflow email sent for new initiative %s to selected HOD %s", 
-                            initiative.getInitiativeNumber(), stage2Transaction.get().getPendingWith()));
-                } else {
-                    loggingService.warning("Stage 2 created but no HOD approver assigned for Initiative: " + initiative.getInitiativeNumber());
-                    Logger.getLogger(this.getClass().getName()).warning(
-                        String.format("⚠️ Could not send initial workflow email for initiative %s - no Stage 2 HOD approver found", 
-                            initiative.getInitiativeNumber()));
-                }
+                sendWorkflowNotificationEmail(transaction, stage2Transaction, initiative, 
+                    initiative.getCreatedBy().getFullName());
+                
+                loggingService.info("Stage 2 created and email sent to HOD: " + stage2Transaction.getPendingWith());
+                Logger.getLogger(this.getClass().getName()).info(
+                    String.format("📧 Initial workflow email sent for new initiative %s to selected HOD %s", 
+                        initiative.getInitiativeNumber(), stage2Transaction.getPendingWith()));
                 loggingService.info("=== WORKFLOW INITIALIZATION COMPLETED === Initiative: " + initiative.getInitiativeNumber());
                 break;
             }
         }
     }
 
+    /**
+     * Stage 1 (auto-approved) and Stage 2 (pending with the selected HOD) for a batch of new initiatives.
+     * Same rows as the single-initiative variant, saved together so they go out as JDBC batches;
+     * each HOD gets one digest mail instead of a mail per initiative.
+     * @param hodsById the initiatives' selectedHodId values, already validated as HOD users
+     */
+    @Transactional
+    public void createInitialWorkflowTransactions(List<Initiative> initiatives, Map<Long, User> hodsById) {
+        Map<String, WfMaster> firstStages = new HashMap<>();
+        List<WorkflowTransaction> transactions = new ArrayList<>();
+        Map<User, List<Initiative>> initiativesByHod = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Initiative initiative : initiatives) {
+            WfMaster firstStage = firstStages.computeIfAbsent(initiative.getSite(), this::findFirstStage);
+            if (firstStage == null) {
+                throw new RuntimeException("No workflow configuration found for site: " + initiative.getSite());
+            }
+            User hod = hodsById.get(initiative.getSelectedHodId());
+            if (hod == null) {
+                throw new RuntimeException("HOD selection is required for Stage 2 approval");
+            }
+
+            WorkflowTransaction stage1 = new WorkflowTransaction(
+                initiative.getId(),
+                firstStage.getStageNumber(),
+                firstStage.getStageName(),
+                initiative.getSite(),
+                firstStage.getRoleCode(),
+                firstStage.getUserEmail()
+            );
+            stage1.setApproveStatus("approved");
+            stage1.setActionBy(initiative.getCreatedBy().getFullName());
+            stage1.setActionDate(now);
+            stage1.setComment("Initiative created and registered");
+            stage1.setPendingWith(null);
+            transactions.add(stage1);
+
+            transactions.add(newHodStage(initiative, 2, hod.getId(), hod.getEmail()));
+
+            initiativesByHod.computeIfAbsent(hod, k -> new ArrayList<>()).add(initiative);
+        }
+
+        workflowTransactionRepository.saveAll(transactions);
+        for (WorkflowTransaction transaction : transactions) {
+            changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
+        }
+        loggingService.info("Bulk workflow initialization - " + initiatives.size() + " initiative(s), "
+            + initiativesByHod.size() + " HOD(s) notified");
+
+        if (!initiatives.isEmpty()) {
+            sendHodDigestEmailsAfterCommit(initiativesByHod, initiatives.get(0).getCreatedBy().getFullName());
+        }
+    }
+
+    /**
+     * Whether new initiatives can be started at this site (an active Stage 1 is configured)
+     */
+    public boolean hasInitialStage(String site) {
+        return findFirstStage(site) != null;
+    }
+
+    private WfMaster findFirstStage(String site) {
+        for (WfMaster wfStage : wfMasterRepository.findBySiteAndIsActiveOrderByStageNumber(site, "Y")) {
+            if (wfStage.getStageNumber() == 1) {
+                return wfStage;
+            }
+        }
+        return null;
+    }
+
     @Transactional
     public void createInitialWorkflowTransactions(Initiative initiative) {
         // Get workflow configuration from wf_master table
@@ -552,6 +749,7 @@ public class WorkflowTransactionService {
                 transaction.setPendingWith(null);
                 
                 workflowTransactionRepository.save(transaction);
+                changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
                 
                 // Create Stage 2 as pending (NEW STAGE - Initiative assessment)
                 createNextStage(initiative.getId(), 2);
@@ -715,6 +913,8 @@ public class WorkflowTransactionService {
         }
 
         initiativeRepository.save(initiative);
+        changeLogService.recordWorkflowTransactionChange(savedTransaction, ChangeLogService.OP_STATUS_CHANGE);
+        changeLogService.recordInitiativeChange(initiative, ChangeLogService.OP_STATUS_CHANGE);
         loggingService.info("=== WORKFLOW ACTION COMPLETED === Initiative: " + initiative.getInitiativeNumber() + 
             " | Status: " + initiative.getStatus());
         return savedTransaction;
@@ -768,6 +968,7 @@ public class WorkflowTransactionService {
                 // Store assigned user ID for dynamic user resolution
                 transaction.setAssignedUserId(assignedUserId);
                 workflowTransactionRepository.save(transaction);
+                changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
             }
         }
     }
@@ -804,6 +1005,7 @@ public class WorkflowTransactionService {
                 transaction.setPendingWith(assignedUser.getEmail());
                 transaction.setAssignedUserId(assignedUserId);
                 workflowTransactionRepository.save(transaction);
+                changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
             }
         }
     }
@@ -826,6 +1028,7 @@ public class WorkflowTransactionService {
             }
             
             workflowTransactionRepository.save(transaction);
+            changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_STATUS_CHANGE);
         }
     }
 
@@ -858,6 +1061,7 @@ public class WorkflowTransactionService {
             transaction.setApproveStatus("pending");
             transaction.setPendingWith(wfStage.getUserEmail());
             workflowTransactionRepository.save(transaction);
+            changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
         } else {
             // Fallback: If no WfMaster configuration found, try to find user from Users table
             List<User> roleUsers = userRepository.findByRoleAndSite(roleCode, initiative.getSite());
@@ -876,6 +1080,7 @@ public class WorkflowTransactionService {
                 transaction.setApproveStatus("pending");
                 transaction.setPendingWith(roleCode);  // Pending with role code
                 workflowTransactionRepository.save(transaction);
+                changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
             } else {
                 // Create with specific user assignment (use first user found)
                 User assignedUser = roleUsers.get(0);
@@ -891,6 +1096,7 @@ public class WorkflowTransactionService {
                 transaction.setApproveStatus("pending");
                 transaction.setPendingWith(assignedUser.getEmail());
                 workflowTransactionRepository.save(transaction);
+                changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
             }
         }
     }
@@ -904,10 +1110,14 @@ public class WorkflowTransactionService {
     }
 
     public List<WorkflowTransactionDetailDTO> getInitiativesReadyForClosure() {
+        return getInitiativesReadyForClosure(FieldSelection.ALL);
+    }
+
+    public List<WorkflowTransactionDetailDTO> getInitiativesReadyForClosure(FieldSelection fields) {
         // Get initiatives that have approved stage 10 and are ready for stage 11 closure
         List<WorkflowTransaction> stage10Approved = workflowTransactionRepository.findByStageNumberAndApproveStatusAndSite(10, "approved", "");
         return stage10Approved.stream()
-                .map(this::convertToDetailDTO)
+                .map(transaction -> toDetailDTO(transaction, fields))
                 .collect(Collectors.toList());
     }
 
@@ -915,16 +1125,26 @@ public class WorkflowTransactionService {
      * Get initiatives where previous stage of Timeline Tracker (Stage 5) is approved and current stage is 6 - all users can view, IL can perform actions
      */
     public List<WorkflowTransactionDetailDTO> getInitiativesWithApprovedStage6ForUser(String userEmail, String site) {
+        return getInitiativesWithApprovedStage6ForUser(userEmail, site, FieldSelection.ALL);
+    }
+
+    public List<WorkflowTransactionDetailDTO> getInitiativesWithApprovedStage6ForUser(String userEmail, String site,
+                                                                                     FieldSelection fields) {
         // For CORP users, show all sites (pass empty string to ignore site filter)
         String siteFilter = "CORP".equals(site) ? "" : site;
-        return getInitiativesForCurrentStage(6, siteFilter);
+        return getInitiativesForCurrentStage(6, siteFilter, fields);
     }
 
     /**
      * Get initiatives where previous stage of Savings Monitoring (Stage 8) is approved and current stage is 9 - all users can view, IL can perform actions
      */
     public List<WorkflowTransactionDetailDTO> getInitiativesWithApprovedStage9ForUser(String userEmail, String site) {
-        return getInitiativesForCurrentStage(9, site);
+        return getInitiativesWithApprovedStage9ForUser(userEmail, site, FieldSelection.ALL);
+    }
+
+    public List<WorkflowTransactionDetailDTO> getInitiativesWithApprovedStage9ForUser(String userEmail, String site,
+                                                                                     FieldSelection fields) {
+        return getInitiativesForCurrentStage(9, site, fields);
     }
 
     /**
@@ -966,6 +1186,11 @@ public class WorkflowTransactionService {
      * @return List of initiatives where previous stage is approved and current stage exists
      */
     public List<WorkflowTransactionDetailDTO> getInitiativesForCurrentStage(Integer currentStageNumber, String site) {
+        return getInitiativesForCurrentStage(currentStageNumber, site, FieldSelection.ALL);
+    }
+
+    public List<WorkflowTransactionDetailDTO> getInitiativesForCurrentStage(Integer currentStageNumber, String site,
+                                                                           FieldSelection fields) {
         Integer previousStageNumber = currentStageNumber - 1;
         
         // Get initiatives where previous stage is approved
@@ -989,7 +1214,7 @@ public class WorkflowTransactionService {
                             .findByInitiativeIdAndStageNumber(previousTransaction.getInitiativeId(), currentStageNumber);
                     return currentTransaction.isPresent();
                 })
-                .map(this::convertToDetailDTO)
+                .map(transaction -> toDetailDTO(transaction, fields))
                 .collect(Collectors.toList());
     }
 
@@ -1053,6 +1278,10 @@ public class WorkflowTransactionService {
      * This includes initiatives where the user is assigned in Stage 4 for IL stages (5, 6, 9, 11)
      */
     public List<WorkflowTransactionDetailDTO> getAssignedInitiativesForUser(String userEmail) {
+        return getAssignedInitiativesForUser(userEmail, FieldSelection.ALL);
+    }
+
+    public List<WorkflowTransactionDetailDTO> getAssignedInitiativesForUser(String userEmail, FieldSelection fields) {
         // Get user by email to find assigned initiatives
         Optional<User> user = userRepository.findByEmail(userEmail);
         if (!user.isPresent()) {
@@ -1072,7 +1301,7 @@ public class WorkflowTransactionService {
                             .findByInitiativeIdAndStageNumber(transaction.getInitiativeId(), 5);
                     return stage5.isPresent() && "approved".equals(stage5.get().getApproveStatus());
                 })
-                .map(this::convertToDetailDTO)
+                .map(transaction -> toDetailDTO(transaction, fields))
                 .collect(Collectors.toList());
     }
 
@@ -1081,6 +1310,11 @@ public class WorkflowTransactionService {
      * This includes initiatives where the user is assigned as IL and Stage 8 is approved
      */
     public List<WorkflowTransactionDetailDTO> getAssignedInitiativesForMonthlyMonitoring(String userEmail) {
+        return getAssignedInitiativesForMonthlyMonitoring(userEmail, FieldSelection.ALL);
+    }
+
+    public List<WorkflowTransactionDetailDTO> getAssignedInitiativesForMonthlyMonitoring(String userEmail,
+                                                                                        FieldSelection fields) {
         // Get user by email to find assigned initiatives
         Optional<User> user = userRepository.findByEmail(userEmail);
         if (!user.isPresent()) {
@@ -1100,7 +1334,7 @@ public class WorkflowTransactionService {
                             .findByInitiativeIdAndStageNumber(transaction.getInitiativeId(), 8);
                     return stage8.isPresent() && "approved".equals(stage8.get().getApproveStatus());
                 })
-                .map(this::convertToDetailDTO)
+                .map(transaction -> toDetailDTO(transaction, fields))
                 .collect(Collectors.toList());
     }
 
@@ -1149,6 +1383,7 @@ public class WorkflowTransactionService {
                 transaction.setApproveStatus("pending");
                 transaction.setPendingWith(wfStage.getUserEmail());
                 workflowTransactionRepository.save(transaction);
+                changeLogService.recordWorkflowTransactionChange(transaction, ChangeLogService.OP_CREATE);
                 
                 Logger.getLogger(this.getClass().getName()).info(
                     String.format("Created workflow stage %d for initiative %s, assigned to %s", 
@@ -1161,13 +1396,9 @@ public class WorkflowTransactionService {
     }
 
     /**
-     * Create next workflow stage with HOD dynamic assignment for Stage 2
+     * Stage 2 of a new initiative, pending with the selected HOD (not saved yet)
      */
-    @Transactional
-    private void createNextStageWithHod(Long initiativeId, Integer stageNumber, Long selectedHodId, String selectedHodEmail) {
-        Initiative initiative = initiativeRepository.findById(initiativeId)
-                .orElseThrow(() -> new RuntimeException("Initiative not found"));
-
+    private WorkflowTransaction buildHodStage(Initiative initiative, Integer stageNumber, Long selectedHodId, String selectedHodEmail) {
         // Validate HOD selection
         if (selectedHodId == null || selectedHodEmail == null || selectedHodEmail.trim().isEmpty()) {
             throw new RuntimeException("HOD selection is required for Stage 2 approval");
@@ -1179,28 +1410,26 @@ public class WorkflowTransactionService {
             throw new RuntimeException("Invalid HOD selection. User must have HOD role.");
         }
 
-        // Check if transaction already exists
-        Optional<WorkflowTransaction> existingTransaction = workflowTransactionRepository
-                .findByInitiativeIdAndStageNumber(initiativeId, stageNumber);
-                
-        if (!existingTransaction.isPresent()) {
-            WorkflowTransaction transaction = new WorkflowTransaction(
-                initiativeId,
-                stageNumber,
-                "Evaluation and Approval", // Stage 2 name for HOD
-                initiative.getSite(),
-                "HOD",
-                selectedHodEmail
-            );
-            
-            transaction.setApproveStatus("pending");
-            transaction.setPendingWith(selectedHodEmail);
-            transaction.setAssignedUserId(selectedHodId); // Store HOD assignment
-            workflowTransactionRepository.save(transaction);
-            
-            Logger.getLogger(this.getClass().getName()).info(
-                String.format("Created HOD workflow stage %d for initiative %s, assigned to %s (HOD: %s)", 
-                    stageNumber, initiative.getInitiativeNumber(), selectedHodEmail, selectedHod.get().getFullName()));
-        }
+        WorkflowTransaction transaction = newHodStage(initiative, stageNumber, selectedHodId, selectedHodEmail);
+        Logger.getLogger(this.getClass().getName()).info(
+            String.format("Created HOD workflow stage %d for initiative %s, assigned to %s (HOD: %s)", 
+                stageNumber, initiative.getInitiativeNumber(), selectedHodEmail, selectedHod.get().getFullName()));
+        return transaction;
+    }
+
+    private WorkflowTransaction newHodStage(Initiative initiative, Integer stageNumber, Long hodId, String hodEmail) {
+        WorkflowTransaction transaction = new WorkflowTransaction(
+            initiative.getId(),
+            stageNumber,
+            "Evaluation and Approval", // Stage 2 name for HOD
+            initiative.getSite(),
+            "HOD",
+            hodEmail
+        );
+        
+        transaction.setApproveStatus("pending");
+        transaction.setPendingWith(hodEmail);
+        transaction.setAssignedUserId(hodId); // Store HOD assignment
+        return transaction;
     }
 }
\ No newline at end of file
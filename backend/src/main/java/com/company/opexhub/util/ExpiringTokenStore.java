@@ -0,0 +1,243 @@
+package com.company.opexhub.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory store for short-lived tokens and codes (email action links, verification and
+ * password reset codes), optionally backed by a persistent Backend.
+ *
+ * Expiry uses a hashed timing wheel: every entry hangs in the bucket of its deadline tick, so
+ * inserting, removing and expiring an entry are O(1) and a sweep only visits the buckets that came
+ * due since the previous one. The wheel is advanced on every access and by the owner's periodic
+ * expireEntries() call. Capacity is a hard bound: once full, the least recently used entry is shed
+ * from memory (a persistent backend still holds it and reloads it on the next lookup).
+ *
+ * All operations are synchronized on the store; they are short and the stores are small.
+ */
+public class ExpiringTokenStore<V> {
+
+    /**
+     * Persistent backing for tokens that must survive a restart.
+     * Implementations are called under the store lock and should be plain single-row operations.
+     */
+    public interface Backend<V> {
+        void save(String key, V value, long expiresAtMillis);
+
+        /** @return the stored entry, or null when absent */
+        Entry<V> load(String key);
+
+        /** @return true if this call removed the row (false if another node removed it first) */
+        boolean delete(String key);
+
+        int deleteExpired(long nowMillis);
+    }
+
+    public static final class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        public Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public V getValue() { return value; }
+        public long getExpiresAtMillis() { return expiresAtMillis; }
+    }
+
+    private static final class Node<V> {
+        final String key;
+        final V value;
+        final long expiresAtMillis;
+        final long deadlineTick;
+        Node<V> prev;
+        Node<V> next;
+
+        Node(String key, V value, long expiresAtMillis, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    private final String name;
+    private final long tickMillis;
+    private final int wheelMask;
+    private final Node<V>[] wheel;
+    private final LinkedHashMap<String, Node<V>> entries;
+    private final Backend<V> backend;
+    private long lastTick;
+    private long shedCount;
+
+    /**
+     * @param name       label used in log output
+     * @param tickMillis wheel resolution; entries expire at most one tick late
+     * @param wheelSize  number of buckets, rounded up to a power of two
+     * @param capacity   hard bound on in-memory entries
+     * @param backend    optional persistent backend, null for memory only
+     */
+    @SuppressWarnings("unchecked")
+    public ExpiringTokenStore(String name, long tickMillis, int wheelSize, final int capacity, Backend<V> backend) {
+        this.name = name;
+        this.tickMillis = tickMillis;
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1;
+        this.wheelMask = size - 1;
+        this.wheel = (Node<V>[]) new Node<?>[size];
+        this.backend = backend;
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+        this.entries = new LinkedHashMap<String, Node<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Node<V>> eldest) {
+                if (size() > capacity) {
+                    unlink(eldest.getValue());
+                    shedCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized void put(String key, V value, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        advance(now);
+        long expiresAt = now + ttlMillis;
+        if (backend != null) {
+            backend.save(key, value, expiresAt);
+        }
+        putLocal(key, value, expiresAt);
+    }
+
+    /**
+     * @return the live value for the key, or null when absent or expired
+     */
+    public synchronized V get(String key) {
+        long now = System.currentTimeMillis();
+        advance(now);
+        Node<V> node = entries.get(key);
+        if (node == null && backend != null) {
+            Entry<V> stored = backend.load(key);
+            if (stored != null && stored.getExpiresAtMillis() > now) {
+                node = putLocal(key, stored.getValue(), stored.getExpiresAtMillis());
+            }
+        }
+        if (node == null || node.expiresAtMillis <= now) {
+            return null;
+        }
+        return node.value;
+    }
+
+    /**
+     * Remove the key and return its live value; with a backend only one caller across all nodes wins.
+     */
+    public synchronized V consume(String key) {
+        V value = get(key);
+        if (value == null) {
+            return null;
+        }
+        removeLocal(key);
+        if (backend != null && !backend.delete(key)) {
+            return null;
+        }
+        return value;
+    }
+
+    public synchronized void remove(String key) {
+        removeLocal(key);
+        if (backend != null) {
+            backend.delete(key);
+        }
+    }
+
+    /**
+     * Expire due entries in memory and in the backend; returns the number of in-memory entries removed
+     */
+    public synchronized int expireEntries() {
+        long now = System.currentTimeMillis();
+        int expired = advance(now);
+        if (backend != null) {
+            backend.deleteExpired(now);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getShedCount() {
+        return shedCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private Node<V> putLocal(String key, V value, long expiresAtMillis) {
+        removeLocal(key);
+        // Round the deadline up so an entry is never swept before it expires
+        long deadlineTick = (expiresAtMillis + tickMillis - 1) / tickMillis;
+        Node<V> node = new Node<>(key, value, expiresAtMillis, Math.max(deadlineTick, lastTick + 1));
+        link(node);
+        entries.put(key, node);
+        return node;
+    }
+
+    private void removeLocal(String key) {
+        Node<V> node = entries.remove(key);
+        if (node != null) {
+            unlink(node);
+        }
+    }
+
+    // Sweep the buckets of every tick that passed since the last call (each bucket at most once)
+    private int advance(long nowMillis) {
+        long currentTick = nowMillis / tickMillis;
+        if (currentTick <= lastTick) {
+            return 0;
+        }
+        long ticks = Math.min(currentTick - lastTick, wheel.length);
+        int expired = 0;
+        for (long t = currentTick - ticks + 1; t <= currentTick; t++) {
+            Node<V> node = wheel[(int) (t & wheelMask)];
+            while (node != null) {
+                Node<V> next = node.next;
+                // Entries further than one rotation away share the bucket and stay for a later round
+                if (node.deadlineTick <= currentTick) {
+                    unlink(node);
+                    entries.remove(node.key);
+                    expired++;
+                }
+                node = next;
+            }
+        }
+        lastTick = currentTick;
+        return expired;
+    }
+
+    private void link(Node<V> node) {
+        int bucket = (int) (node.deadlineTick & wheelMask);
+        node.prev = null;
+        node.next = wheel[bucket];
+        if (wheel[bucket] != null) {
+            wheel[bucket].prev = node;
+        }
+        wheel[bucket] = node;
+    }
+
+    private void unlink(Node<V> node) {
+        int bucket = (int) (node.deadlineTick & wheelMask);
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (wheel[bucket] == node) {
+            wheel[bucket] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.company.opexhub.util;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested through a fields= query parameter, e.g. fields=id,title,status.
+ *
+ * Services use includes() to skip lookups whose results were not asked for; controllers pass the
+ * response body through apply() so DTOs annotated with @JsonFilter(FieldSelection.FILTER_ID) only
+ * serialize the requested properties. A missing or blank parameter selects everything, and "id"
+ * is always included. Unknown names are ignored.
+ */
+public final class FieldSelection {
+
+    public static final String FILTER_ID = "fieldSelection";
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    // null = all fields
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : fields.split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        return new FieldSelection(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public boolean includesAny(String... candidates) {
+        for (String candidate : candidates) {
+            if (includes(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Requested names, or null when everything is selected
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Wrap a response body so filtered DTOs anywhere inside it serialize only the selected properties
+     */
+    public MappingJacksonValue apply(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        SimpleBeanPropertyFilter filter = fields == null
+            ? SimpleBeanPropertyFilter.serializeAll()
+            : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        value.setFilters(new SimpleFilterProvider().addFilter(FILTER_ID, filter));
+        return value;
+    }
+}
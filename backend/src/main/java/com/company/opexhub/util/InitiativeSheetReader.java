@@ -0,0 +1,298 @@
+package com.company.opexhub.util;
+
+import com.company.opexhub.dto.InitiativeRequest;
+import com.company.opexhub.dto.InitiativeRowError;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads initiative rows from the first sheet of an XLSX workbook for bulk import.
+ *
+ * The sheet XML is parsed with SAX (XSSFSheetXMLHandler), one row at a time, so no cell model of
+ * the workbook is built. The first non-blank row holds the column headers, matched ignoring case,
+ * spaces and punctuation ("Expected Savings", "expected_savings"); unknown columns are ignored and
+ * blank rows skipped. Cell values that cannot be converted are reported per row; the remaining
+ * checks (required fields, HOD, site workflow) are left to the bulk create.
+ */
+public final class InitiativeSheetReader {
+
+    public static final class Result {
+        private final Map<Integer, InitiativeRequest> rows;
+        private final List<InitiativeRowError> errors;
+
+        Result(Map<Integer, InitiativeRequest> rows, List<InitiativeRowError> errors) {
+            this.rows = rows;
+            this.errors = errors;
+        }
+
+        /** Spreadsheet row number to request, in sheet order */
+        public Map<Integer, InitiativeRequest> getRows() { return rows; }
+        public List<InitiativeRowError> getErrors() { return errors; }
+    }
+
+    private static final List<String> REQUIRED_COLUMNS = Arrays.asList(
+        "title", "priority", "expectedsavings", "site", "discipline", "initiatorname", "hodemail");
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final List<DateTimeFormatter> TEXT_DATE_FORMATS = Arrays.asList(
+        DateTimeFormatter.ISO_LOCAL_DATE,
+        DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+        DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+    private InitiativeSheetReader() {}
+
+    /**
+     * @param xlsx    the workbook on disk; opened read-only, without buffering the whole package in
+     *                memory as OPCPackage.open(InputStream) does
+     * @param maxRows data rows allowed; a larger sheet is rejected without reading the rest
+     */
+    public static Result read(File xlsx, int maxRows) throws IOException {
+        RowCollector collector = new RowCollector(maxRows);
+        OPCPackage workbook = null;
+        try {
+            workbook = OPCPackage.open(xlsx, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(workbook);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(workbook);
+            StylesTable styles = reader.getStylesTable();
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new RuntimeException("The workbook has no sheets");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, collector,
+                    new RawValueFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new RuntimeException("Not a readable XLSX workbook: " + e.getMessage());
+        } catch (TooManyRowsException e) {
+            throw new RuntimeException("The sheet has more than " + maxRows + " initiative rows");
+        } finally {
+            // Opened read-only: revert() releases the file, close() is meant to save the package
+            if (workbook != null) {
+                workbook.revert();
+            }
+        }
+        if (collector.columns == null) {
+            throw new RuntimeException("The sheet is empty");
+        }
+        return new Result(collector.rows, collector.errors);
+    }
+
+    private static final class TooManyRowsException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        TooManyRowsException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final int maxRows;
+        private final Map<Integer, InitiativeRequest> rows = new LinkedHashMap<>();
+        private final List<InitiativeRowError> errors = new ArrayList<>();
+
+        // Column index to normalised header; null until the header row has been read
+        private Map<Integer, String> columns;
+        private final Map<String, String> values = new HashMap<>();
+
+        RowCollector(int maxRows) {
+            this.maxRows = maxRows;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (formattedValue == null || formattedValue.trim().isEmpty() || cellReference == null) {
+                return;
+            }
+            int column = new CellReference(cellReference).getCol();
+            if (columns == null) {
+                values.put(String.valueOf(column), normalise(formattedValue));
+            } else if (columns.containsKey(column)) {
+                values.put(columns.get(column), formattedValue.trim());
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (values.isEmpty()) {
+                return;
+            }
+            if (columns == null) {
+                readHeader();
+                return;
+            }
+            if (rows.size() >= maxRows) {
+                throw new TooManyRowsException();
+            }
+            int rowNumber = rowNum + 1;
+            List<String> problems = new ArrayList<>();
+            rows.put(rowNumber, toRequest(problems));
+            for (String problem : problems) {
+                errors.add(new InitiativeRowError(rowNumber, problem));
+            }
+        }
+
+        private void readHeader() {
+            columns = new HashMap<>();
+            for (Map.Entry<String, String> header : values.entrySet()) {
+                columns.put(Integer.valueOf(header.getKey()), header.getValue());
+            }
+            List<String> missing = new ArrayList<>(REQUIRED_COLUMNS);
+            missing.removeAll(columns.values());
+            if (!missing.isEmpty()) {
+                throw new RuntimeException("Missing column(s): " + String.join(", ", missing));
+            }
+        }
+
+        private InitiativeRequest toRequest(List<String> problems) {
+            InitiativeRequest request = new InitiativeRequest();
+            request.setTitle(values.get("title"));
+            request.setDescription(values.get("description"));
+            request.setPriority(values.get("priority"));
+            request.setSite(values.get("site"));
+            request.setDiscipline(values.get("discipline"));
+            request.setInitiatorName(values.get("initiatorname"));
+            request.setSelectedHodEmail(values.get("hodemail"));
+            request.setAssumption1(values.get("assumption1"));
+            request.setAssumption2(values.get("assumption2"));
+            request.setAssumption3(values.get("assumption3"));
+            request.setBaselineData(values.get("baselinedata"));
+            request.setTargetOutcome(values.get("targetoutcome"));
+            request.setBudgetType(values.get("budgettype"));
+            request.setExpectedSavings(decimal("expectedsavings", "Expected Savings", problems));
+            request.setTargetValue(decimal("targetvalue", "Target Value", problems));
+            request.setEstimatedCapex(decimal("estimatedcapex", "Estimated CAPEX", problems));
+            request.setStartDate(date("startdate", "Start Date", problems));
+            request.setEndDate(date("enddate", "End Date", problems));
+            request.setRequiresMoc(flag("requiresmoc"));
+            request.setRequiresCapex(flag("requirescapex"));
+            request.setConfidenceLevel(percent("confidencelevel", "Confidence Level", problems));
+            return request;
+        }
+
+        // Whole percent from 0 to 100; "85%", 85 and a percent-formatted cell (raw value 0.85) all give 85
+        private Integer percent(String column, String label, List<String> problems) {
+            String value = values.get(column);
+            if (value == null) {
+                return null;
+            }
+            BigDecimal percent;
+            try {
+                percent = new BigDecimal(value.replace("%", "").trim());
+            } catch (NumberFormatException e) {
+                problems.add(label + " is not a number: " + value);
+                return null;
+            }
+            if (!value.contains("%") && percent.signum() > 0 && percent.compareTo(BigDecimal.ONE) < 0) {
+                percent = percent.multiply(HUNDRED);
+            }
+            if (percent.signum() < 0 || percent.compareTo(HUNDRED) > 0) {
+                problems.add(label + " must be between 0 and 100%: " + value);
+                return null;
+            }
+            return percent.setScale(0, RoundingMode.HALF_UP).intValue();
+        }
+
+        private BigDecimal decimal(String column, String label, List<String> problems) {
+            String value = values.get(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return new BigDecimal(value.replace(",", ""));
+            } catch (NumberFormatException e) {
+                problems.add(label + " is not a number: " + value);
+                return null;
+            }
+        }
+
+        private LocalDate date(String column, String label, List<String> problems) {
+            String value = values.get(column);
+            if (value == null) {
+                return null;
+            }
+            for (DateTimeFormatter format : TEXT_DATE_FORMATS) {
+                try {
+                    return LocalDate.parse(value, format);
+                } catch (DateTimeParseException e) {
+                    // try the next format
+                }
+            }
+            problems.add(label + " is not a date (yyyy-MM-dd or dd-MM-yyyy): " + value);
+            return null;
+        }
+
+        // Y/N columns; anything but an explicit yes is N, as on the create form
+        private String flag(String column) {
+            String value = values.get(column);
+            if (value == null) {
+                return "N";
+            }
+            String lower = value.toLowerCase(Locale.ROOT);
+            return lower.equals("y") || lower.equals("yes") || lower.equals("true") ? "Y" : "N";
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+        }
+    }
+
+    private static String normalise(String header) {
+        return header.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    // Numbers as plain decimals and date-formatted cells as ISO dates, whatever the cell's display format
+    private static final class RawValueFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            return formatRawCellContents(value, formatIndex, formatString, false);
+        }
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+}
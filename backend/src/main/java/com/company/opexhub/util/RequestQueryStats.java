@@ -0,0 +1,74 @@
+package com.company.opexhub.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statement count and JDBC time of the HTTP request running on the current thread.
+ * Started and ended by QueryCountFilter and fed by the Hibernate statement inspector and session
+ * listener; outside a request (schedulers, startup) there is no current instance and recording is a no-op.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long dbNanos;
+    private final Map<String, Integer> statementRepeats = new HashMap<>();
+
+    private RequestQueryStats() {}
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void recordStatement(String sql) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statementCount++;
+            stats.statementRepeats.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public static void recordExecution(long nanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.dbNanos += nanos;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public double getDbMillis() {
+        return dbNanos / 1_000_000.0;
+    }
+
+    /**
+     * The statement prepared most often in this request - the usual signature of an N+1 loop
+     */
+    public Map.Entry<String, Integer> getMostRepeatedStatement() {
+        Map.Entry<String, Integer> most = null;
+        for (Map.Entry<String, Integer> entry : statementRepeats.entrySet()) {
+            if (most == null || entry.getValue() > most.getValue()) {
+                most = entry;
+            }
+        }
+        return most;
+    }
+}
@@ -0,0 +1,131 @@
+package com.company.opexhub.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point accumulator for savings amounts.
+ *
+ * Amounts are stored at scale 2 in the database (precision 15, scale 2), so they are summed here
+ * as long paise in a flat rows x columns grid (e.g. month x measure, category x budget type)
+ * instead of allocating a new BigDecimal on every add. Additions are overflow-checked and values
+ * are converted back to BigDecimal only when the DTO is built.
+ */
+public final class SavingsAccumulator {
+
+    public static final int SCALE = 2;
+
+    // Up to 16 digits at scale 0..2 times 100 still fits a long (10^18 < Long.MAX_VALUE)
+    private static final int FAST_PATH_PRECISION = 16;
+    private static final long[] CENTS_FACTOR = {100L, 10L, 1L};
+
+    private final int rows;
+    private final int columns;
+    private final long[] cells;
+
+    public SavingsAccumulator(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new long[rows * columns];
+    }
+
+    public void add(int row, int column, BigDecimal amount) {
+        if (amount != null) {
+            addCents(row, column, toCents(amount));
+        }
+    }
+
+    public void add(int row, int column, Object amount) {
+        if (amount instanceof BigDecimal) {
+            add(row, column, (BigDecimal) amount);
+        } else if (amount instanceof Number) {
+            add(row, column, new BigDecimal(amount.toString()));
+        }
+    }
+
+    public void addCents(int row, int column, long cents) {
+        int index = index(row, column);
+        cells[index] = checkedAdd(cells[index], cents);
+    }
+
+    public long getCents(int row, int column) {
+        return cells[index(row, column)];
+    }
+
+    public BigDecimal get(int row, int column) {
+        return fromCents(getCents(row, column));
+    }
+
+    public double getDouble(int row, int column) {
+        return getCents(row, column) / 100.0;
+    }
+
+    public long rowTotalCents(int row) {
+        long total = 0;
+        for (int column = 0; column < columns; column++) {
+            total = checkedAdd(total, cells[index(row, column)]);
+        }
+        return total;
+    }
+
+    public long columnTotalCents(int column) {
+        long total = 0;
+        for (int row = 0; row < rows; row++) {
+            total = checkedAdd(total, cells[index(row, column)]);
+        }
+        return total;
+    }
+
+    // Running total of one column over rows 0..row inclusive
+    public long cumulativeCents(int row, int column) {
+        long total = 0;
+        for (int r = 0; r <= row; r++) {
+            total = checkedAdd(total, cells[index(r, column)]);
+        }
+        return total;
+    }
+
+    public int getRows() { return rows; }
+
+    public int getColumns() { return columns; }
+
+    /**
+     * Amount in paise, rounded half up. Amounts at scale 0..2 (all database values) take a fast path
+     * without the BigInteger that unscaledValue() builds; other scales are rounded first.
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        int scale = amount.scale();
+        if (scale >= 0 && scale <= SCALE && amount.precision() <= FAST_PATH_PRECISION) {
+            // longValueExact() of a scale 0 BigDecimal returns its compact long directly
+            long unscaled = (scale == 0 ? amount : amount.movePointRight(scale)).longValueExact();
+            return unscaled * CENTS_FACTOR[scale];
+        }
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Savings amount out of range: " + amount);
+        }
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    private static long checkedAdd(long a, long b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Savings total overflow while adding " + fromCents(b) + " to " + fromCents(a));
+        }
+    }
+
+    private int index(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", " + column + ") outside " + rows + "x" + columns);
+        }
+        return row * columns + column;
+    }
+}
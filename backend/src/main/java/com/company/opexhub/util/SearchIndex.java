@@ -0,0 +1,317 @@
+package com.company.opexhub.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with weighted fields, ranked AND queries, infix term matching and
+ * facet filters / counts.
+ *
+ * Text is split into lowercase letter/digit tokens. Each token maps to the documents containing it
+ * with a weight (sum of the field weights it occurs in, damped by repetition). A query token matches
+ * index terms equal to it, starting with it or containing it; infix candidates come from a trigram
+ * index over the term dictionary (prefix scan for one- and two-letter tokens), so no document text
+ * is ever scanned. Documents must match every query token; score is the sum per query token of the
+ * best matching term's weight x idf, discounted for prefix and infix matches. Ties go to the
+ * document with the higher recency key.
+ *
+ * Updates replace a whole document and are safe to run concurrently with queries.
+ */
+public class SearchIndex {
+
+    public static final class Field {
+        private final String text;
+        private final float weight;
+
+        public Field(String text, float weight) {
+            this.text = text;
+            this.weight = weight;
+        }
+    }
+
+    public static final class Result {
+        private final List<Long> ids;
+        private final long total;
+        private final Map<String, Map<String, Integer>> facetCounts;
+
+        Result(List<Long> ids, long total, Map<String, Map<String, Integer>> facetCounts) {
+            this.ids = ids;
+            this.total = total;
+            this.facetCounts = facetCounts;
+        }
+
+        /** Ids of the requested page, best match first */
+        public List<Long> getIds() { return ids; }
+        public long getTotal() { return total; }
+        /** Per facet, value counts over all documents matching the text (facet filters not applied) */
+        public Map<String, Map<String, Integer>> getFacetCounts() { return facetCounts; }
+    }
+
+    private static final class Doc {
+        final Map<String, String> facets;
+        final long recency;
+        final Set<String> terms;
+
+        Doc(Map<String, String> facets, long recency, Set<String> terms) {
+            this.facets = facets;
+            this.recency = recency;
+            this.terms = terms;
+        }
+    }
+
+    private static final float PREFIX_FACTOR = 0.7f;
+    private static final float INFIX_FACTOR = 0.4f;
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final NavigableSet<String> dictionary = new TreeSet<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a document
+     * @param facets  facet name to value (e.g. site, status); null values are not indexed
+     * @param recency tie-break key, higher ranks first (e.g. creation time)
+     */
+    public void put(long id, Map<String, String> facets, long recency, List<Field> fields) {
+        Map<String, Float> weights = new HashMap<>();
+        for (Field field : fields) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String token : tokenize(field.text)) {
+                counts.merge(token, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                // 1, 1.69, 2.1 ... so a term repeated in a long text does not drown a title hit
+                float weight = field.weight * (float) (1 + Math.log(count.getValue()));
+                weights.merge(count.getKey(), weight, Float::sum);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            for (Map.Entry<String, Float> weight : weights.entrySet()) {
+                Map<Long, Float> posting = postings.get(weight.getKey());
+                if (posting == null) {
+                    posting = new HashMap<>();
+                    postings.put(weight.getKey(), posting);
+                    addTerm(weight.getKey());
+                }
+                posting.put(id, weight.getValue());
+            }
+            docs.put(id, new Doc(new HashMap<>(facets), recency, weights.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param query   free text; blank matches every document (ordered by recency)
+     * @param filters facet name to required value; null values are ignored
+     */
+    public Result search(String query, Map<String, String> filters, int offset, int limit) {
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = queryTokens.isEmpty() ? matchAll() : match(queryTokens);
+
+            Map<String, Map<String, Integer>> facetCounts = new TreeMap<>();
+            List<Long> hits = new ArrayList<>();
+            for (Long id : scores.keySet()) {
+                Doc doc = docs.get(id);
+                for (Map.Entry<String, String> facet : doc.facets.entrySet()) {
+                    if (facet.getValue() != null) {
+                        facetCounts.computeIfAbsent(facet.getKey(), k -> new TreeMap<>())
+                            .merge(facet.getValue(), 1, Integer::sum);
+                    }
+                }
+                if (matchesFilters(doc, filters)) {
+                    hits.add(id);
+                }
+            }
+
+            hits.sort(Comparator.<Long>comparingDouble(id -> -scores.get(id))
+                .thenComparing(id -> -docs.get(id).recency)
+                .thenComparing(id -> -id));
+            int from = Math.min(Math.max(offset, 0), hits.size());
+            int to = Math.min(from + Math.max(limit, 0), hits.size());
+            return new Result(new ArrayList<>(hits.subList(from, to)), hits.size(), facetCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lowercase letter/digit runs; everything else separates tokens
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private Map<Long, Float> matchAll() {
+        Map<Long, Float> scores = new HashMap<>();
+        for (Long id : docs.keySet()) {
+            scores.put(id, 0f);
+        }
+        return scores;
+    }
+
+    // AND over query tokens; each contributes its best-matching term
+    private Map<Long, Float> match(List<String> queryTokens) {
+        Map<Long, Float> scores = null;
+        for (String queryToken : queryTokens) {
+            Map<Long, Float> tokenScores = new HashMap<>();
+            for (String term : candidateTerms(queryToken)) {
+                Map<Long, Float> posting = postings.get(term);
+                float factor = term.equals(queryToken) ? 1f : term.startsWith(queryToken) ? PREFIX_FACTOR : INFIX_FACTOR;
+                float idf = (float) Math.log(1 + (double) docs.size() / posting.size());
+                for (Map.Entry<Long, Float> hit : posting.entrySet()) {
+                    if (scores == null || scores.containsKey(hit.getKey())) {
+                        tokenScores.merge(hit.getKey(), hit.getValue() * factor * idf, Math::max);
+                    }
+                }
+            }
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                Map<Long, Float> combined = new HashMap<>();
+                for (Map.Entry<Long, Float> hit : tokenScores.entrySet()) {
+                    combined.put(hit.getKey(), scores.get(hit.getKey()) + hit.getValue());
+                }
+                scores = combined;
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores != null ? scores : Collections.emptyMap();
+    }
+
+    private Set<String> candidateTerms(String queryToken) {
+        if (queryToken.length() < 3) {
+            // Too short for trigrams: prefix matches only
+            return dictionary.subSet(queryToken, true, queryToken + Character.MAX_VALUE, false);
+        }
+        Set<String> candidates = null;
+        for (String trigram : trigramsOf(queryToken)) {
+            Set<String> terms = trigrams.get(trigram);
+            if (terms == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || terms.size() < candidates.size()) {
+                candidates = terms;
+            }
+        }
+        Set<String> matches = new HashSet<>();
+        for (String term : candidates) {
+            if (term.contains(queryToken)) {
+                matches.add(term);
+            }
+        }
+        return matches;
+    }
+
+    private boolean matchesFilters(Doc doc, Map<String, String> filters) {
+        if (filters == null) {
+            return true;
+        }
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            if (filter.getValue() != null && !filter.getValue().equalsIgnoreCase(doc.facets.get(filter.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeLocked(long id) {
+        Doc doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                    removeTerm(term);
+                }
+            }
+        }
+    }
+
+    private void addTerm(String term) {
+        dictionary.add(term);
+        for (String trigram : trigramsOf(term)) {
+            trigrams.computeIfAbsent(trigram, k -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void removeTerm(String term) {
+        dictionary.remove(term);
+        for (String trigram : trigramsOf(term)) {
+            Set<String> terms = trigrams.get(trigram);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    trigrams.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            result.add(term.substring(i, i + 3));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,175 @@
+package com.company.opexhub.loadsim;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.company.opexhub.dto.InitiativeRequest;
+import com.company.opexhub.entity.ChangeLogEntry;
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.User;
+import com.company.opexhub.entity.WfMaster;
+import com.company.opexhub.entity.WorkflowTransaction;
+import com.company.opexhub.service.InitiativeService;
+import com.company.opexhub.service.MonthlyMonitoringService;
+
+/**
+ * Shows that each multi-row write path goes out as JDBC batches (hibernate.jdbc.batch_size=50):
+ * Hibernate Statistics give the rows written, RecordingStatementInspector the statements prepared.
+ * A batched INSERT or UPDATE is prepared once per flush and reused for every chunk it executes, so
+ * one prepared statement per table means no per-row fallback. Runs on the loadsim H2 profile.
+ */
+@SpringBootTest(properties = {
+        "loadsim.sites=NDS",
+        "loadsim.initiatives-per-site=5",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.company.opexhub.loadsim.RecordingStatementInspector"})
+@ActiveProfiles("loadsim")
+@Import(MonthEndSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BatchWriteTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchWriteTest.class);
+
+    // saveUserArray and saveWfMasterData calls in DataInitializer, one insert batch each
+    private static final int SEEDED_USER_GROUPS = 18;
+    private static final int SEEDED_WF_MASTER_SITES = 3;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MonthEndSeeder seeder;
+
+    @Autowired
+    private InitiativeService initiativeService;
+
+    @Autowired
+    private MonthlyMonitoringService monthlyMonitoringService;
+
+    private Statistics statistics;
+    private long seededUserInserts;
+    private long seededUsers;
+    private long seededWfMasterInserts;
+    private long seededWfMasters;
+    private MonthEndSeeder.SeedData seed;
+
+    @BeforeAll
+    void captureStartupAndSeed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // DataInitializer ran with the context; take its figures before the month-end seed adds rows
+        seededUserInserts = RecordingStatementInspector.inserts("OPEX_USERS");
+        seededUsers = insertCount(User.class);
+        seededWfMasterInserts = RecordingStatementInspector.inserts("OPEX_WF_MASTER");
+        seededWfMasters = insertCount(WfMaster.class);
+        seed = seeder.seed();
+    }
+
+    @BeforeEach
+    void resetCounters() {
+        statistics.clear();
+        RecordingStatementInspector.reset();
+    }
+
+    @Test
+    void dataInitializerSeedsEachGroupInOneBatch() {
+        logger.info("DataInitializer: {} users in {} INSERT statements, {} WfMaster rows in {}",
+                seededUsers, seededUserInserts, seededWfMasters, seededWfMasterInserts);
+
+        assertThat(seededUsers).isGreaterThan(SEEDED_USER_GROUPS);
+        assertThat(seededUserInserts).isEqualTo(SEEDED_USER_GROUPS);
+        assertThat(seededWfMasters).isGreaterThan(SEEDED_WF_MASTER_SITES);
+        assertThat(seededWfMasterInserts).isEqualTo(SEEDED_WF_MASTER_SITES);
+    }
+
+    @Test
+    void createInitiativeWritesStageOneAndTwoInOneBatch() {
+        initiativeService.createInitiative(request("Batched stages"), lead().getId());
+
+        logger.info("Create initiative: {} statements prepared", statistics.getPrepareStatementCount());
+        assertThat(insertCount(WorkflowTransaction.class)).isEqualTo(2);
+        assertThat(RecordingStatementInspector.inserts("OPEX_WORKFLOW_TRANSACTIONS")).isEqualTo(1);
+        assertThat(insertCount(ChangeLogEntry.class)).isEqualTo(3);
+        assertThat(RecordingStatementInspector.inserts("OPEX_CHANGE_LOG")).isEqualTo(1);
+    }
+
+    @Test
+    void bulkCreateWritesEachTableInBatches() {
+        int rows = 30;
+        Map<Integer, InitiativeRequest> requests = new LinkedHashMap<>();
+        for (int row = 1; row <= rows; row++) {
+            requests.put(row, request("Bulk batched " + row));
+        }
+
+        initiativeService.createInitiatives(requests, new ArrayList<>(), lead().getId());
+
+        logger.info("Bulk create of {}: {} statements prepared", rows, statistics.getPrepareStatementCount());
+        // Each table's rows go out through one prepared INSERT, executed in chunks of hibernate.jdbc.batch_size
+        assertThat(insertCount(Initiative.class)).isEqualTo(rows);
+        assertThat(RecordingStatementInspector.inserts("OPEX_INITIATIVES")).isEqualTo(1);
+        assertThat(insertCount(WorkflowTransaction.class)).isEqualTo(2L * rows);
+        assertThat(RecordingStatementInspector.inserts("OPEX_WORKFLOW_TRANSACTIONS")).isEqualTo(1);
+        assertThat(insertCount(ChangeLogEntry.class)).isEqualTo(3L * rows);
+        assertThat(RecordingStatementInspector.inserts("OPEX_CHANGE_LOG")).isEqualTo(1);
+        // OPEX_CHANGE_LOG_SEQ is deliberately unpooled, one call per log row; everything else
+        // stays well below one statement per row
+        long sequenceCalls = RecordingStatementInspector.sequenceCalls("OPEX_CHANGE_LOG_SEQ");
+        assertThat(sequenceCalls).isEqualTo(3L * rows);
+        assertThat(statistics.getPrepareStatementCount() - sequenceCalls).isLessThan(rows);
+    }
+
+    @Test
+    void batchFaApprovalUpdatesEntriesInOneBatch() {
+        List<Long> entryIds = seed.getPendingFaEntryIds().subList(0, 5);
+
+        monthlyMonitoringService.batchFAApproval(entryIds, "Approved by batch write test");
+
+        logger.info("Batch F&A approval of 5: {} statements prepared", statistics.getPrepareStatementCount());
+        assertThat(statistics.getEntityStatistics(MonthlyMonitoringEntry.class.getName()).getUpdateCount()).isEqualTo(5);
+        assertThat(RecordingStatementInspector.updates("OPEX_MONTHLY_MON_ENTRIES")).isEqualTo(1);
+        assertThat(insertCount(ChangeLogEntry.class)).isEqualTo(5);
+        assertThat(RecordingStatementInspector.inserts("OPEX_CHANGE_LOG")).isEqualTo(1);
+    }
+
+    private long insertCount(Class<?> entity) {
+        return statistics.getEntityStatistics(entity.getName()).getInsertCount();
+    }
+
+    private User lead() {
+        return seed.getInitiativeLead("NDS");
+    }
+
+    private InitiativeRequest request(String title) {
+        User hod = seed.getHod("NDS");
+        InitiativeRequest request = new InitiativeRequest();
+        request.setTitle(title);
+        request.setPriority("Medium");
+        request.setExpectedSavings(BigDecimal.valueOf(60000));
+        request.setSite("NDS");
+        request.setDiscipline("Operation");
+        request.setBudgetType("BUDGETED");
+        request.setInitiatorName(lead().getFullName());
+        request.setSelectedHodId(hod.getId());
+        request.setSelectedHodEmail(hod.getEmail());
+        return request;
+    }
+}
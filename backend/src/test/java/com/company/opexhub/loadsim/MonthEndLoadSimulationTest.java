@@ -0,0 +1,358 @@
+package com.company.opexhub.loadsim;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import javax.persistence.EntityManagerFactory;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.company.opexhub.config.QueryCountFilter;
+import com.company.opexhub.entity.User;
+
+/**
+ * Month-end load simulation for the savings monitoring flows.
+ *
+ * Runs on the in-memory H2 database of the "loadsim" profile (application-loadsim.properties). It
+ * seeds sites, initiatives, workflow transactions and monitoring entries, then drives the real HTTP
+ * endpoints of MonthlyMonitoringController, InitiativeController and WorkflowTransactionController
+ * with concurrent virtual users in month-end order: IL creates and finalises entries, F&A reviews and
+ * batch-approves them, new initiatives are registered (workflow creation), and the monitoring /
+ * workflow screens are read.
+ *
+ * For every endpoint it logs p50/p95/p99 latency, throughput, error count and the number of SQL
+ * statements Hibernate prepared per request. Each endpoint runs as its own phase so the statement
+ * count (taken from Hibernate statistics) can be attributed to it. The run fails when any request
+ * fails, and when the highest per-request count of a budgeted endpoint - the final count
+ * QueryCountFilter records after the body is written - exceeds loadsim.query-budgets or is missing.
+ *
+ * Tagged "loadsim" and excluded from the default build; run it with: mvn test -Ploadsim
+ */
+@Tag("loadsim")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadsim")
+@Import({MonthEndSeeder.class, MonthEndLoadSimulationTest.StatementCountRecorder.class})
+class MonthEndLoadSimulationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonthEndLoadSimulationTest.class);
+
+    @Autowired
+    private MonthEndSeeder seeder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementCountRecorder statementCountRecorder;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Value("${loadsim.months-per-initiative:6}")
+    private int monthsPerInitiative;
+
+    @Value("${loadsim.virtual-users:20}")
+    private int virtualUsers;
+
+    @Value("${loadsim.requests-per-endpoint:400}")
+    private int requestsPerEndpoint;
+
+    @Value("${loadsim.query-budgets:}")
+    private String queryBudgets;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Test
+    void monthEndEndpointsStayWithinTheirQueryBudgets() throws Exception {
+        String baseUrl = "http://localhost:" + port + contextPath;
+
+        MonthEndSeeder.SeedData seed = seeder.seed();
+        List<String> sites = seed.getSites();
+        List<Long> ids = seed.getInitiativeIds();
+        logger.info("Seeded {} initiatives across {} sites, {} monitoring months each",
+                ids.size(), sites.size(), monthsPerInitiative);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        HttpHeaders ilHeaders = seeder.authHeaders(seed.getInitiativeLead(sites.get(0)));
+        HttpHeaders faHeaders = seeder.authHeaders(seed.getFaUser(sites.get(0)));
+        String nextMonth = LocalDate.now().plusMonths(1).toString().substring(0, 7);
+
+        Map<String, EndpointStats> results = new LinkedHashMap<>();
+        ConcurrentLinkedQueue<Long> createdEntryIds = new ConcurrentLinkedQueue<>();
+
+        // 1. IL enters the new month's figures
+        runPhase(results, statistics, "POST /api/monthly-monitoring/{initiativeId}", requestsPerEndpoint, i -> {
+            Long initiativeId = ids.get(i % ids.size());
+            Map<String, Object> body = new HashMap<>();
+            body.put("monitoringMonth", nextMonth);
+            body.put("kpiDescription", "Load simulation KPI " + i);
+            body.put("targetValue", 10000 + (i % 50) * 100);
+            body.put("achievedValue", 9000 + (i % 70) * 100);
+            body.put("category", MonthEndSeeder.CATEGORIES[i % MonthEndSeeder.CATEGORIES.length]);
+            body.put("enteredBy", "IL");
+            Map<?, ?> response = exchange(baseUrl + "/api/monthly-monitoring/" + initiativeId, HttpMethod.POST, body, ilHeaders);
+            Object data = response.get("data");
+            if (data instanceof Map && ((Map<?, ?>) data).get("id") != null) {
+                createdEntryIds.add(((Number) ((Map<?, ?>) data).get("id")).longValue());
+            }
+        });
+        assertThat(createdEntryIds).hasSize(requestsPerEndpoint);
+
+        // 2. IL finalises each new entry once, which also syncs actual savings and notifies F&A
+        List<Long> toFinalize = new ArrayList<>(createdEntryIds);
+        runPhase(results, statistics, "PUT /api/monthly-monitoring/entry/{id}/finalize", toFinalize.size(), i ->
+                exchange(baseUrl + "/api/monthly-monitoring/entry/" + toFinalize.get(i) + "/finalize?isFinalized=Y", HttpMethod.PUT, null, ilHeaders));
+
+        // 3. F&A opens the pending list of each initiative
+        runPhase(results, statistics, "GET /api/monthly-monitoring/{initiativeId}/finalized-pending-fa", requestsPerEndpoint, i ->
+                exchange(baseUrl + "/api/monthly-monitoring/" + ids.get(i % ids.size()) + "/finalized-pending-fa", HttpMethod.GET, null, faHeaders));
+
+        // 4. F&A batch-approves the finalized entries in groups of 5; the groups do not overlap, so
+        //    concurrent approvals never wait on each other's rows
+        runPhase(results, statistics, "POST /api/monthly-monitoring/batch-fa-approval", toFinalize.size() / 5, i -> {
+            Map<String, Object> body = new HashMap<>();
+            body.put("entryIds", toFinalize.subList(i * 5, i * 5 + 5));
+            body.put("faComments", "Approved by load simulation");
+            exchange(baseUrl + "/api/monthly-monitoring/batch-fa-approval", HttpMethod.POST, body, faHeaders);
+        });
+
+        // 5. New initiatives are registered: initiative, change log and Stage 1 + Stage 2 workflow rows
+        runPhase(results, statistics, "POST /api/initiatives", requestsPerEndpoint, i -> {
+            String site = sites.get(i % sites.size());
+            User lead = seed.getInitiativeLead(site);
+            User hod = seed.getHod(site);
+            Map<String, Object> body = new HashMap<>();
+            body.put("title", "Load simulation new initiative " + i);
+            body.put("priority", "Medium");
+            body.put("expectedSavings", 50000 + (i % 40) * 1000);
+            body.put("site", site);
+            body.put("discipline", MonthEndSeeder.DISCIPLINES[i % MonthEndSeeder.DISCIPLINES.length]);
+            body.put("budgetType", MonthEndSeeder.BUDGET_TYPES[i % MonthEndSeeder.BUDGET_TYPES.length]);
+            body.put("initiatorName", lead.getFullName());
+            body.put("selectedHodId", hod.getId());
+            body.put("selectedHodEmail", hod.getEmail());
+            exchange(baseUrl + "/api/initiatives", HttpMethod.POST, body, seeder.authHeaders(lead));
+        });
+
+        // 6. Screens that are refreshed throughout month-end
+        runPhase(results, statistics, "GET /api/monthly-monitoring/{initiativeId}", requestsPerEndpoint, i ->
+                exchange(baseUrl + "/api/monthly-monitoring/" + ids.get(i % ids.size()), HttpMethod.GET, null, ilHeaders));
+        runPhase(results, statistics, "GET /api/monthly-monitoring/{initiativeId}/timeline", requestsPerEndpoint, i ->
+                exchange(baseUrl + "/api/monthly-monitoring/" + ids.get(i % ids.size()) + "/timeline", HttpMethod.GET, null, ilHeaders));
+        runPhase(results, statistics, "GET /api/workflow-transactions/visible/{initiativeId}", requestsPerEndpoint, i ->
+                exchange(baseUrl + "/api/workflow-transactions/visible/" + ids.get(i % ids.size()), HttpMethod.GET, null, ilHeaders));
+        runPhase(results, statistics, "GET /api/workflow-transactions/progress/{initiativeId}", requestsPerEndpoint, i ->
+                exchange(baseUrl + "/api/workflow-transactions/progress/" + ids.get(i % ids.size()), HttpMethod.GET, null, ilHeaders));
+        runPhase(results, statistics, "GET /api/workflow-transactions/pending/{site}/IL", requestsPerEndpoint, i ->
+                exchange(baseUrl + "/api/workflow-transactions/pending/" + sites.get(i % sites.size()) + "/IL", HttpMethod.GET, null, ilHeaders));
+
+        logReport(results);
+
+        SoftAssertions softly = new SoftAssertions();
+        for (Map.Entry<String, EndpointStats> result : results.entrySet()) {
+            softly.assertThat(result.getValue().requests()).as("requests sent to %s", result.getKey()).isPositive();
+            softly.assertThat(result.getValue().errors).as("failed %s requests", result.getKey()).isZero();
+        }
+        for (Map.Entry<String, Long> budget : QueryBudgets.parse(queryBudgets).entrySet()) {
+            EndpointStats stats = results.get(budget.getKey());
+            softly.assertThat(stats).as("query budget endpoint %s", budget.getKey()).isNotNull();
+            if (stats != null) {
+                softly.assertThat(stats.statements).as("SQL statements prepared by %s", budget.getKey()).isPositive();
+                softly.assertThat(stats.maxStatements)
+                        .as("SQL statements in one %s request", budget.getKey())
+                        .isPositive()
+                        .isLessThanOrEqualTo(budget.getValue());
+            }
+        }
+        softly.assertAll();
+    }
+
+    // Throws for non-2xx responses (RestTemplate) and for 2xx responses that report success=false
+    private Map<?, ?> exchange(String url, HttpMethod method, Object body, HttpHeaders headers) {
+        ResponseEntity<Object> response = restTemplate.exchange(url, method, new HttpEntity<>(body, headers), Object.class);
+        Map<?, ?> responseBody = response.getBody() instanceof Map ? (Map<?, ?>) response.getBody() : Collections.emptyMap();
+        if (Boolean.FALSE.equals(responseBody.get("success"))) {
+            throw new IllegalStateException(method + " " + url + " reported failure: " + responseBody.get("message"));
+        }
+        return responseBody;
+    }
+
+    /**
+     * Runs the given number of calls of one endpoint spread across virtualUsers threads and
+     * collects latency, error and SQL statement figures for it.
+     */
+    private void runPhase(Map<String, EndpointStats> results, Statistics statistics, String endpoint, int requests,
+                          RequestAction action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers);
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(virtualUsers);
+
+        statistics.clear();
+        statementCountRecorder.startPhase();
+        long start = System.nanoTime();
+        for (int u = 0; u < virtualUsers; u++) {
+            executor.execute(() -> {
+                try {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        long t0 = System.nanoTime();
+                        try {
+                            action.perform(i);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            logger.warn("{} request {} failed: {}", endpoint, i, e.getMessage());
+                        }
+                        latencies[i] = System.nanoTime() - t0;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long wallNanos = System.nanoTime() - start;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        results.put(endpoint, new EndpointStats(latencies, errors.get(), statistics.getPrepareStatementCount(),
+                statementCountRecorder.maxStatements(), wallNanos));
+    }
+
+    private void logReport(Map<String, EndpointStats> results) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Month-end load simulation results (%d virtual users, %d requests per endpoint)%n",
+                virtualUsers, requestsPerEndpoint));
+        report.append(String.format("%-64s %9s %9s %9s %10s %7s %9s %8s%n",
+                "Endpoint", "p50 ms", "p95 ms", "p99 ms", "req/s", "errors", "sql/req", "max sql"));
+        for (Map.Entry<String, EndpointStats> result : results.entrySet()) {
+            EndpointStats stats = result.getValue();
+            report.append(String.format("%-64s %9.2f %9.2f %9.2f %10.1f %7d %9.1f %8d%n",
+                    result.getKey(),
+                    stats.percentileMillis(50), stats.percentileMillis(95), stats.percentileMillis(99),
+                    stats.throughputPerSecond(), stats.errors, stats.statementsPerRequest(), stats.maxStatements));
+        }
+        logger.info("{}", report);
+    }
+
+    @FunctionalInterface
+    private interface RequestAction {
+        void perform(int requestIndex) throws Exception;
+    }
+
+    private static class EndpointStats {
+        private final long[] sortedLatencies;
+        private final long errors;
+        private final long statements;
+        private final long maxStatements;
+        private final long wallNanos;
+
+        EndpointStats(long[] latencies, long errors, long statements, long maxStatements, long wallNanos) {
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(this.sortedLatencies);
+            this.errors = errors;
+            this.statements = statements;
+            this.maxStatements = maxStatements;
+            this.wallNanos = wallNanos;
+        }
+
+        double percentileMillis(int percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        int requests() {
+            return sortedLatencies.length;
+        }
+
+        double throughputPerSecond() {
+            return wallNanos == 0 ? 0 : sortedLatencies.length / (wallNanos / 1_000_000_000.0);
+        }
+
+        double statementsPerRequest() {
+            return sortedLatencies.length == 0 ? 0 : (double) statements / sortedLatencies.length;
+        }
+    }
+
+    /**
+     * Highest final statement count of the running phase, read from the request attribute
+     * QueryCountFilter sets once the response body has been written. Phases run one at a time, so
+     * every request seen belongs to the current one. Runs outside QueryCountFilter.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static class StatementCountRecorder extends OncePerRequestFilter {
+
+        private volatile LongAccumulator phaseMax = new LongAccumulator(Math::max, 0);
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                Object statements = request.getAttribute(QueryCountFilter.STATEMENT_COUNT_ATTRIBUTE);
+                if (statements instanceof Integer) {
+                    phaseMax.accumulate((Integer) statements);
+                }
+            }
+        }
+
+        void startPhase() {
+            phaseMax = new LongAccumulator(Math::max, 0);
+        }
+
+        long maxStatements() {
+            return phaseMax.get();
+        }
+    }
+}
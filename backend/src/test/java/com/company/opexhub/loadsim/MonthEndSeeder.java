@@ -0,0 +1,188 @@
+package com.company.opexhub.loadsim;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.User;
+import com.company.opexhub.entity.WfMaster;
+import com.company.opexhub.entity.WorkflowTransaction;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import com.company.opexhub.repository.UserRepository;
+import com.company.opexhub.repository.WfMasterRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+import com.company.opexhub.security.JwtTokenProvider;
+import com.company.opexhub.security.UserPrincipal;
+
+/**
+ * Seeds month-end data for the loadsim tests; registered with @Import, not component scanning.
+ *
+ * Per site: one IL, one F&A and one HOD user, a Stage 1 workflow configuration when the site has
+ * none, initiatives sitting at stage 9 with stages 1-8 approved, and a history of monitoring entries
+ * (older months finalized and F&A approved, the month before last finalized and waiting for F&A).
+ */
+public class MonthEndSeeder {
+
+    static final String[] BUDGET_TYPES = {"BUDGETED", "NON-BUDGETED"};
+    static final String[] CATEGORIES = {"General", "Energy", "Yield", "Raw Material"};
+    static final String[] DISCIPLINES = {"Operation", "Engineering & Utility", "Environment", "Safety", "Quality"};
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InitiativeRepository initiativeRepository;
+
+    @Autowired
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
+    @Autowired
+    private MonthlyMonitoringEntryRepository monthlyMonitoringRepository;
+
+    @Autowired
+    private WfMasterRepository wfMasterRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Value("${loadsim.sites:NDS,DHJ,HSD,APL,TCD}")
+    private String sites;
+
+    @Value("${loadsim.initiatives-per-site:40}")
+    private int initiativesPerSite;
+
+    @Value("${loadsim.months-per-initiative:6}")
+    private int monthsPerInitiative;
+
+    public SeedData seed() {
+        SeedData seed = new SeedData();
+        seed.sites = Arrays.asList(sites.split(","));
+        String encodedPassword = passwordEncoder.encode("loadsim123");
+        LocalDate today = LocalDate.now();
+
+        for (String site : seed.sites) {
+            User il = findOrCreateUser("Load IL " + site, "loadsim.il." + site.toLowerCase() + "@loadsim.local",
+                    encodedPassword, site, "IL", "Initiative Lead");
+            User fa = findOrCreateUser("Load F&A " + site, "loadsim.fa." + site.toLowerCase() + "@loadsim.local",
+                    encodedPassword, site, "F&A", "Site F&A");
+            User hod = findOrCreateUser("Load HOD " + site, "loadsim.hod." + site.toLowerCase() + "@loadsim.local",
+                    encodedPassword, site, "HOD", "Head of Department");
+            seed.initiativeLeads.put(site, il);
+            seed.faUsers.put(site, fa);
+            seed.hods.put(site, hod);
+            if (wfMasterRepository.findBySiteAndIsActiveOrderByStageNumber(site, "Y").isEmpty()) {
+                wfMasterRepository.save(new WfMaster(1, "Initiative Registered", "STLD", site, il.getEmail()));
+            }
+
+            List<Initiative> initiatives = new ArrayList<>();
+            for (int n = 0; n < initiativesPerSite; n++) {
+                Initiative initiative = new Initiative("Load simulation initiative " + site + "-" + n, null, "Medium",
+                        BigDecimal.valueOf(100000L + n * 1000L), site, DISCIPLINES[n % DISCIPLINES.length],
+                        today.minusMonths(monthsPerInitiative), today.plusMonths(12), il, il.getFullName(), null);
+                initiative.setInitiativeNumber(site + "/LS/" + String.format("%05d", n));
+                initiative.setBudgetType(BUDGET_TYPES[n % BUDGET_TYPES.length]);
+                initiative.setStatus("In Progress");
+                initiative.setCurrentStage(9);
+                initiatives.add(initiative);
+            }
+            initiatives = initiativeRepository.saveAll(initiatives);
+
+            List<WorkflowTransaction> transactions = new ArrayList<>();
+            List<MonthlyMonitoringEntry> entries = new ArrayList<>();
+            for (Initiative initiative : initiatives) {
+                seed.initiativeIds.add(initiative.getId());
+
+                for (int stage = 1; stage <= 9; stage++) {
+                    WorkflowTransaction transaction = new WorkflowTransaction(initiative.getId(), stage,
+                            "Stage " + stage, site, stage == 9 ? "IL" : "STLD", stage == 9 ? il.getEmail() : null);
+                    if (stage < 9) {
+                        transaction.setApproveStatus("approved");
+                        transaction.setActionBy(il.getFullName());
+                        transaction.setActionDate(LocalDateTime.now().minusDays(30L - stage));
+                    } else {
+                        transaction.setAssignedUserId(il.getId());
+                    }
+                    transactions.add(transaction);
+                }
+
+                for (int m = monthsPerInitiative; m >= 1; m--) {
+                    MonthlyMonitoringEntry entry = new MonthlyMonitoringEntry();
+                    entry.setInitiative(initiative);
+                    entry.setMonitoringMonth(today.minusMonths(m).toString().substring(0, 7));
+                    entry.setKpiDescription("Monthly savings");
+                    entry.setCategory(CATEGORIES[m % CATEGORIES.length]);
+                    entry.setTargetValue(BigDecimal.valueOf(10000L + m * 250L));
+                    entry.setAchievedValue(BigDecimal.valueOf(9000L + m * 300L));
+                    entry.setEnteredBy("IL");
+                    entry.setIsFinalized(m > 1 ? "Y" : "N");
+                    entry.setFaApproval(m > 2 ? "Y" : "N");
+                    entries.add(entry);
+                }
+            }
+            workflowTransactionRepository.saveAll(transactions);
+            for (MonthlyMonitoringEntry entry : monthlyMonitoringRepository.saveAll(entries)) {
+                if ("Y".equals(entry.getIsFinalized()) && "N".equals(entry.getFaApproval())) {
+                    seed.pendingFaEntryIds.add(entry.getId());
+                }
+            }
+        }
+        return seed;
+    }
+
+    /**
+     * JSON request headers carrying a freshly issued token for the user
+     */
+    public HttpHeaders authHeaders(User user) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(bearerToken(user));
+        return headers;
+    }
+
+    public String bearerToken(User user) {
+        UserPrincipal principal = UserPrincipal.create(user);
+        return tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private User findOrCreateUser(String fullName, String email, String encodedPassword,
+                                  String site, String role, String roleName) {
+        return userRepository.findByEmail(email).orElseGet(() ->
+                userRepository.save(new User(fullName, email, encodedPassword, site, "Operation", role, roleName)));
+    }
+
+    public static class SeedData {
+        private List<String> sites;
+        private final List<Long> initiativeIds = new ArrayList<>();
+        private final List<Long> pendingFaEntryIds = new ArrayList<>();
+        private final Map<String, User> initiativeLeads = new HashMap<>();
+        private final Map<String, User> faUsers = new HashMap<>();
+        private final Map<String, User> hods = new HashMap<>();
+
+        public List<String> getSites() { return sites; }
+        public List<Long> getInitiativeIds() { return initiativeIds; }
+        /** Entries finalized by the IL and not yet approved by F&A */
+        public List<Long> getPendingFaEntryIds() { return pendingFaEntryIds; }
+        public User getInitiativeLead(String site) { return initiativeLeads.get(site); }
+        public User getFaUser(String site) { return faUsers.get(site); }
+        public User getHod(String site) { return hods.get(site); }
+    }
+}
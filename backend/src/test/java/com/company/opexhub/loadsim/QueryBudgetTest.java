@@ -0,0 +1,154 @@
+package com.company.opexhub.loadsim;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.company.opexhub.config.QueryCountFilter;
+import com.company.opexhub.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Checks the SQL statement count of every endpoint in loadsim.query-budgets against its budget, one
+ * request each over a small seeded H2 database. The count is the final one QueryCountFilter records
+ * after the response body is written, so lazy loads during serialization are included; the
+ * X-Query-Count header is set before the body and would miss them. Part of the default build; the month-end load
+ * simulation (MonthEndLoadSimulationTest) checks the same budgets under concurrent load.
+ */
+@SpringBootTest(properties = {"loadsim.sites=NDS,DHJ", "loadsim.initiatives-per-site=5"})
+@AutoConfigureMockMvc
+@ActiveProfiles("loadsim")
+@Import(MonthEndSeeder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MonthEndSeeder seeder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${loadsim.query-budgets}")
+    private String queryBudgets;
+
+    private Map<String, Long> budgets;
+    private MonthEndSeeder.SeedData seed;
+    private String site;
+    private Long initiativeId;
+    private String ilToken;
+    private String faToken;
+
+    @BeforeAll
+    void seed() {
+        budgets = QueryBudgets.parse(queryBudgets);
+        seed = seeder.seed();
+        site = seed.getSites().get(0);
+        initiativeId = seed.getInitiativeIds().get(0);
+        ilToken = seeder.bearerToken(seed.getInitiativeLead(site));
+        faToken = seeder.bearerToken(seed.getFaUser(site));
+    }
+
+    @Test
+    void batchFaApprovalStaysWithinBudget() throws Exception {
+        List<Long> batch = seed.getPendingFaEntryIds().subList(0, 5);
+        Map<String, Object> body = new HashMap<>();
+        body.put("entryIds", batch);
+        body.put("faComments", "Approved by query budget test");
+
+        assertWithinBudget("POST /api/monthly-monitoring/batch-fa-approval",
+                post("/api/monthly-monitoring/batch-fa-approval").content(objectMapper.writeValueAsString(body)), faToken);
+    }
+
+    @Test
+    void createInitiativeStaysWithinBudget() throws Exception {
+        User lead = seed.getInitiativeLead(site);
+        User hod = seed.getHod(site);
+        Map<String, Object> body = new HashMap<>();
+        body.put("title", "Query budget initiative");
+        body.put("priority", "Medium");
+        body.put("expectedSavings", 75000);
+        body.put("site", site);
+        body.put("discipline", "Operation");
+        body.put("budgetType", "BUDGETED");
+        body.put("initiatorName", lead.getFullName());
+        body.put("selectedHodId", hod.getId());
+        body.put("selectedHodEmail", hod.getEmail());
+
+        assertWithinBudget("POST /api/initiatives",
+                post("/api/initiatives").content(objectMapper.writeValueAsString(body)), ilToken);
+    }
+
+    @Test
+    void monitoringEntriesStayWithinBudget() throws Exception {
+        assertWithinBudget("GET /api/monthly-monitoring/{initiativeId}",
+                get("/api/monthly-monitoring/{initiativeId}", initiativeId), ilToken);
+    }
+
+    @Test
+    void monitoringTimelineStaysWithinBudget() throws Exception {
+        assertWithinBudget("GET /api/monthly-monitoring/{initiativeId}/timeline",
+                get("/api/monthly-monitoring/{initiativeId}/timeline", initiativeId), ilToken);
+    }
+
+    @Test
+    void finalizedPendingFaStaysWithinBudget() throws Exception {
+        assertWithinBudget("GET /api/monthly-monitoring/{initiativeId}/finalized-pending-fa",
+                get("/api/monthly-monitoring/{initiativeId}/finalized-pending-fa", initiativeId), faToken);
+    }
+
+    @Test
+    void visibleTransactionsStayWithinBudget() throws Exception {
+        assertWithinBudget("GET /api/workflow-transactions/visible/{initiativeId}",
+                get("/api/workflow-transactions/visible/{initiativeId}", initiativeId), ilToken);
+    }
+
+    @Test
+    void workflowProgressStaysWithinBudget() throws Exception {
+        assertWithinBudget("GET /api/workflow-transactions/progress/{initiativeId}",
+                get("/api/workflow-transactions/progress/{initiativeId}", initiativeId), ilToken);
+    }
+
+    @Test
+    void pendingIlTransactionsStayWithinBudget() throws Exception {
+        assertWithinBudget("GET /api/workflow-transactions/pending/{site}/IL",
+                get("/api/workflow-transactions/pending/{site}/IL", site), ilToken);
+    }
+
+    private void assertWithinBudget(String endpoint, MockHttpServletRequestBuilder request, String token) throws Exception {
+        assertThat(budgets).as("query budget for %s", endpoint).containsKey(endpoint);
+
+        MvcResult result = mockMvc.perform(request
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andReturn();
+
+        assertThat(result.getResponse().getStatus()).as("status of %s", endpoint).isBetween(200, 299);
+        Object statements = result.getRequest().getAttribute(QueryCountFilter.STATEMENT_COUNT_ATTRIBUTE);
+        assertThat(statements).as("statement count of %s", endpoint).isInstanceOf(Integer.class);
+        assertThat((Integer) statements).as("SQL statements in one %s request", endpoint)
+                .isPositive()
+                .isLessThanOrEqualTo(budgets.get(endpoint).intValue());
+    }
+}
@@ -0,0 +1,24 @@
+package com.company.opexhub.loadsim;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses loadsim.query-budgets: "METHOD /path=maxStatements" entries separated by ';'
+ */
+final class QueryBudgets {
+
+    private QueryBudgets() {}
+
+    static Map<String, Long> parse(String budgets) {
+        Map<String, Long> parsed = new LinkedHashMap<>();
+        for (String budget : budgets.split(";")) {
+            int separator = budget.lastIndexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            parsed.put(budget.substring(0, separator).trim(), Long.parseLong(budget.substring(separator + 1).trim()));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.company.opexhub.loadsim;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.company.opexhub.config.QueryCountStatementInspector;
+
+/**
+ * QueryCountStatementInspector that also remembers every statement Hibernate prepares, so a test can
+ * tell whether a write went out as a JDBC batch: a batch is prepared once however many rows it carries.
+ * Enabled per test context through hibernate.session_factory.statement_inspector.
+ */
+public class RecordingStatementInspector extends QueryCountStatementInspector {
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+        return super.inspect(sql);
+    }
+
+    static void reset() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * INSERT statements prepared for the table since the last reset
+     */
+    static long inserts(String table) {
+        return count("insert into " + table.toLowerCase(Locale.ROOT) + " ");
+    }
+
+    /**
+     * UPDATE statements prepared for the table since the last reset
+     */
+    static long updates(String table) {
+        return count("update " + table.toLowerCase(Locale.ROOT) + " ");
+    }
+
+    /**
+     * nextval calls on the sequence since the last reset
+     */
+    static long sequenceCalls(String sequence) {
+        String name = sequence.toLowerCase(Locale.ROOT);
+        return STATEMENTS.stream().filter(sql -> sql.contains("next value for " + name)).count();
+    }
+
+    private static long count(String prefix) {
+        return STATEMENTS.stream().filter(sql -> sql.startsWith(prefix)).count();
+    }
+}
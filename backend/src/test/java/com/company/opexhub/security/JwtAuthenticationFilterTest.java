@@ -0,0 +1,161 @@
+package com.company.opexhub.security;
+
+import com.company.opexhub.service.CustomUserDetailsService;
+import com.company.opexhub.service.TokenInvalidationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class JwtAuthenticationFilterTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilterTest.class);
+
+    private static final String SECRET = "opexHubSecretKey2024ForJWT";
+
+    private static final UserPrincipal PRINCIPAL = new UserPrincipal(42L, "Asha Rao", "asha.rao@example.com", "hash",
+            "NDS", "Operation", "IL", "Initiative Lead", Collections.singletonList(new SimpleGrantedAuthority("ROLE_IL")));
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    // Real in-memory collaborators (nothing revoked, principal cached), so the filter runs its full request path
+    private final TokenInvalidationService tokenInvalidationService = new TokenInvalidationService();
+    private final UserPrincipalCache userPrincipalCache = new UserPrincipalCache();
+    private final CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userPrincipalCache, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(userPrincipalCache, "maxEntries", 100);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesWithAndWithoutTheClaimsCache() throws Exception {
+        for (int cacheEntries : new int[] {10_000, 0}) {
+            JwtTokenProvider provider = provider(cacheEntries);
+            JwtAuthenticationFilter filter = filter(provider);
+            String token = issueToken(provider);
+
+            assertThat(authenticate(filter, request(token))).isNotNull();
+            // Second request: a cache hit when the cache is on
+            Authentication authentication = authenticate(filter, request(token));
+            assertThat(authentication).isNotNull();
+            assertThat(authentication.getPrincipal()).isSameAs(PRINCIPAL);
+        }
+    }
+
+    @Test
+    void cachesBySignatureAndNeverTrustsTheSignatureOfAnUnverifiedToken() throws Exception {
+        JwtTokenProvider provider = provider(10_000);
+        JwtAuthenticationFilter filter = filter(provider);
+        String token = issueToken(provider);
+        assertThat(authenticate(filter, request(token))).isNotNull();
+
+        int signatureStart = token.lastIndexOf('.') + 1;
+        String forgedSignature = token.substring(0, signatureStart) + new StringBuilder(token.substring(signatureStart)).reverse();
+        assertThat(authenticate(filter, request(forgedSignature))).isNull();
+
+        // Same signature over a rewritten payload: the claims are the ones verified with that signature
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8).replace("\"sub\":\"42\"", "\"sub\":\"7\"");
+        assertThat(payload).contains("\"sub\":\"7\"");
+        String rewritten = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+        assertThat(provider.getVerifiedClaims(rewritten).getSubject()).isEqualTo("42");
+    }
+
+    // Run with: mvn test -Pbenchmark
+    @Test
+    @Tag("benchmark")
+    void claimsCacheIsFasterThanVerifyingEveryRequest() throws Exception {
+        JwtTokenProvider cachedProvider = provider(10_000);
+        JwtTokenProvider verifyingProvider = provider(0);
+        JwtAuthenticationFilter cached = filter(cachedProvider);
+        JwtAuthenticationFilter verifying = filter(verifyingProvider);
+        MockHttpServletRequest request = request(issueToken(cachedProvider));
+
+        for (int round = 0; round < 3; round++) {
+            filterRequests(cached, request, 20_000);
+            filterRequests(verifying, request, 20_000);
+        }
+        int requests = 200_000;
+        long start = System.nanoTime();
+        filterRequests(cached, request, requests);
+        long cachedNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        filterRequests(verifying, request, requests);
+        long verifyingNanos = System.nanoTime() - start;
+        logger.info("{} filtered requests: claims cache {} ms ({} ns/request), full verification {} ms ({} ns/request)",
+                requests, TimeUnit.NANOSECONDS.toMillis(cachedNanos), cachedNanos / requests,
+                TimeUnit.NANOSECONDS.toMillis(verifyingNanos), verifyingNanos / requests);
+
+        assertThat(cachedNanos).isLessThan(verifyingNanos);
+    }
+
+    private void filterRequests(JwtAuthenticationFilter filter, MockHttpServletRequest request, int requests) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        }
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    private static Authentication authenticate(JwtAuthenticationFilter filter, MockHttpServletRequest request) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/initiatives");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private String issueToken(JwtTokenProvider provider) {
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken(PRINCIPAL, null, PRINCIPAL.getAuthorities()));
+        userPrincipalCache.put(PRINCIPAL.getId(), provider.getIssuedAtDateFromJWT(token), PRINCIPAL);
+        return token;
+    }
+
+    private static JwtTokenProvider provider(int cacheEntries) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 3_600_000);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxEntries", cacheEntries);
+        ReflectionTestUtils.setField(provider, "claimsCacheStripes", 16);
+        provider.createClaimsCache();
+        return provider;
+    }
+
+    private JwtAuthenticationFilter filter(JwtTokenProvider provider) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "tokenProvider", provider);
+        ReflectionTestUtils.setField(filter, "tokenInvalidationService", tokenInvalidationService);
+        ReflectionTestUtils.setField(filter, "userPrincipalCache", userPrincipalCache);
+        ReflectionTestUtils.setField(filter, "customUserDetailsService", customUserDetailsService);
+        return filter;
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.opexhub.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private final LoginThrottle throttle = new LoginThrottle();
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(throttle, "accountCapacity", 3);
+        ReflectionTestUtils.setField(throttle, "accountRefillPerMinute", 0.001);
+        ReflectionTestUtils.setField(throttle, "ipCapacity", 5);
+        ReflectionTestUtils.setField(throttle, "ipRefillPerMinute", 0.001);
+        ReflectionTestUtils.setField(throttle, "maxEntries", 100);
+    }
+
+    @Test
+    void rejectsAnAccountOnceItsBucketIsEmpty() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("lead@company.com", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("lead@company.com", "10.0.0.9"))
+                .isInstanceOf(AuthThrottledException.class)
+                .hasMessage("Too many attempts for this account, please try again later");
+        assertThat(throttle.getAccountRejections()).isEqualTo(1);
+        assertThat(throttle.getIpRejections()).isZero();
+    }
+
+    @Test
+    void treatsEmailCaseAndSurroundingSpacesAsTheSameAccount() {
+        throttle.acquire("Lead@Company.com", "10.0.0.1");
+        throttle.acquire(" lead@company.com ", "10.0.0.2");
+        throttle.acquire("LEAD@COMPANY.COM", "10.0.0.3");
+
+        assertThatThrownBy(() -> throttle.acquire("lead@company.com", "10.0.0.4"))
+                .isInstanceOf(AuthThrottledException.class);
+    }
+
+    @Test
+    void rejectsAnAddressSprayingManyAccounts() {
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("user" + i + "@company.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("other@company.com", "10.0.0.1"))
+                .isInstanceOf(AuthThrottledException.class)
+                .hasMessage("Too many attempts from this address, please try again later");
+        assertThat(throttle.getIpRejections()).isEqualTo(1);
+        // The IP check runs first, so the refused attempt did not use up the account's bucket
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("other@company.com", "10.0.0.2");
+        }
+    }
+
+    @Test
+    void skipsChecksForMissingKeys() {
+        for (int i = 0; i < 20; i++) {
+            throttle.acquire(null, null);
+        }
+
+        assertThat(throttle.getRejectionCount()).isZero();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // One token per millisecond
+        ReflectionTestUtils.setField(throttle, "accountRefillPerMinute", 60_000.0);
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("lead@company.com", null);
+        }
+
+        Thread.sleep(20);
+
+        throttle.acquire("lead@company.com", null);
+        assertThat(throttle.getRejectionCount()).isZero();
+    }
+
+    @Test
+    void stopsTrackingNewKeysAtTheEntryBound() {
+        ReflectionTestUtils.setField(throttle, "maxEntries", 2);
+        throttle.acquire("a@company.com", null);
+        throttle.acquire("b@company.com", null);
+
+        // An untracked key is let through rather than growing the map without bound
+        for (int i = 0; i < 10; i++) {
+            throttle.acquire("c@company.com", null);
+        }
+
+        assertThat(accountBuckets()).hasSize(2);
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveRefilled() throws InterruptedException {
+        ReflectionTestUtils.setField(throttle, "ipRefillPerMinute", 60_000.0);
+        throttle.acquire("lead@company.com", "10.0.0.1");
+
+        Thread.sleep(20);
+        throttle.evictIdleBuckets();
+
+        assertThat(ipBuckets()).isEmpty();
+        assertThat(accountBuckets()).containsOnlyKeys("lead@company.com");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> accountBuckets() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(throttle, "accountBuckets");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> ipBuckets() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(throttle, "ipBuckets");
+    }
+}
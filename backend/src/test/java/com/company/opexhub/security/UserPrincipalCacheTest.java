@@ -0,0 +1,72 @@
+package com.company.opexhub.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPrincipalCacheTest {
+
+    private static final Date ISSUED_AT = new Date(1_700_000_000_000L);
+
+    private final UserPrincipalCache cache = new UserPrincipalCache();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 3);
+    }
+
+    @Test
+    void aFullCacheEvictsOnlyItsOldestEntry() throws InterruptedException {
+        for (long userId = 1; userId <= 4; userId++) {
+            cache.put(userId, ISSUED_AT, principal(userId));
+            // Distinct expiry times, so the oldest entry is well defined
+            Thread.sleep(2);
+        }
+
+        assertThat(cache.get(1L, ISSUED_AT)).isNull();
+        for (long userId = 2; userId <= 4; userId++) {
+            assertThat(cache.get(userId, ISSUED_AT).getUsername()).isEqualTo("user" + userId);
+        }
+    }
+
+    @Test
+    void aFullCacheEvictsExpiredEntriesFirst() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", -1L);
+        cache.put(1L, ISSUED_AT, principal(1L));
+        cache.put(2L, ISSUED_AT, principal(2L));
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 3600L);
+        cache.put(3L, ISSUED_AT, principal(3L));
+
+        cache.put(4L, ISSUED_AT, principal(4L));
+        cache.put(5L, ISSUED_AT, principal(5L));
+
+        assertThat(cache.get(3L, ISSUED_AT)).isNotNull();
+        assertThat(cache.get(4L, ISSUED_AT)).isNotNull();
+        assertThat(cache.get(5L, ISSUED_AT)).isNotNull();
+    }
+
+    @Test
+    void invalidatesEveryEntryOfAUser() {
+        cache.put(1L, ISSUED_AT, principal(1L));
+        cache.put(1L, new Date(ISSUED_AT.getTime() + 1000), principal(1L));
+        cache.put(2L, ISSUED_AT, principal(2L));
+
+        cache.invalidateUser(1L);
+
+        assertThat(cache.get(1L, ISSUED_AT)).isNull();
+        assertThat(cache.get(1L, new Date(ISSUED_AT.getTime() + 1000))).isNull();
+        assertThat(cache.get(2L, ISSUED_AT)).isNotNull();
+    }
+
+    private static UserDetails principal(long userId) {
+        return new User("user" + userId, "hash", Collections.emptyList());
+    }
+}
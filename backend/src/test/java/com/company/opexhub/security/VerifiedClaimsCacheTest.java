@@ -0,0 +1,129 @@
+package com.company.opexhub.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedClaimsCacheTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedClaimsCacheTest.class);
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void returnsClaimsUntilTheTokenExpires() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(100, 4);
+        Claims claims = Jwts.claims().setSubject("42");
+        cache.put("token", claims, NOW + 1000);
+
+        assertThat(cache.get("token", NOW)).isSameAs(claims);
+        assertThat(cache.get("token", NOW + 1000)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("other", NOW)).isNull();
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(2, 1);
+        cache.put("a", Jwts.claims().setSubject("1"), NOW + 1000);
+        cache.put("b", Jwts.claims().setSubject("2"), NOW + 1000);
+        cache.get("a", NOW);
+        cache.put("c", Jwts.claims().setSubject("3"), NOW + 1000);
+
+        assertThat(cache.get("a", NOW)).isNotNull();
+        assertThat(cache.get("b", NOW)).isNull();
+        assertThat(cache.get("c", NOW)).isNotNull();
+    }
+
+    @Test
+    void roundsStripesUpToAPowerOfTwo() {
+        assertThat(new VerifiedClaimsCache(100, 1).stripeCount()).isEqualTo(1);
+        assertThat(new VerifiedClaimsCache(100, 0).stripeCount()).isEqualTo(1);
+        assertThat(new VerifiedClaimsCache(100, 12).stripeCount()).isEqualTo(16);
+        assertThat(new VerifiedClaimsCache(100, 16).stripeCount()).isEqualTo(16);
+    }
+
+    @Test
+    void staysBoundedUnderConcurrentUse() throws Exception {
+        int maxEntries = 1024;
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(maxEntries, 16);
+
+        // Fewer tokens than entries: after the first round every lookup hits
+        assertThat(run(cache, 8, 50_000, 512)).isGreaterThan(8 * 50_000 - 8 * 512);
+        // Four times more tokens than entries: every stripe keeps evicting
+        run(cache, 8, 50_000, 4096);
+        assertThat(cache.size()).isLessThanOrEqualTo(maxEntries);
+    }
+
+    // Run with: mvn test -Pbenchmark
+    @Test
+    @Tag("benchmark")
+    void stripingDoesNotSlowDownConcurrentLookups() throws Exception {
+        // Warm up both variants, then compare; the single-stripe cache is the old synchronized LRU
+        for (int round = 0; round < 3; round++) {
+            run(new VerifiedClaimsCache(10_000, 1), 8, 20_000, 2000);
+            run(new VerifiedClaimsCache(10_000, 16), 8, 20_000, 2000);
+        }
+        long start = System.nanoTime();
+        run(new VerifiedClaimsCache(10_000, 1), 8, 100_000, 2000);
+        long singleLock = System.nanoTime() - start;
+        start = System.nanoTime();
+        run(new VerifiedClaimsCache(10_000, 16), 8, 100_000, 2000);
+        long striped = System.nanoTime() - start;
+        logger.info("800k concurrent lookups: single lock {} ms, 16 stripes {} ms",
+                TimeUnit.NANOSECONDS.toMillis(singleLock), TimeUnit.NANOSECONDS.toMillis(striped));
+
+        // Generous margin: this guards against a regression (e.g. a global lock), not for a speed-up
+        assertThat(striped).isLessThan(singleLock * 3);
+    }
+
+    // Each thread looks up tokens from a shared pool and caches the misses; returns the number of hits
+    private static int run(VerifiedClaimsCache cache, int threads, int lookupsPerThread, int distinctTokens)
+            throws Exception {
+        String[] keys = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            keys[i] = "token-" + i;
+        }
+        Claims claims = Jwts.claims().setSubject("1");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                tasks.add(() -> {
+                    int hits = 0;
+                    for (int i = 0; i < lookupsPerThread; i++) {
+                        String key = keys[(i * 31 + seed * 7) % distinctTokens];
+                        if (cache.get(key, NOW) != null) {
+                            hits++;
+                        } else {
+                            cache.put(key, claims, NOW + 60_000);
+                        }
+                    }
+                    return hits;
+                });
+            }
+            int hits = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                hits += result.get();
+            }
+            return hits;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.InitiativeFile;
+import com.company.opexhub.entity.UploadSession;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.UploadSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long INITIATIVE_ID = 3L;
+    private static final byte[] CONTENT = "hello".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private InitiativeRepository initiativeRepository;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private FileBlobService fileBlobService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ChunkedUploadService chunkedUploadService;
+
+    @TempDir
+    Path storageRoot;
+
+    private String uploadId;
+    private Path sessionDir;
+    private UploadSession session;
+
+    @BeforeEach
+    void receiveAllChunks() throws IOException {
+        ReflectionTestUtils.setField(chunkedUploadService, "storageRoot", storageRoot.toString());
+        chunkedUploadService.init();
+
+        uploadId = UUID.randomUUID().toString();
+        sessionDir = storageRoot.resolve("tmp").resolve("chunked").resolve(uploadId);
+        Files.createDirectories(sessionDir);
+        Files.write(sessionDir.resolve("0.chunk"), CONTENT);
+
+        session = new UploadSession(uploadId, INITIATIVE_ID, USER_ID, "note.txt", "text/plain",
+            (long) CONTENT.length, 1024, 1);
+        when(uploadSessionRepository.findByUploadId(uploadId)).thenReturn(Optional.of(session));
+        // Completion stubs, unused by the tests that only receive chunks
+        lenient().when(uploadSessionRepository.changeStatus(eq(uploadId), eq(ChunkedUploadService.STATUS_OPEN),
+            eq(ChunkedUploadService.STATUS_COMPLETING), any())).thenReturn(1);
+        lenient().when(initiativeRepository.findById(INITIATIVE_ID)).thenReturn(Optional.of(new Initiative()));
+    }
+
+    @Test
+    void replacesAChunkUnderTheSessionLock() throws IOException {
+        when(uploadSessionRepository.findByUploadIdForUpdate(uploadId)).thenReturn(Optional.of(session));
+        byte[] resent = "HELLO".getBytes(StandardCharsets.UTF_8);
+
+        chunkedUploadService.receiveChunk(uploadId, 0, sha256(resent), new ByteArrayInputStream(resent), USER_ID);
+
+        assertThat(sessionDir.resolve("0.chunk")).hasBinaryContent(resent);
+        verify(uploadSessionRepository).touch(eq(uploadId), any());
+    }
+
+    @Test
+    void refusesAChunkOnceCompletionHasBegun() throws IOException {
+        // OPEN when the chunk arrived, completing by the time it was verified
+        UploadSession completing = new UploadSession(uploadId, INITIATIVE_ID, USER_ID, "note.txt", "text/plain",
+            (long) CONTENT.length, 1024, 1);
+        completing.setStatus(ChunkedUploadService.STATUS_COMPLETING);
+        when(uploadSessionRepository.findByUploadIdForUpdate(uploadId)).thenReturn(Optional.of(completing));
+        byte[] resent = "HELLO".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> chunkedUploadService.receiveChunk(uploadId, 0, sha256(resent),
+            new ByteArrayInputStream(resent), USER_ID)).hasMessage("Upload is already being completed");
+
+        assertThat(sessionDir.resolve("0.chunk")).hasBinaryContent(CONTENT);
+        try (Stream<Path> files = Files.list(sessionDir)) {
+            assertThat(files).containsExactly(sessionDir.resolve("0.chunk"));
+        }
+        verify(uploadSessionRepository, never()).touch(anyString(), any());
+    }
+
+    @Test
+    void completesEvenWhenTheSessionCannotBeDeleted() throws IOException {
+        InitiativeFile attached = new InitiativeFile();
+        when(fileUploadService.attachStoredFile(any(), eq("note.txt"), eq("text/plain"), eq((long) CONTENT.length), any()))
+            .thenReturn(attached);
+        when(uploadSessionRepository.deleteByUploadIdValue(uploadId)).thenThrow(new RuntimeException("connection reset"));
+
+        InitiativeFile file = chunkedUploadService.completeUpload(uploadId, USER_ID);
+
+        assertThat(file).isSameAs(attached);
+        assertThat(sessionDir).doesNotExist();
+        // The attachment exists, so the session must not be reopened for another completion
+        verify(uploadSessionRepository, never()).changeStatus(eq(uploadId), eq(ChunkedUploadService.STATUS_COMPLETING),
+            eq(ChunkedUploadService.STATUS_OPEN), any());
+    }
+
+    @Test
+    void reopensTheSessionWhenAttachingFails() throws IOException {
+        when(fileUploadService.attachStoredFile(any(), anyString(), anyString(), anyLong(), any()))
+            .thenThrow(new RuntimeException("disk full"));
+
+        assertThatThrownBy(() -> chunkedUploadService.completeUpload(uploadId, USER_ID)).hasMessage("disk full");
+
+        verify(uploadSessionRepository).changeStatus(eq(uploadId), eq(ChunkedUploadService.STATUS_COMPLETING),
+            eq(ChunkedUploadService.STATUS_OPEN), any());
+        verify(uploadSessionRepository, never()).deleteByUploadIdValue(uploadId);
+        assertThat(sessionDir.resolve("0.chunk")).exists();
+    }
+
+    private static String sha256(byte[] content) {
+        return FileBlobService.toHex(FileBlobService.sha256().digest(content));
+    }
+}
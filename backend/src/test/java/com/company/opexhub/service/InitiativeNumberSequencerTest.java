@@ -0,0 +1,193 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.InitiativeNumberCounter;
+import com.company.opexhub.repository.InitiativeNumberCounterRepository;
+import com.company.opexhub.repository.InitiativeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InitiativeNumberSequencerTest {
+
+    private static final String SITE_KEY = "SITE|NDS|2025";
+
+    @Mock
+    private InitiativeNumberCounterRepository counterRepository;
+
+    @Mock
+    private InitiativeRepository initiativeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private InitiativeNumberSequencer sequencer;
+
+    // OPEX_INIT_NUMBER_COUNTERS: counter key to next value
+    private final Map<String, Long> counters = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sequencer, "blockSize", 10);
+        sequencer.init();
+
+        lenient().when(counterRepository.advance(anyString(), anyLong(), any())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            long count = invocation.getArgument(1);
+            return counters.computeIfPresent(key, (k, next) -> next + count) != null ? 1 : 0;
+        });
+        lenient().when(counterRepository.findNextValue(anyString()))
+                .thenAnswer(invocation -> counters.get(invocation.<String>getArgument(0)));
+        lenient().when(counterRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            InitiativeNumberCounter counter = invocation.getArgument(0);
+            if (counters.putIfAbsent(counter.getCounterKey(), counter.getNextValue()) != null) {
+                throw new DataIntegrityViolationException("duplicate counter key");
+            }
+            return counter;
+        });
+    }
+
+    @Test
+    void seedsANewCounterFromExistingInitiatives() {
+        when(initiativeRepository.countBySiteAndYear("NDS", 2025)).thenReturn(4L);
+
+        assertThat(sequencer.nextSiteNumber("NDS", 2025)).isEqualTo(5);
+        assertThat(sequencer.nextSiteNumber("NDS", 2025)).isEqualTo(6);
+        // The whole block of 10 is reserved up front
+        assertThat(counters).containsEntry(SITE_KEY, 15L);
+    }
+
+    @Test
+    void servesABlockFromMemoryBeforeReservingTheNext() {
+        when(initiativeRepository.countBySiteAndYear("NDS", 2025)).thenReturn(0L);
+
+        for (long expected = 1; expected <= 12; expected++) {
+            assertThat(sequencer.nextSiteNumber("NDS", 2025)).isEqualTo(expected);
+        }
+
+        // First reservation creates the counter, the eleventh number advances it once
+        verify(counterRepository, times(2)).advance(anyString(), anyLong(), any());
+        verify(counterRepository, times(1)).saveAndFlush(any());
+        assertThat(counters).containsEntry(SITE_KEY, 21L);
+    }
+
+    @Test
+    void reservesOneBlockForALargeRequest() {
+        counters.put(SITE_KEY, 101L);
+
+        long[] numbers = sequencer.nextSiteNumbers("NDS", 2025, 25);
+
+        assertThat(numbers).hasSize(25);
+        assertThat(numbers[0]).isEqualTo(101);
+        assertThat(numbers[24]).isEqualTo(125);
+        verify(counterRepository, times(1)).advance(eq(SITE_KEY), eq(25L), any());
+        assertThat(sequencer.nextSiteNumber("NDS", 2025)).isEqualTo(126);
+    }
+
+    @Test
+    void keepsSiteAndDisciplineSequencesApart() {
+        counters.put(SITE_KEY, 40L);
+        counters.put("DISCIPLINE|NDS|Operation|2025", 7L);
+
+        assertThat(sequencer.nextSiteNumber("NDS", 2025)).isEqualTo(40);
+        assertThat(sequencer.nextDisciplineNumber("NDS", "Operation", 2025)).isEqualTo(7);
+        assertThat(sequencer.nextDisciplineNumber("NDS", "Operation", 2025)).isEqualTo(8);
+        assertThat(sequencer.nextSiteNumber("NDS", 2025)).isEqualTo(41);
+    }
+
+    @Test
+    void advancesACounterAnotherNodeCreatedFirst() {
+        // The seed query runs before the other node's counter becomes visible
+        when(initiativeRepository.countBySiteAndYear("NDS", 2025)).thenAnswer(invocation -> {
+            counters.put(SITE_KEY, 31L);
+            return 0L;
+        });
+
+        assertThat(sequencer.nextSiteNumber("NDS", 2025)).isEqualTo(31);
+        assertThat(counters).containsEntry(SITE_KEY, 41L);
+    }
+
+    @Test
+    void givesUpAfterRepeatedCounterConflicts() {
+        when(initiativeRepository.countBySiteAndYear("NDS", 2025)).thenReturn(0L);
+        doThrow(new DataIntegrityViolationException("duplicate")).when(counterRepository).saveAndFlush(any());
+
+        assertThatThrownBy(() -> sequencer.nextSiteNumber("NDS", 2025))
+                .hasMessage("Could not reserve initiative numbers for " + SITE_KEY);
+        verify(counterRepository, times(3)).saveAndFlush(any());
+    }
+
+    @Test
+    void neverHandsOutTheSameNumberTwiceUnderConcurrency() throws Exception {
+        counters.put(SITE_KEY, 1L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<List<Long>>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    List<Long> drawn = new ArrayList<>();
+                    for (int i = 0; i < 250; i++) {
+                        drawn.add(sequencer.nextSiteNumber("NDS", 2025));
+                    }
+                    return drawn;
+                });
+            }
+            Set<Long> numbers = new HashSet<>();
+            for (Future<List<Long>> drawn : executor.invokeAll(tasks)) {
+                numbers.addAll(drawn.get());
+            }
+
+            assertThat(numbers).hasSize(2000);
+            assertThat(numbers).allMatch(number -> number >= 1 && number <= 2000);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test
+    void refusesToReserveInsideATransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> sequencer.nextSiteNumber("NDS", 2025))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Initiative numbers must be reserved outside a transaction");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(counterRepository, never()).advance(anyString(), anyLong(), any());
+    }
+}
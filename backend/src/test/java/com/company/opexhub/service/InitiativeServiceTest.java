@@ -0,0 +1,95 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.Initiative;
+import com.company.opexhub.entity.InitiativeFile;
+import com.company.opexhub.entity.MonthlyMonitoringEntry;
+import com.company.opexhub.entity.WorkflowTransaction;
+import com.company.opexhub.repository.InitiativeRepository;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import com.company.opexhub.repository.WorkflowTransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InitiativeServiceTest {
+
+    private static final Long INITIATIVE_ID = 12L;
+
+    @Mock
+    private InitiativeRepository initiativeRepository;
+
+    @Mock
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    @Mock
+    private WorkflowTransactionRepository workflowTransactionRepository;
+
+    @Mock
+    private LoggingService loggingService;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @InjectMocks
+    private InitiativeService initiativeService;
+
+    @Test
+    void recordsADeleteForTheInitiativeAndEachChildRow() {
+        Initiative initiative = new Initiative();
+        initiative.setId(INITIATIVE_ID);
+        MonthlyMonitoringEntry april = new MonthlyMonitoringEntry();
+        MonthlyMonitoringEntry may = new MonthlyMonitoringEntry();
+        List<MonthlyMonitoringEntry> entries = Arrays.asList(may, april);
+        WorkflowTransaction stage1 = new WorkflowTransaction();
+        List<WorkflowTransaction> transactions = Collections.singletonList(stage1);
+        List<InitiativeFile> files = Collections.singletonList(new InitiativeFile());
+        when(initiativeRepository.findById(INITIATIVE_ID)).thenReturn(Optional.of(initiative));
+        when(monthlyMonitoringEntryRepository.findByInitiativeIdOrderByMonitoringMonthDesc(INITIATIVE_ID)).thenReturn(entries);
+        when(workflowTransactionRepository.findByInitiativeIdOrderByStageNumber(INITIATIVE_ID)).thenReturn(transactions);
+        when(fileUploadService.getFilesByInitiativeId(INITIATIVE_ID)).thenReturn(files);
+
+        initiativeService.deleteInitiative(INITIATIVE_ID);
+
+        verify(changeLogService).recordMonitoringEntryChange(may, ChangeLogService.OP_DELETE);
+        verify(changeLogService).recordMonitoringEntryChange(april, ChangeLogService.OP_DELETE);
+        verify(changeLogService).recordWorkflowTransactionChange(stage1, ChangeLogService.OP_DELETE);
+        verify(changeLogService).recordInitiativeChange(initiative, ChangeLogService.OP_DELETE);
+        InOrder order = inOrder(monthlyMonitoringEntryRepository, workflowTransactionRepository, initiativeRepository);
+        order.verify(monthlyMonitoringEntryRepository).deleteAll(entries);
+        order.verify(workflowTransactionRepository).deleteAll(transactions);
+        order.verify(initiativeRepository).delete(initiative);
+        // Stored content is only released once the delete has committed
+        verify(fileUploadService).releaseStoredFilesAfterCommit(files);
+    }
+
+    @Test
+    void recordsNothingForAMissingInitiative() throws Exception {
+        when(initiativeRepository.findById(INITIATIVE_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> initiativeService.deleteInitiative(INITIATIVE_ID)).hasMessage("Initiative not found");
+
+        verify(changeLogService, never()).recordInitiativeChange(any(), any());
+        verify(initiativeRepository, never()).delete(any());
+        verify(fileUploadService, never()).releaseStoredFiles(anyList());
+    }
+}
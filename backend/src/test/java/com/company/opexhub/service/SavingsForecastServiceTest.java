@@ -0,0 +1,158 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.dto.SavingsForecastDTO;
+import com.company.opexhub.repository.MonthlyMonitoringEntryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsForecastServiceTest {
+
+    @Mock
+    private MonthlyMonitoringEntryRepository monthlyMonitoringEntryRepository;
+
+    @InjectMocks
+    private SavingsForecastService savingsForecastService;
+
+    @Test
+    void resolvesTwoAndFourDigitYears() {
+        LocalDate today = LocalDate.of(2026, 10, 19);
+        assertThat(SavingsForecastService.resolveFinancialYear("25", today)).isEqualTo(2025);
+        assertThat(SavingsForecastService.resolveFinancialYear("99", today)).isEqualTo(1999);
+        assertThat(SavingsForecastService.resolveFinancialYear(" 2024 ", today)).isEqualTo(2024);
+    }
+
+    @Test
+    void defaultsToTheCurrentFinancialYear() {
+        assertThat(SavingsForecastService.resolveFinancialYear(null, LocalDate.of(2026, 3, 31))).isEqualTo(2025);
+        assertThat(SavingsForecastService.resolveFinancialYear("", LocalDate.of(2026, 4, 1))).isEqualTo(2026);
+    }
+
+    @Test
+    void rejectsMalformedYears() {
+        LocalDate today = LocalDate.of(2026, 10, 19);
+        for (String year : Arrays.asList("abc", "202", "FY25", "-25", "20255")) {
+            assertThatThrownBy(() -> SavingsForecastService.resolveFinancialYear(year, today))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void badYearFailsBeforeAnyQuery() {
+        assertThatThrownBy(() -> savingsForecastService.getSavingsForecast("x1", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(monthlyMonitoringEntryRepository);
+    }
+
+    @Test
+    void countsCompletedMonthsOfTheFinancialYear() {
+        assertThat(SavingsForecastService.monthsElapsed(2025, LocalDate.of(2025, 3, 31))).isEqualTo(0);
+        assertThat(SavingsForecastService.monthsElapsed(2025, LocalDate.of(2025, 4, 15))).isEqualTo(0);
+        assertThat(SavingsForecastService.monthsElapsed(2025, LocalDate.of(2025, 10, 19))).isEqualTo(6);
+        assertThat(SavingsForecastService.monthsElapsed(2025, LocalDate.of(2026, 3, 1))).isEqualTo(11);
+        assertThat(SavingsForecastService.monthsElapsed(2025, LocalDate.of(2026, 4, 1))).isEqualTo(12);
+    }
+
+    @Test
+    void projectsRunRateAfterLastObservedMonth() {
+        double[] achieved = new double[12];
+        boolean[] observed = new boolean[12];
+        observe(achieved, observed, 0, 100);
+        observe(achieved, observed, 1, 200);
+
+        // Two points: plain run rate of 150 for each of June..March
+        assertThat(SavingsForecastService.projectRemaining(achieved, observed, 0, 2)).isCloseTo(150 * 10, within(1e-9));
+    }
+
+    @Test
+    void doesNotProjectMonthsAlreadyElapsed() {
+        double[] achieved = new double[12];
+        boolean[] observed = new boolean[12];
+        observe(achieved, observed, 0, 100);
+        observe(achieved, observed, 1, 100);
+
+        // Reporting stopped in May but it is now October: only October..March (6 months) are still ahead
+        assertThat(SavingsForecastService.projectRemaining(achieved, observed, 0, 6)).isCloseTo(100 * 6, within(1e-9));
+    }
+
+    @Test
+    void blendsTrendWithRunRateAndNeverGoesNegative() {
+        double[] achieved = new double[12];
+        boolean[] observed = new boolean[12];
+        observe(achieved, observed, 0, 300);
+        observe(achieved, observed, 1, 200);
+        observe(achieved, observed, 2, 100);
+
+        // Trend 300 - 100m, run rate 200; month m projects 0.5 * (300 - 100m) + 100, floored at 0
+        double expected = 0;
+        for (int m = 3; m < 12; m++) {
+            expected += Math.max(0, 0.5 * (300 - 100 * m) + 100);
+        }
+        assertThat(SavingsForecastService.projectRemaining(achieved, observed, 0, 3)).isCloseTo(expected, within(1e-9));
+    }
+
+    @Test
+    void projectsNothingWithoutDataOrOnceTheYearIsReported() {
+        double[] achieved = new double[24];
+        boolean[] observed = new boolean[24];
+        assertThat(SavingsForecastService.projectRemaining(achieved, observed, 0, 3)).isZero();
+
+        for (int m = 0; m < 12; m++) {
+            observe(achieved, observed, 12 + m, 50);
+        }
+        assertThat(SavingsForecastService.projectRemaining(achieved, observed, 12, 12)).isZero();
+    }
+
+    @Test
+    void aggregatesSeriesPerLineSiteAndTotal() {
+        List<Object[]> rows = Arrays.asList(
+                new Object[]{1L, "NDS", "budgeted", "energy", "2020-04", new BigDecimal("100.00"), new BigDecimal("120.00")},
+                new Object[]{1L, "NDS", "budgeted", "energy", "2020-05", new BigDecimal("50.50"), new BigDecimal("60.00")},
+                new Object[]{2L, "NDS", "budgeted", "energy", "2021-01", new BigDecimal("10.00"), null},
+                new Object[]{3L, "HSD1", "non-budgeted", null, "2020-06", 5.25, 5.0});
+        when(monthlyMonitoringEntryRepository.findInitiativeMonthlySeries(any(), any(), any(), any())).thenReturn(rows);
+
+        // FY 2020 is over, so nothing is projected and the landing equals the actuals
+        SavingsForecastDTO forecast = savingsForecastService.getSavingsForecast("2020", null, null);
+
+        assertThat(forecast.getFinancialYear()).isEqualTo("20");
+        assertThat(forecast.getMonthsElapsed()).isEqualTo(12);
+        assertThat(forecast.getLines()).hasSize(2);
+
+        SavingsForecastDTO.ForecastLine hsd = forecast.getLines().get(0);
+        assertThat(hsd.getSite()).isEqualTo("HSD1");
+        assertThat(hsd.getCategory()).isEqualTo("general");
+        assertThat(hsd.getActualToDate()).isEqualByComparingTo("5.25");
+
+        SavingsForecastDTO.ForecastLine nds = forecast.getLines().get(1);
+        assertThat(nds.getInitiativeCount()).isEqualTo(2);
+        assertThat(nds.getActualToDate()).isEqualByComparingTo("160.50");
+        assertThat(nds.getTargetToDate()).isEqualByComparingTo("180.00");
+        assertThat(nds.getProjectedRemaining()).isEqualByComparingTo("0");
+
+        assertThat(forecast.getSiteTotals()).extracting(SavingsForecastDTO.ForecastLine::getSite)
+                .containsExactly("HSD1", "NDS");
+        assertThat(forecast.getTotal().getInitiativeCount()).isEqualTo(3);
+        assertThat(forecast.getTotal().getProjectedLanding()).isEqualByComparingTo("165.75");
+    }
+
+    private static void observe(double[] achieved, boolean[] observed, int slot, double value) {
+        achieved[slot] = value;
+        observed[slot] = true;
+    }
+}
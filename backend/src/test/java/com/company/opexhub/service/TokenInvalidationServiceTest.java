@@ -0,0 +1,92 @@
+package com.company.opexhub.service;
+
+import com.company.opexhub.entity.TokenRevocation;
+import com.company.opexhub.entity.TokenRevocationVersion;
+import com.company.opexhub.repository.TokenRevocationRepository;
+import com.company.opexhub.repository.TokenRevocationVersionRepository;
+import com.company.opexhub.security.UserPrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenInvalidationServiceTest {
+
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Mock
+    private TokenRevocationVersionRepository tokenRevocationVersionRepository;
+
+    @InjectMocks
+    private TokenInvalidationService tokenInvalidationService;
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(tokenInvalidationService, "jwtExpirationInMs", 3_600_000L);
+    }
+
+    @Test
+    void incrementsTheVersionInTheRevokingTransaction() {
+        when(tokenRevocationVersionRepository.increment(eq(TokenRevocationVersion.ROW_ID), any())).thenReturn(1);
+        when(tokenRevocationVersionRepository.findVersion(TokenRevocationVersion.ROW_ID)).thenReturn(8L);
+        when(tokenRevocationRepository.findRevokedTokenIds(any())).thenReturn(Collections.singletonList("jti-1"));
+
+        tokenInvalidationService.revokeToken("jti-1", new Date(System.currentTimeMillis() + 60_000));
+
+        InOrder order = inOrder(tokenRevocationRepository, tokenRevocationVersionRepository);
+        order.verify(tokenRevocationRepository).save(any(TokenRevocation.class));
+        order.verify(tokenRevocationVersionRepository).increment(eq(TokenRevocationVersion.ROW_ID), any());
+        assertThat(tokenInvalidationService.isTokenValid(1L, "jti-1", new Date())).isFalse();
+        assertThat(tokenInvalidationService.isTokenValid(1L, "jti-2", new Date())).isTrue();
+    }
+
+    @Test
+    void refusesToRevokeWithoutTheVersionRow() {
+        when(tokenRevocationVersionRepository.increment(eq(TokenRevocationVersion.ROW_ID), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> tokenInvalidationService.revokeUser(5L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Token revocation version row is missing");
+    }
+
+    @Test
+    void reloadsOnlyWhenThePolledVersionChanges() {
+        when(tokenRevocationVersionRepository.findVersion(TokenRevocationVersion.ROW_ID)).thenReturn(3L, 3L, 3L, 4L, 4L);
+
+        tokenInvalidationService.refreshRevocations(); // first load: poll + reload
+        tokenInvalidationService.refreshRevocations(); // unchanged
+        tokenInvalidationService.refreshRevocations(); // changed: poll + reload
+
+        verify(tokenRevocationRepository, times(2)).findRevokedTokenIds(any());
+    }
+
+    @Test
+    void createsTheVersionRowOnStartup() {
+        when(tokenRevocationVersionRepository.existsById(TokenRevocationVersion.ROW_ID)).thenReturn(false);
+
+        tokenInvalidationService.loadRevocations();
+
+        verify(tokenRevocationVersionRepository).saveAndFlush(any(TokenRevocationVersion.class));
+    }
+}
@@ -0,0 +1,79 @@
+package com.company.opexhub.util;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldSelectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void selectsEverythingWithoutAParameter() {
+        assertThat(FieldSelection.parse(null).isAll()).isTrue();
+        assertThat(FieldSelection.parse("  ").isAll()).isTrue();
+        assertThat(FieldSelection.parse("").getFields()).isNull();
+        assertThat(FieldSelection.parse(null).includes("anything")).isTrue();
+    }
+
+    @Test
+    void parsesNamesAndAlwaysIncludesId() {
+        FieldSelection selection = FieldSelection.parse(" title, status ,,title");
+
+        assertThat(selection.isAll()).isFalse();
+        assertThat(selection.getFields()).containsExactly("id", "title", "status");
+        assertThat(selection.includes("status")).isTrue();
+        assertThat(selection.includes("site")).isFalse();
+        assertThat(selection.includesAny("site", "status")).isTrue();
+        assertThat(selection.includesAny("site", "discipline")).isFalse();
+    }
+
+    @Test
+    void serializesOnlyTheSelectedProperties() throws Exception {
+        MappingJacksonValue value = FieldSelection.parse("title,unknown").apply(new Item(5L, "Steam traps", "NDS"));
+
+        assertThat(write(value)).isEqualTo("{\"id\":5,\"title\":\"Steam traps\"}");
+    }
+
+    @Test
+    void filtersDtosNestedInsideTheBody() throws Exception {
+        MappingJacksonValue value = FieldSelection.parse("site").apply(Collections.singletonMap("data",
+                Arrays.asList(new Item(1L, "A", "NDS"), new Item(2L, "B", "DHJ"))));
+
+        assertThat(write(value)).isEqualTo("{\"data\":[{\"id\":1,\"site\":\"NDS\"},{\"id\":2,\"site\":\"DHJ\"}]}");
+    }
+
+    @Test
+    void serializesEverythingWhenAllIsSelected() throws Exception {
+        MappingJacksonValue value = FieldSelection.ALL.apply(new Item(5L, "Steam traps", "NDS"));
+
+        assertThat(write(value)).isEqualTo("{\"id\":5,\"title\":\"Steam traps\",\"site\":\"NDS\"}");
+    }
+
+    private String write(MappingJacksonValue value) throws Exception {
+        return objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue());
+    }
+
+    @JsonFilter(FieldSelection.FILTER_ID)
+    static class Item {
+        private final Long id;
+        private final String title;
+        private final String site;
+
+        Item(Long id, String title, String site) {
+            this.id = id;
+            this.title = title;
+            this.site = site;
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public String getSite() { return site; }
+    }
+}
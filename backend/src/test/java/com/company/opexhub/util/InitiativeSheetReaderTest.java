@@ -0,0 +1,181 @@
+package com.company.opexhub.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.company.opexhub.dto.InitiativeRequest;
+
+class InitiativeSheetReaderTest {
+
+    private static final Object[] HEADER = {"Title", "Priority", "Expected Savings", "Site", "Discipline",
+            "Initiator Name", "HOD Email"};
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void matchesHeadersIgnoringCaseSpacesAndPunctuation() throws IOException {
+        File xlsx = workbook(
+                new Object[] {"TITLE", "priority", "expected_savings", " Site ", "Discipline", "Initiator-Name",
+                        "hod email", "Unknown Column"},
+                new Object[] {"Steam trap survey", "High", 125000.5, "NDS", "Operation", "A. Lead", "hod@company.com", "x"});
+
+        InitiativeSheetReader.Result result = InitiativeSheetReader.read(xlsx, 10);
+
+        assertThat(result.getErrors()).isEmpty();
+        InitiativeRequest request = result.getRows().get(2);
+        assertThat(request.getTitle()).isEqualTo("Steam trap survey");
+        assertThat(request.getPriority()).isEqualTo("High");
+        assertThat(request.getExpectedSavings()).isEqualByComparingTo(new BigDecimal("125000.5"));
+        assertThat(request.getSite()).isEqualTo("NDS");
+        assertThat(request.getInitiatorName()).isEqualTo("A. Lead");
+        assertThat(request.getSelectedHodEmail()).isEqualTo("hod@company.com");
+    }
+
+    @Test
+    void rejectsSheetWithoutRequiredColumns() throws IOException {
+        File xlsx = workbook(new Object[] {"Title", "Priority", "Site"});
+
+        assertThatThrownBy(() -> InitiativeSheetReader.read(xlsx, 10))
+                .hasMessage("Missing column(s): expectedsavings, discipline, initiatorname, hodemail");
+    }
+
+    @Test
+    void keepsSpreadsheetRowNumbersAcrossBlankRows() throws IOException {
+        File xlsx = workbook(HEADER,
+                row("First"),
+                null,
+                row("Second"));
+
+        InitiativeSheetReader.Result result = InitiativeSheetReader.read(xlsx, 10);
+
+        assertThat(result.getRows()).containsOnlyKeys(2, 4);
+        assertThat(result.getRows().get(4).getTitle()).isEqualTo("Second");
+    }
+
+    @Test
+    void readsDateCellsWhateverTheirDisplayFormat() throws IOException {
+        File xlsx = workbook(withColumns("Start Date", "End Date"),
+                withValues(row("Dated"), LocalDate.of(2024, 4, 1), LocalDate.of(2025, 3, 31)));
+
+        InitiativeRequest request = InitiativeSheetReader.read(xlsx, 10).getRows().get(2);
+
+        assertThat(request.getStartDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(request.getEndDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    void readsTextDatesInTheSupportedFormats() throws IOException {
+        File xlsx = workbook(withColumns("Start Date", "End Date"),
+                withValues(row("Iso"), "2024-04-01", "31-03-2025"),
+                withValues(row("Slashes"), "01/04/2024", "31/03/2025"));
+
+        InitiativeSheetReader.Result result = InitiativeSheetReader.read(xlsx, 10);
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getRows().get(2).getStartDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(result.getRows().get(2).getEndDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(result.getRows().get(3).getStartDate()).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(result.getRows().get(3).getEndDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    void reportsUnreadableValuesWithTheirRowNumber() throws IOException {
+        File xlsx = workbook(withColumns("Start Date"),
+                withValues(row("Fine"), "2024-04-01"),
+                withValues(row("Broken"), "next April"));
+
+        InitiativeSheetReader.Result result = InitiativeSheetReader.read(xlsx, 10);
+
+        assertThat(result.getRows()).containsOnlyKeys(2, 3);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getRow()).isEqualTo(3);
+        assertThat(result.getErrors().get(0).getMessage()).contains("Start Date is not a date");
+    }
+
+    @Test
+    void readsConfidenceLevelAsWholePercent() throws IOException {
+        File xlsx = workbook(withColumns("Confidence Level"),
+                withValues(row("Fraction"), 0.85),
+                withValues(row("Percent"), 70),
+                withValues(row("Text"), "65%"),
+                withValues(row("Too high"), 150));
+
+        InitiativeSheetReader.Result result = InitiativeSheetReader.read(xlsx, 10);
+
+        assertThat(result.getRows().get(2).getConfidenceLevel()).isEqualTo(85);
+        assertThat(result.getRows().get(3).getConfidenceLevel()).isEqualTo(70);
+        assertThat(result.getRows().get(4).getConfidenceLevel()).isEqualTo(65);
+        assertThat(result.getRows().get(5).getConfidenceLevel()).isNull();
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getRow()).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsSheetsOverTheRowLimit() throws IOException {
+        File xlsx = workbook(HEADER, row("One"), row("Two"), row("Three"));
+
+        assertThatThrownBy(() -> InitiativeSheetReader.read(xlsx, 2))
+                .hasMessage("The sheet has more than 2 initiative rows");
+    }
+
+    private static Object[] row(String title) {
+        return new Object[] {title, "Medium", 50000, "NDS", "Operation", "A. Lead", "hod@company.com"};
+    }
+
+    private static Object[] withColumns(Object... extra) {
+        return withValues(HEADER, extra);
+    }
+
+    private static Object[] withValues(Object[] row, Object... extra) {
+        Object[] combined = new Object[row.length + extra.length];
+        System.arraycopy(row, 0, combined, 0, row.length);
+        System.arraycopy(extra, 0, combined, row.length, extra.length);
+        return combined;
+    }
+
+    // First row is the header; a null row is left blank
+    private File workbook(Object[]... rows) throws IOException {
+        File file = new File(tempDir, "initiatives.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("dd-mmm-yy"));
+            Sheet sheet = workbook.createSheet("Initiatives");
+            for (int r = 0; r < rows.length; r++) {
+                if (rows[r] == null) {
+                    continue;
+                }
+                Row row = sheet.createRow(r);
+                for (int c = 0; c < rows[r].length; c++) {
+                    Cell cell = row.createCell(c);
+                    Object value = rows[r][c];
+                    if (value instanceof Number) {
+                        cell.setCellValue(((Number) value).doubleValue());
+                    } else if (value instanceof LocalDate) {
+                        cell.setCellValue((LocalDate) value);
+                        cell.setCellStyle(dateStyle);
+                    } else {
+                        cell.setCellValue((String) value);
+                    }
+                }
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+}
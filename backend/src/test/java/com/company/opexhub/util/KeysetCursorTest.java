@@ -0,0 +1,63 @@
+package com.company.opexhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 31, 23, 59, 58, 123456789);
+
+        KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor(createdAt, 9_876_543_210L).encode());
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(9_876_543_210L);
+    }
+
+    @Test
+    void keepsWholeSecondTimestamps() {
+        // LocalDateTime.toString drops zero seconds ("2025-04-01T00:00"), which must still parse
+        LocalDateTime midnight = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+        assertThat(KeysetCursor.decode(new KeysetCursor(midnight, 1L).encode()).getCreatedAt()).isEqualTo(midnight);
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        for (long id = 0; id < 64; id++) {
+            String encoded = new KeysetCursor(LocalDateTime.of(2024, 12, 1, 10, 15, 30), id).encode();
+            assertThat(encoded).doesNotContain("+", "/", "=");
+        }
+    }
+
+    @Test
+    void rejectsCursorsItDidNotProduce() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2025-04-01T00:00")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("yesterday|5")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2025-04-01T00:00|five")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void requiresACreationTime() {
+        // Rows without createdAt are left out of the keyset order, so no page can end on one
+        assertThatThrownBy(() -> new KeysetCursor(null, 5L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("null|5")))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.company.opexhub.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares summing report rows into BigDecimal totals with SavingsAccumulator's long paise, over
+ * the same [FY month][actual, target] grid ReportsService builds. Warm-up rounds let the JIT compile
+ * both loops before the measured rounds; the timings are logged, only the totals are asserted.
+ *
+ * Tagged "benchmark" and excluded from the default build; run it with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class SavingsAccumulatorBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavingsAccumulatorBenchmarkTest.class);
+
+    private static final int ROWS = 200_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 20;
+
+    // Keeps the JIT from discarding the loops
+    private long sink;
+
+    @Test
+    void longPaiseAccumulationMatchesBigDecimal() {
+        List<Object[]> rows = reportRows();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += sumWithBigDecimal(rows)[0][0].hashCode();
+            sink += sumWithPaise(rows).getCents(0, 0);
+        }
+
+        long bigDecimalNanos = 0;
+        long paiseNanos = 0;
+        BigDecimal[][] bigDecimalTotals = null;
+        SavingsAccumulator paiseTotals = null;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            bigDecimalTotals = sumWithBigDecimal(rows);
+            bigDecimalNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            paiseTotals = sumWithPaise(rows);
+            paiseNanos += System.nanoTime() - start;
+        }
+
+        long additions = (long) ROWS * 2 * MEASURED_ROUNDS;
+        logger.info("BigDecimal: {} ns/add, long paise: {} ns/add ({} rows, {} rounds, sink {})",
+                String.format("%.1f", (double) bigDecimalNanos / additions),
+                String.format("%.1f", (double) paiseNanos / additions), ROWS, MEASURED_ROUNDS, sink);
+
+        for (int month = 0; month < 12; month++) {
+            for (int measure = 0; measure < 2; measure++) {
+                assertThat(paiseTotals.get(month, measure)).isEqualTo(bigDecimalTotals[month][measure]);
+            }
+        }
+    }
+
+    private static BigDecimal[][] sumWithBigDecimal(List<Object[]> rows) {
+        BigDecimal[][] totals = new BigDecimal[12][2];
+        for (BigDecimal[] month : totals) {
+            month[0] = BigDecimal.ZERO.setScale(SavingsAccumulator.SCALE);
+            month[1] = BigDecimal.ZERO.setScale(SavingsAccumulator.SCALE);
+        }
+        for (Object[] row : rows) {
+            int month = (Integer) row[0];
+            totals[month][0] = totals[month][0].add((BigDecimal) row[1]);
+            totals[month][1] = totals[month][1].add((BigDecimal) row[2]);
+        }
+        return totals;
+    }
+
+    private static SavingsAccumulator sumWithPaise(List<Object[]> rows) {
+        SavingsAccumulator accumulator = new SavingsAccumulator(12, 2);
+        for (Object[] row : rows) {
+            int month = (Integer) row[0];
+            accumulator.add(month, 0, row[1]);
+            accumulator.add(month, 1, row[2]);
+        }
+        return accumulator;
+    }
+
+    // FY month, actual, target - amounts at scale 2 as they come back from NUMBER(15,2) columns
+    private static List<Object[]> reportRows() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[] {
+                    i % 12,
+                    BigDecimal.valueOf(random.nextInt(50_000_000), 2),
+                    BigDecimal.valueOf(random.nextInt(50_000_000), 2)});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,171 @@
+package com.company.opexhub.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SavingsAccumulatorTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavingsAccumulatorTest.class);
+
+    @Test
+    void roundsAmountsHalfUpToPaise() {
+        assertThat(SavingsAccumulator.toCents(new BigDecimal("10.004"))).isEqualTo(1000L);
+        assertThat(SavingsAccumulator.toCents(new BigDecimal("10.005"))).isEqualTo(1001L);
+        assertThat(SavingsAccumulator.toCents(new BigDecimal("-10.005"))).isEqualTo(-1001L);
+        assertThat(SavingsAccumulator.toCents(new BigDecimal("12"))).isEqualTo(1200L);
+        assertThat(SavingsAccumulator.toCents(null)).isZero();
+    }
+
+    @Test
+    void fastPathAgreesWithRoundingAtEveryScale() {
+        String[] amounts = {"0", "7", "-7", "1.5", "-1.5", "1234.56", "-1234.56", "0.01",
+                "9999999999999999", "99999999999999.99", "-99999999999999.99", "9999999999999999.9",
+                "999999999999999.99", "1E+3", "10.125", "0.001"};
+        for (String value : amounts) {
+            BigDecimal amount = new BigDecimal(value);
+            assertThat(SavingsAccumulator.toCents(amount)).as(value).isEqualTo(roundedCents(amount));
+        }
+    }
+
+    @Test
+    void convertsBackAtScaleTwo() {
+        BigDecimal amount = SavingsAccumulator.fromCents(123456L);
+        assertThat(amount).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(amount.scale()).isEqualTo(SavingsAccumulator.SCALE);
+        assertThat(SavingsAccumulator.fromCents(0L)).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    void sumsDoublesWithoutBinaryDrift() {
+        SavingsAccumulator accumulator = new SavingsAccumulator(1, 1);
+        double doubleSum = 0;
+        for (int i = 0; i < 10; i++) {
+            accumulator.add(0, 0, (Object) 0.1d);
+            doubleSum += 0.1d;
+        }
+
+        assertThat(doubleSum).isNotEqualTo(1.0d);
+        assertThat(accumulator.get(0, 0)).isEqualTo(new BigDecimal("1.00"));
+    }
+
+    @Test
+    void acceptsAnyNumberAndIgnoresOtherValues() {
+        SavingsAccumulator accumulator = new SavingsAccumulator(1, 1);
+        accumulator.add(0, 0, (Object) new BigDecimal("1.25"));
+        accumulator.add(0, 0, (Object) 2);
+        accumulator.add(0, 0, (Object) 3L);
+        accumulator.add(0, 0, (Object) null);
+        accumulator.add(0, 0, (Object) "4.00");
+        accumulator.add(0, 0, (BigDecimal) null);
+
+        assertThat(accumulator.getCents(0, 0)).isEqualTo(625L);
+        assertThat(accumulator.getDouble(0, 0)).isEqualTo(6.25d);
+    }
+
+    @Test
+    void totalsRowsColumnsAndRunningTotals() {
+        SavingsAccumulator accumulator = new SavingsAccumulator(3, 2);
+        accumulator.add(0, 0, new BigDecimal("100.10"));
+        accumulator.add(0, 1, new BigDecimal("50.00"));
+        accumulator.add(1, 0, new BigDecimal("200.20"));
+        accumulator.add(2, 0, new BigDecimal("-0.30"));
+        accumulator.add(2, 1, new BigDecimal("25.25"));
+
+        assertThat(accumulator.rowTotalCents(0)).isEqualTo(15010L);
+        assertThat(accumulator.columnTotalCents(0)).isEqualTo(30000L);
+        assertThat(accumulator.columnTotalCents(1)).isEqualTo(7525L);
+        assertThat(accumulator.cumulativeCents(0, 0)).isEqualTo(10010L);
+        assertThat(accumulator.cumulativeCents(1, 0)).isEqualTo(30030L);
+        assertThat(accumulator.cumulativeCents(2, 0)).isEqualTo(30000L);
+    }
+
+    @Test
+    void rejectsAmountsBeyondLongPaise() {
+        BigDecimal tooLarge = new BigDecimal("1E17");
+
+        assertThatThrownBy(() -> SavingsAccumulator.toCents(tooLarge))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("Savings amount out of range: " + tooLarge);
+    }
+
+    @Test
+    void rejectsOverflowingCellInsteadOfWrapping() {
+        SavingsAccumulator accumulator = new SavingsAccumulator(1, 1);
+        accumulator.addCents(0, 0, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> accumulator.addCents(0, 0, 1L))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessageStartingWith("Savings total overflow");
+        assertThat(accumulator.getCents(0, 0)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsOverflowingTotals() {
+        SavingsAccumulator accumulator = new SavingsAccumulator(2, 2);
+        accumulator.addCents(0, 0, Long.MAX_VALUE);
+        accumulator.addCents(1, 0, Long.MAX_VALUE);
+        accumulator.addCents(0, 1, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> accumulator.columnTotalCents(0)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> accumulator.rowTotalCents(0)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> accumulator.cumulativeCents(1, 0)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void rejectsCellsOutsideTheGrid() {
+        SavingsAccumulator accumulator = new SavingsAccumulator(12, 2);
+
+        assertThatThrownBy(() -> accumulator.addCents(12, 0, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("Cell (12, 0) outside 12x2");
+        assertThatThrownBy(() -> accumulator.getCents(0, -1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    // Run with: mvn test -Pbenchmark
+    @Test
+    @Tag("benchmark")
+    void toCentsIsFasterThanRoundingEveryAmount() {
+        // Database values: scale 2, varied magnitudes
+        BigDecimal[] amounts = new BigDecimal[1024];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = BigDecimal.valueOf(i * 7_919_131L + 1, SavingsAccumulator.SCALE);
+        }
+        long sink = 0;
+        for (int round = 0; round < 5; round++) {
+            sink += convert(amounts, 2_000_000, true) + convert(amounts, 2_000_000, false);
+        }
+        long start = System.nanoTime();
+        sink += convert(amounts, 20_000_000, true);
+        long fastPath = System.nanoTime() - start;
+        start = System.nanoTime();
+        sink += convert(amounts, 20_000_000, false);
+        long rounding = System.nanoTime() - start;
+        logger.info("20M conversions: toCents {} ms, setScale + unscaledValue {} ms (checksum {})",
+                TimeUnit.NANOSECONDS.toMillis(fastPath), TimeUnit.NANOSECONDS.toMillis(rounding), sink);
+
+        assertThat(fastPath).isLessThan(rounding);
+    }
+
+    private static long convert(BigDecimal[] amounts, int conversions, boolean fastPath) {
+        long sum = 0;
+        for (int i = 0; i < conversions; i++) {
+            BigDecimal amount = amounts[i & (amounts.length - 1)];
+            sum += fastPath ? SavingsAccumulator.toCents(amount) : roundedCents(amount);
+        }
+        return sum;
+    }
+
+    // The general conversion toCents falls back to
+    private static long roundedCents(BigDecimal amount) {
+        return amount.setScale(SavingsAccumulator.SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
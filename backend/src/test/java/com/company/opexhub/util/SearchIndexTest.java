@@ -0,0 +1,140 @@
+package com.company.opexhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Test
+    void tokenizesOnAnythingButLettersAndDigits() {
+        assertThat(SearchIndex.tokenize("Steam-Trap survey, Unit#2 (NDS/2024)"))
+                .containsExactly("steam", "trap", "survey", "unit", "2", "nds", "2024");
+        assertThat(SearchIndex.tokenize(null)).isEmpty();
+        assertThat(SearchIndex.tokenize("  -- ")).isEmpty();
+    }
+
+    @Test
+    void matchesTermsInsideWordsThroughTrigrams() {
+        put(1, "Steam trap survey", "NDS", 1);
+        put(2, "Cooling tower", "NDS", 2);
+
+        assertThat(search("team")).containsExactly(1L);
+        assertThat(search("RAP")).containsExactly(1L);
+        assertThat(search("owe")).containsExactly(2L);
+        assertThat(search("teams")).isEmpty();
+    }
+
+    @Test
+    void matchesShortTokensByPrefixOnly() {
+        put(1, "Steam trap", "NDS", 1);
+        put(2, "Test rig", "NDS", 2);
+
+        assertThat(search("te")).containsExactly(2L);
+        assertThat(search("s")).containsExactly(1L);
+    }
+
+    @Test
+    void ranksExactOverPrefixOverInfixMatches() {
+        put(1, "Prepump seal", "NDS", 3);
+        put(2, "Pumps overhaul", "NDS", 2);
+        put(3, "Pump alignment", "NDS", 1);
+
+        assertThat(search("pump")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void ranksTitleHitsAboveDescriptionHits() {
+        index.put(1, facets("NDS"), 2, Arrays.asList(
+                new SearchIndex.Field("Lighting retrofit", 3f), new SearchIndex.Field("Replace boiler lamps", 1f)));
+        index.put(2, facets("NDS"), 1, Arrays.asList(
+                new SearchIndex.Field("Boiler tuning", 3f), new SearchIndex.Field("Adjust air ratio", 1f)));
+
+        assertThat(search("boiler")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void requiresEveryQueryToken() {
+        put(1, "Steam trap survey", "NDS", 1);
+        put(2, "Steam header insulation", "NDS", 2);
+
+        assertThat(search("steam trap")).containsExactly(1L);
+        assertThat(search("steam chiller")).isEmpty();
+    }
+
+    @Test
+    void breaksTiesByRecency() {
+        put(1, "Boiler tuning", "NDS", 10);
+        put(2, "Boiler tuning", "NDS", 30);
+        put(3, "Boiler tuning", "NDS", 20);
+
+        assertThat(search("boiler")).containsExactly(2L, 3L, 1L);
+        assertThat(search("")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void replacesAndRemovesDocumentsWithTheirTerms() {
+        put(1, "Steam trap survey", "NDS", 1);
+        put(1, "Compressed air leaks", "NDS", 1);
+
+        assertThat(search("steam")).isEmpty();
+        assertThat(search("eak")).containsExactly(1L);
+
+        index.remove(1);
+
+        assertThat(index.size()).isZero();
+        assertThat(search("eak")).isEmpty();
+        assertThat(search("")).isEmpty();
+    }
+
+    @Test
+    void countsFacetsBeforeApplyingFilters() {
+        put(1, "Boiler tuning", "NDS", 1);
+        put(2, "Boiler feed pump", "DHJ", 2);
+        put(3, "Boiler blowdown", "DHJ", 3);
+        put(4, "Cooling tower", "DHJ", 4);
+
+        SearchIndex.Result result = index.search("boiler", Collections.singletonMap("site", "dhj"), 0, 10);
+
+        assertThat(result.getIds()).containsExactly(3L, 2L);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getFacetCounts().get("site")).containsOnly(entry("DHJ", 2), entry("NDS", 1));
+    }
+
+    @Test
+    void pagesThroughRankedHits() {
+        for (long id = 1; id <= 5; id++) {
+            put(id, "Boiler " + id, "NDS", id);
+        }
+
+        SearchIndex.Result page = index.search("boiler", null, 2, 2);
+
+        assertThat(page.getIds()).containsExactly(3L, 2L);
+        assertThat(page.getTotal()).isEqualTo(5);
+        assertThat(index.search("boiler", null, 10, 2).getIds()).isEmpty();
+    }
+
+    private void put(long id, String title, String site, long recency) {
+        index.put(id, facets(site), recency, Collections.singletonList(new SearchIndex.Field(title, 3f)));
+    }
+
+    private static Map<String, String> facets(String site) {
+        Map<String, String> facets = new HashMap<>();
+        facets.put("site", site);
+        facets.put("status", null);
+        return facets;
+    }
+
+    private List<Long> search(String query) {
+        return index.search(query, null, 0, 50).getIds();
+    }
+}
@@ -138,6 +138,11 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
 
   const logout = () => {
     console.log('AuthContext: Logging out...');
+    const token = localStorage.getItem("opex_token");
+    if (token) {
+      // Best effort: the local session is cleared even if the server cannot be reached
+      authAPI.logout(token).catch(() => {});
+    }
     setUser(null);
     localStorage.removeItem("opex_user");
     localStorage.removeItem("opex_token");
@@ -102,6 +102,14 @@ export const authAPI = {
     return response.data;
   },
 
+  // Revokes the token on the server; passed explicitly as the caller clears local storage right away
+  logout: async (token: string) => {
+    const response = await api.post('/auth/logout', null, {
+      headers: { Authorization: `Bearer ${token}` }
+    });
+    return response.data;
+  },
+
   // Email Verification APIs for Registration
   sendVerificationCode: async (userData: {
     fullName: string;
@@ -52,7 +52,7 @@ import UploadedDocuments from '@/components/UploadedDocuments';
 import { initiativeAPI, timelineTrackerAPI, monthlyMonitoringAPI, momAPI, userAPI } from '@/lib/api';
 import { useQueryClient } from '@tanstack/react-query';
 import { useToast } from '@/hooks/use-toast';
-import { useInitiatives } from '@/hooks/useInitiatives';
+import { useInitiative } from '@/hooks/useInitiatives';
 
 // Smart currency formatting function (copied from PerformanceAnalysis.tsx)
 const formatCurrencyInLakhs = (amount: number): string => {
@@ -245,17 +245,17 @@ export default function InitiativeDetails({ user }: InitiativeDetailsProps) {
   const [showDeleteConfirm, setShowDeleteConfirm] = useState(false);
   const [momToDelete, setMomToDelete] = useState<number | null>(null);
 
-  // Fetch initiatives to find the specific one
-  const { data: initiativesData, isLoading, error } = useInitiatives();
+  // Fetch the full initiative (the list endpoint only returns summary rows)
+  const { data: initiativeData, isLoading, error } = useInitiative(Number(id));
 
   // Get initiative data
   useEffect(() => {
-    if (!id || !initiativesData) return;
+    if (!id || !initiativeData) return;
     
     let foundInitiative = null;
     
-    if (initiativesData?.content) {
-      foundInitiative = initiativesData.content.find((item: any) => item.id?.toString() === id);
+    if (initiativeData) {
+      foundInitiative = initiativeData.id?.toString() === id ? initiativeData : null;
       if (foundInitiative) {
         // Debug: Log the original budget type from API
         console.log('Original budgetType from API:', foundInitiative.budgetType);
@@ -327,7 +327,7 @@ export default function InitiativeDetails({ user }: InitiativeDetailsProps) {
       setInitiative(foundInitiative);
       setFormData(foundInitiative);
     }
-  }, [id, initiativesData]);
+  }, [id, initiativeData]);
 
   // Check if user can edit this initiative (role + site restrictions + status check)
   const isCompleted = initiative?.status?.toLowerCase() === 'completed';
@@ -871,6 +871,7 @@ export default function InitiativeDetails({ user }: InitiativeDetailsProps) {
       
       // Invalidate and refetch initiatives data instead of full page reload
       await queryClient.invalidateQueries({ queryKey: ['initiatives'] });
+      await queryClient.invalidateQueries({ queryKey: ['initiative', Number(id)] });
       await queryClient.invalidateQueries({ queryKey: ['dashboard'] });
       
       toast({